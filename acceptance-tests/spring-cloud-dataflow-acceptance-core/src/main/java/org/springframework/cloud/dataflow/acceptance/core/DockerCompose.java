@@ -33,10 +33,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(DockerComposeExtension.class)
 public @interface DockerCompose {
 
+	/**
+	 * Start order of the cluster. Clusters with the same order are started in
+	 * parallel, and all of them are up before clusters with a higher order are
+	 * started.
+	 *
+	 * @return the start order
+	 */
 	int order() default 0;
 	String id() default "";
 	boolean start() default true;
 	String[] locations() default {};
 	String[] services() default {};
 	String log() default "";
+
+	/**
+	 * Whether the cluster is kept running after a test, to be reused by the next
+	 * tests declaring the same locations and services instead of being started
+	 * again. Only applies to clusters started by the extension.
+	 *
+	 * @return true to reuse the cluster
+	 */
+	boolean reuse() default false;
+
+	/**
+	 * The reset applied to a reused cluster before it is handed to the next test.
+	 *
+	 * @return the reset class
+	 */
+	Class<? extends DockerComposeReset> reset() default DockerComposeReset.None.class;
+
+	/**
+	 * The readiness probes telling when services of the cluster are ready, a
+	 * cluster being started once all are. Services without a probe are ready
+	 * once all their ports are open.
+	 *
+	 * @return the readiness probe classes
+	 */
+	Class<? extends DockerComposeReadiness>[] readiness() default {};
 }
@@ -22,4 +22,29 @@ public interface DockerComposeCluster {
 	DockerComposeRule getRule();
 	void start();
 	void stop();
+
+	/**
+	 * Gets the time this cluster was last started at.
+	 *
+	 * @return the epoch millis, or -1 if not started
+	 */
+	long getStartTime();
+
+	/**
+	 * Gets the time this cluster last got ready at, that is when all its
+	 * readiness probes were ready and all ports of its other services open.
+	 *
+	 * @return the epoch millis, or -1 if not ready
+	 */
+	long getReadyTime();
+
+	/**
+	 * Gets the time a service of this cluster was last found ready at by its
+	 * readiness probes, which is right after it got ready as its probes are
+	 * polled from the start of the cluster.
+	 *
+	 * @param service the service
+	 * @return the epoch millis, or -1 if not ready or the service has no probe
+	 */
+	long getReadyTime(String service);
 }
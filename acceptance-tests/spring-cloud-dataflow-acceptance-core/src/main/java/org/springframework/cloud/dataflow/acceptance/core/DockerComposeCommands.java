@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Runs the steps a rule takes when started on its own, so that each can be
+ * timed: pulling the missing images and creating the containers. Failures are
+ * only logged, the rule then doing the step itself and reporting its error.
+ */
+final class DockerComposeCommands {
+
+	private static final Logger log = LoggerFactory.getLogger(DockerComposeCommands.class);
+	private static final Pattern IMAGE = Pattern.compile("^\\s+image:\\s*['\"]?([^'\"\\s]+)['\"]?\\s*$");
+
+	private DockerComposeCommands() {
+	}
+
+	/**
+	 * Pulls the images of the cluster not present locally.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws IOException if docker could not be run
+	 * @throws InterruptedException if interrupted while waiting for docker
+	 */
+	static void pullMissingImages(DockerComposeRule rule) throws IOException, InterruptedException {
+		List<String> config = new ArrayList<>();
+		if (run(rule.dockerComposeExecutable().execute("config"), config) != 0) {
+			log.debug("Could not read compose config {}", config);
+			return;
+		}
+		Set<String> images = new LinkedHashSet<>();
+		for (String line : config) {
+			Matcher matcher = IMAGE.matcher(line);
+			if (matcher.matches()) {
+				images.add(matcher.group(1));
+			}
+		}
+		for (String image : images) {
+			if (run(rule.dockerExecutable().execute("image", "inspect", image), new ArrayList<>()) != 0) {
+				log.info("Pulling {}", image);
+				List<String> output = new ArrayList<>();
+				if (run(rule.dockerExecutable().execute("pull", image), output) != 0) {
+					log.debug("Could not pull {} {}", image, output);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates the containers of the cluster without starting them.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws IOException if docker compose could not be run
+	 * @throws InterruptedException if interrupted while waiting for docker compose
+	 */
+	static void create(DockerComposeRule rule) throws IOException, InterruptedException {
+		List<String> output = new ArrayList<>();
+		if (run(rule.dockerComposeExecutable().execute("up", "--no-start"), output) != 0) {
+			log.debug("Could not create containers {}", output.stream().collect(Collectors.joining("\n")));
+		}
+	}
+
+	private static int run(Process process, List<String> output) throws IOException, InterruptedException {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			reader.lines().forEach(output::add);
+		}
+		return process.waitFor();
+	}
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.cloud.dataflow.acceptance.core;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 import org.junit.jupiter.api.extension.AfterAllCallback;
@@ -29,6 +32,8 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.platform.commons.util.AnnotationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeManager.DockerComposeData;
 
 import com.palantir.docker.compose.DockerComposeRule;
@@ -42,7 +47,9 @@ import com.palantir.docker.compose.DockerComposeRule;
 public class DockerComposeExtension
 		implements BeforeAllCallback, BeforeEachCallback, AfterAllCallback, AfterEachCallback, ParameterResolver {
 
+	private static final Logger log = LoggerFactory.getLogger(DockerComposeExtension.class);
 	private static final Namespace NAMESPACE = Namespace.create(DockerComposeExtension.class);
+	private static final String TIMINGS_DIRECTORY = "build/test-docker-timings";
 
 	@Override
 	public void beforeAll(ExtensionContext extensionContext) throws Exception {
@@ -56,7 +63,9 @@ public class DockerComposeExtension
 		for (DockerCompose dockerComposeAnnotation : dockerComposeAnnotations) {
 			DockerComposeData dockerComposeData = new DockerComposeData(dockerComposeAnnotation.id(),
 					dockerComposeAnnotation.locations(), dockerComposeAnnotation.services(),
-					dockerComposeAnnotation.log(), dockerComposeAnnotation.start(), dockerComposeAnnotation.order());
+					dockerComposeAnnotation.log(), dockerComposeAnnotation.start(), dockerComposeAnnotation.order(),
+					dockerComposeAnnotation.reuse(), dockerComposeAnnotation.reset(),
+					dockerComposeAnnotation.readiness());
 			dockerComposeManager.addClassDockerComposeData(classKey, dockerComposeData);
 		}
 	}
@@ -74,7 +83,9 @@ public class DockerComposeExtension
 		for (DockerCompose dockerComposeAnnotation : dockerComposeAnnotations) {
 			DockerComposeData dockerComposeData = new DockerComposeData(dockerComposeAnnotation.id(),
 					dockerComposeAnnotation.locations(), dockerComposeAnnotation.services(),
-					dockerComposeAnnotation.log(), dockerComposeAnnotation.start(), dockerComposeAnnotation.order());
+					dockerComposeAnnotation.log(), dockerComposeAnnotation.start(), dockerComposeAnnotation.order(),
+					dockerComposeAnnotation.reuse(), dockerComposeAnnotation.reset(),
+					dockerComposeAnnotation.readiness());
 			dockerComposeManager.addMethodDockerComposeData(classKey, methodKey, dockerComposeData);
 		}
 		dockerComposeManager.build(classKey, methodKey);
@@ -87,10 +98,27 @@ public class DockerComposeExtension
 		String classKey = context.getRequiredTestClass().getSimpleName();
 		String methodKey = context.getRequiredTestMethod().getName();
 		dockerComposeManager.stop(classKey, methodKey);
+		for (DockerComposeTiming timing : dockerComposeManager.getTimings()) {
+			if (timing.getTest().equals(methodKey)) {
+				context.publishReportEntry("docker-compose." + timing.getId(), timing.toString());
+			}
+		}
 	}
 
 	@Override
 	public void afterAll(ExtensionContext context) throws Exception {
+		DockerComposeManager dockerComposeManager = getDockerComposeManager(context);
+		List<DockerComposeTiming> timings = dockerComposeManager.getTimings();
+		if (!timings.isEmpty()) {
+			try {
+				Path report = DockerComposeTimingReport.write(Paths.get(TIMINGS_DIRECTORY),
+						context.getRequiredTestClass().getSimpleName(), timings);
+				log.info("Wrote docker compose timings to {}", report);
+			} catch (IOException e) {
+				log.warn("Could not write docker compose timings", e);
+			}
+		}
+		dockerComposeManager.clearTimings();
 	}
 
 	@Override
@@ -109,7 +137,8 @@ public class DockerComposeExtension
 	private static DockerComposeManager getDockerComposeManager(ExtensionContext context) {
 		Class<?> testClass = context.getRequiredTestClass();
 		Store store = getStore(context);
-		return store.getOrComputeIfAbsent(testClass, (key)->{return new DockerComposeManager();}, DockerComposeManager.class);
+		DockerComposePool pool = store.getOrComputeIfAbsent(DockerComposePool.class, (key)->{return new DockerComposePool();}, DockerComposePool.class);
+		return store.getOrComputeIfAbsent(testClass, (key)->{return new DockerComposeManager(pool);}, DockerComposeManager.class);
 	}
 
 	private static Store getStore(ExtensionContext context) {
@@ -153,5 +182,20 @@ public class DockerComposeExtension
 		public void stop() {
 			dockerComposeManager.stopId(id);
 		}
+
+		@Override
+		public long getStartTime() {
+			return dockerComposeManager.getStartTime(id);
+		}
+
+		@Override
+		public long getReadyTime() {
+			return dockerComposeManager.getReadyTime(id);
+		}
+
+		@Override
+		public long getReadyTime(String service) {
+			return dockerComposeManager.getReadyTime(id, service);
+		}
 	}
 }
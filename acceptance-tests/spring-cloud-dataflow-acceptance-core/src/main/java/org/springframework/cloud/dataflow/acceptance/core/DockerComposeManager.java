@@ -24,6 +24,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.palantir.docker.compose.DockerComposeRule;
 import com.palantir.docker.compose.DockerComposeRule.Builder;
@@ -36,11 +48,35 @@ import com.palantir.docker.compose.configuration.DockerComposeFiles;
  */
 public class DockerComposeManager {
 
+	private static final Logger log = LoggerFactory.getLogger(DockerComposeManager.class);
+
 	private final Map<String, DockerComposeRule> rules = new HashMap<>();
 	private final Map<String, List<DockerComposeData>> classKeys = new HashMap<>();
 	private final Map<String, List<DockerComposeData>> methodKeys = new HashMap<>();
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> readyTimes = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, Long>> serviceReadyTimes = new ConcurrentHashMap<>();
+	private final Map<String, String> pooledKeys = new ConcurrentHashMap<>();
+	private final Map<String, DockerComposeReadinessWait> readinessWaits = new ConcurrentHashMap<>();
+	private final Map<String, String> ruleFiles = new ConcurrentHashMap<>();
+	private final Map<String, DockerComposeTiming> activeTimings = new ConcurrentHashMap<>();
+	private final List<DockerComposeTiming> timings = Collections.synchronizedList(new ArrayList<>());
+	private volatile String currentTest = "";
+	private final DockerComposePool pool;
+
+	public DockerComposeManager() {
+		this(new DockerComposePool());
+	}
 
-	public DockerComposeManager() {}
+	/**
+	 * Creates a manager taking reusable clusters from the pool, and putting them
+	 * back into it, instead of starting and stopping them for each test.
+	 *
+	 * @param pool the pool of reusable clusters
+	 */
+	public DockerComposeManager(DockerComposePool pool) {
+		this.pool = pool;
+	}
 
 	public void addClassDockerComposeData(String classKey, DockerComposeData dockerComposeData) {
 		String key = dockerComposeData.id + "$" + classKey;
@@ -72,85 +108,142 @@ public class DockerComposeManager {
 
 	public void build(String classKey, String methodKey) {
 
+		currentTest = methodKey;
 		ArrayList<OrderingWrapper> toStart = new ArrayList<>();
 
 		// class level
 		for (Entry<String, List<DockerComposeData>> e : classKeys.entrySet()) {
-			String key = e.getKey();
-			ArrayList<String> locations = new ArrayList<>();
-			ArrayList<String> services = new ArrayList<>();
-			boolean start = true;
-			Integer order = Integer.MAX_VALUE;
-			String log = "";
-			for (DockerComposeData dockerComposeData : e.getValue()) {
-				locations.addAll(Arrays.asList(dockerComposeData.getLocations()));
-				services.addAll(Arrays.asList(dockerComposeData.getServices()));
-				if (!dockerComposeData.isStart()) {
-					start = false;
-				}
-				if (dockerComposeData.getOrder() < order) {
-					order = dockerComposeData.getOrder();
-				}
-				if (dockerComposeData.getLog() != null && dockerComposeData.getLog().length() > 0) {
-					log = dockerComposeData.getLog();
-				}
-			}
-			Builder builder = DockerComposeRule.builder();
-			builder.files(DockerComposeFiles.from(locations.toArray(new String[0])));
-			for (String service : services) {
-				builder.waitingForService(service, toHaveAllPortsOpen());
-			}
-			builder.saveLogsTo("build/test-docker-logs/" + log + classKey + "-" + methodKey);
-			DockerComposeRule rule = builder.build();
-			rules.put(key, rule);
-			if (start) {
-				toStart.add(new OrderingWrapper(order, rule));
-			}
+			prepare(e.getKey(), e.getValue(), classKey, methodKey, toStart);
 		}
 
 		// method level
 		for (Entry<String, List<DockerComposeData>> e : methodKeys.entrySet()) {
-			String key = e.getKey();
-			ArrayList<String> locations = new ArrayList<>();
-			ArrayList<String> services = new ArrayList<>();
-			boolean start = true;
-			Integer order = Integer.MAX_VALUE;
-			String log = "";
-			for (DockerComposeData dockerComposeData : e.getValue()) {
-				locations.addAll(Arrays.asList(dockerComposeData.getLocations()));
-				services.addAll(Arrays.asList(dockerComposeData.getServices()));
-				if (!dockerComposeData.isStart()) {
-					start = false;
-				}
-				if (dockerComposeData.getOrder() < order) {
-					order = dockerComposeData.getOrder();
-				}
-				if (dockerComposeData.getLog() != null && dockerComposeData.getLog().length() > 0) {
-					log = dockerComposeData.getLog();
-				}
+			prepare(e.getKey(), e.getValue(), classKey, methodKey, toStart);
+		}
+
+		// pooled clusters not reused by this test would clash with the new ones
+		pool.evictExcept(pooledKeys.values());
+
+		// rules with the same order form a tier started in parallel, tiers in order
+		Collections.sort(toStart);
+		Map<Integer, List<OrderingWrapper>> tiers = new TreeMap<>();
+		for (OrderingWrapper w : toStart) {
+			tiers.computeIfAbsent(w.getOrder(), order -> new ArrayList<>()).add(w);
+		}
+		for (Entry<Integer, List<OrderingWrapper>> tier : tiers.entrySet()) {
+			startTier(tier.getKey(), tier.getValue());
+		}
+	}
+
+	private void prepare(String key, List<DockerComposeData> data, String classKey, String methodKey,
+			List<OrderingWrapper> toStart) {
+		ArrayList<String> locations = new ArrayList<>();
+		ArrayList<String> services = new ArrayList<>();
+		boolean start = true;
+		Integer order = Integer.MAX_VALUE;
+		String log = "";
+		boolean reuse = false;
+		Class<? extends DockerComposeReset> reset = DockerComposeReset.None.class;
+		List<DockerComposeReadiness> readiness = new ArrayList<>();
+		for (DockerComposeData dockerComposeData : data) {
+			locations.addAll(Arrays.asList(dockerComposeData.getLocations()));
+			services.addAll(Arrays.asList(dockerComposeData.getServices()));
+			if (!dockerComposeData.isStart()) {
+				start = false;
 			}
-			Builder builder = DockerComposeRule.builder();
-			builder.files(DockerComposeFiles.from(locations.toArray(new String[0])));
-			for (String service : services) {
-				builder.waitingForService(service, toHaveAllPortsOpen());
+			if (dockerComposeData.getOrder() < order) {
+				order = dockerComposeData.getOrder();
+			}
+			if (dockerComposeData.getLog() != null && dockerComposeData.getLog().length() > 0) {
+				log = dockerComposeData.getLog();
+			}
+			if (dockerComposeData.isReuse()) {
+				reuse = true;
+			}
+			if (dockerComposeData.getReset() != null && dockerComposeData.getReset() != DockerComposeReset.None.class) {
+				reset = dockerComposeData.getReset();
+			}
+			for (Class<? extends DockerComposeReadiness> probe : dockerComposeData.getReadiness()) {
+				readiness.add(ReflectionUtils.newInstance(probe));
+			}
+		}
+		ruleFiles.put(key, String.join(",", locations));
+		// only clusters started by the extension are reused, others are started and stopped by tests
+		DockerComposeReset poolReset = null;
+		if (reuse && start) {
+			String poolKey = DockerComposePool.key(locations, services);
+			pooledKeys.put(key, poolKey);
+			poolReset = ReflectionUtils.newInstance(reset);
+			DockerComposeRule pooled = pool.acquire(poolKey);
+			if (pooled != null) {
+				rules.put(key, pooled);
+				toStart.add(new OrderingWrapper(order, key, pooled, poolReset, true));
+				return;
 			}
-			builder.saveLogsTo("build/test-docker-logs/" + log + classKey + "-" + methodKey);
-			DockerComposeRule rule = builder.build();
-			rules.put(key, rule);
-			if (start) {
-				toStart.add(new OrderingWrapper(order, rule));
+		}
+		Builder builder = DockerComposeRule.builder();
+		builder.files(DockerComposeFiles.from(locations.toArray(new String[0])));
+		Set<String> probed = readiness.stream().map(DockerComposeReadiness::getService).collect(Collectors.toSet());
+		for (String service : services) {
+			// open ports don't tell a probed service is ready, its probe does
+			if (!probed.contains(service)) {
+				builder.waitingForService(service, toHaveAllPortsOpen());
 			}
 		}
+		if (!readiness.isEmpty()) {
+			readinessWaits.put(key, new DockerComposeReadinessWait(DockerComposePool.key(locations, services), readiness));
+		}
+		builder.saveLogsTo("build/test-docker-logs/" + log + classKey + "-" + methodKey);
+		DockerComposeRule rule = builder.build();
+		rules.put(key, rule);
+		if (start) {
+			toStart.add(new OrderingWrapper(order, key, rule, poolReset, false));
+		}
+	}
 
-		Collections.sort(toStart);
-		for (OrderingWrapper w : toStart) {
+	private void startTier(Integer order, List<OrderingWrapper> tier) {
+		long start = System.currentTimeMillis();
+		if (tier.size() == 1) {
 			try {
-				w.getRule().before();
+				startOrReset(tier.get(0));
 			} catch (Exception e) {
 				throw new RuntimeException(e);
 			}
 		}
-
+		else {
+			ExecutorService executor = Executors.newFixedThreadPool(tier.size());
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (OrderingWrapper w : tier) {
+					futures.add(executor.submit(() -> {
+						startOrReset(w);
+						return null;
+					}));
+				}
+				// await the whole tier, even if a rule failed, so that none is left starting
+				Throwable failure = null;
+				for (Future<?> future : futures) {
+					try {
+						future.get();
+					} catch (ExecutionException e) {
+						if (failure == null) {
+							failure = e.getCause();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RuntimeException(e);
+					}
+				}
+				if (failure != null) {
+					throw new RuntimeException(failure);
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+		log.info("Started tier {} {} in {} ms", order,
+				tier.stream().map(w -> idOf(w.getKey())).collect(Collectors.toList()),
+				System.currentTimeMillis() - start);
 	}
 
 	public void stop(String classKey, String methodKey) {
@@ -166,9 +259,22 @@ public class DockerComposeManager {
 		}
 		for (String remove : toRemove) {
 			DockerComposeRule rule = rules.remove(remove);
-			if (rule != null) {
+			startTimes.remove(remove);
+			readyTimes.remove(remove);
+			serviceReadyTimes.remove(remove);
+			readinessWaits.remove(remove);
+			String poolKey = pooledKeys.remove(remove);
+			if (poolKey != null) {
+				// keep running for the next test reusing it
+				pool.release(poolKey);
+			}
+			else if (rule != null) {
+				long start = System.currentTimeMillis();
 				rule.after();
+				lap(remove, DockerComposeTiming.TEARDOWN, start);
 			}
+			finishTiming(remove);
+			ruleFiles.remove(remove);
 		}
 		// for now, just clear both class and method keys
 		classKeys.clear();
@@ -176,16 +282,18 @@ public class DockerComposeManager {
 	}
 
 	public void startId(String id) {
+		String key = null;
 		DockerComposeRule rule = null;
 		for (Entry<String, DockerComposeRule> e : rules.entrySet()) {
 			String idMatch = e.getKey().substring(0, e.getKey().indexOf("$"));
 			if (id.equals(idMatch)) {
+				key = e.getKey();
 				rule = e.getValue();
 			}
 		}
 		if (rule != null) {
 			try {
-				rule.before();
+				startRule(key, rule);
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -193,16 +301,194 @@ public class DockerComposeManager {
 	}
 
 	public void stopId(String id) {
+		String key = null;
 		DockerComposeRule rule = null;
 		for (Entry<String, DockerComposeRule> e : rules.entrySet()) {
 			String idMatch = e.getKey().substring(0, e.getKey().indexOf("$"));
 			if (id.equals(idMatch)) {
+				key = e.getKey();
 				rule = e.getValue();
 			}
 		}
-		if (rule != null) {
+		long start = System.currentTimeMillis();
+		String poolKey = key != null ? pooledKeys.remove(key) : null;
+		if (poolKey != null) {
+			pool.evict(poolKey);
+		}
+		else if (rule != null) {
 			rule.after();
 		}
+		if (key != null) {
+			lap(key, DockerComposeTiming.TEARDOWN, start);
+			finishTiming(key);
+		}
+	}
+
+	/**
+	 * Gets the lifecycle timings of the clusters stopped so far.
+	 *
+	 * @return the timings, in the order the clusters were stopped
+	 */
+	public List<DockerComposeTiming> getTimings() {
+		synchronized (timings) {
+			return new ArrayList<>(timings);
+		}
+	}
+
+	/**
+	 * Clears the timings of the clusters stopped so far.
+	 */
+	public void clearTimings() {
+		timings.clear();
+	}
+
+	/**
+	 * Gets the time a cluster was last started at.
+	 *
+	 * @param id the cluster id
+	 * @return the epoch millis the cluster was last started at, or -1 if not started
+	 */
+	public long getStartTime(String id) {
+		return getTime(startTimes, id);
+	}
+
+	/**
+	 * Gets the time a cluster last got ready at, that is when all its readiness
+	 * probes were ready and all ports of its other services open.
+	 *
+	 * @param id the cluster id
+	 * @return the epoch millis the cluster last got ready at, or -1 if not ready
+	 */
+	public long getReadyTime(String id) {
+		return getTime(readyTimes, id);
+	}
+
+	/**
+	 * Gets the time a service of a cluster was last found ready at by its
+	 * readiness probes.
+	 *
+	 * @param id the cluster id
+	 * @param service the service
+	 * @return the epoch millis the service was last found ready at, or -1 if
+	 *         not ready or the service has no probe
+	 */
+	public long getReadyTime(String id, String service) {
+		for (Entry<String, Map<String, Long>> e : serviceReadyTimes.entrySet()) {
+			if (id.equals(e.getKey().substring(0, e.getKey().indexOf("$")))) {
+				return e.getValue().getOrDefault(service, -1L);
+			}
+		}
+		return -1;
+	}
+
+	private void startOrReset(OrderingWrapper w) throws Exception {
+		if (w.isReused()) {
+			resetRule(w.getKey(), w.getRule(), w.getReset());
+		}
+		else {
+			startRule(w.getKey(), w.getRule());
+			if (w.getReset() != null && pooledKeys.containsKey(w.getKey())) {
+				startedRule(w.getKey(), w.getRule(), w.getReset());
+			}
+		}
+	}
+
+	private void startRule(String key, DockerComposeRule rule) throws Exception {
+		long start = System.currentTimeMillis();
+		startTimes.put(key, start);
+		readyTimes.remove(key);
+		serviceReadyTimes.remove(key);
+		DockerComposeTiming timing = startTiming(key, false);
+		// the steps of rule.before() taken apart, to time pulls and creation on their own
+		DockerComposeCommands.pullMissingImages(rule);
+		long phase = timing.lap(DockerComposeTiming.PULL, start);
+		DockerComposeCommands.create(rule);
+		phase = timing.lap(DockerComposeTiming.CREATE, phase);
+		rule.before();
+		phase = timing.lap(DockerComposeTiming.START, phase);
+		DockerComposeReadinessWait readinessWait = readinessWaits.get(key);
+		if (readinessWait != null) {
+			serviceReadyTimes.put(key, readinessWait.await(rule, start));
+			timing.lap(DockerComposeTiming.READINESS, phase);
+		}
+		long ready = System.currentTimeMillis();
+		readyTimes.put(key, ready);
+		String poolKey = pooledKeys.get(key);
+		if (poolKey != null && !pool.add(poolKey, rule)) {
+			// an equal cluster is already pooled, this one is a plain cluster
+			pooledKeys.remove(key);
+		}
+		log.info("Started {} in {} ms", idOf(key), ready - start);
+	}
+
+	private void startedRule(String key, DockerComposeRule rule, DockerComposeReset reset) throws Exception {
+		long start = System.currentTimeMillis();
+		try {
+			reset.started(rule);
+		} catch (Exception e) {
+			// without its baseline the cluster could not be reset for later tests
+			pool.evict(pooledKeys.remove(key));
+			throw e;
+		}
+		lap(key, DockerComposeTiming.SNAPSHOT, start);
+		log.info("Prepared {} for reuse in {} ms", idOf(key), System.currentTimeMillis() - start);
+	}
+
+	private void resetRule(String key, DockerComposeRule rule, DockerComposeReset reset) throws Exception {
+		long start = System.currentTimeMillis();
+		startTimes.put(key, start);
+		readyTimes.remove(key);
+		serviceReadyTimes.remove(key);
+		DockerComposeTiming timing = startTiming(key, true);
+		try {
+			reset.reset(rule);
+		} catch (Exception e) {
+			// don't hand a cluster in an unknown state to later tests
+			pool.evict(pooledKeys.remove(key));
+			throw e;
+		}
+		long ready = timing.lap(DockerComposeTiming.RESET, start);
+		readyTimes.put(key, ready);
+		log.info("Reused {} reset in {} ms", idOf(key), ready - start);
+	}
+
+	private DockerComposeTiming startTiming(String key, boolean reused) {
+		// a cluster started again within a test, without being stopped, is timed anew
+		finishTiming(key);
+		DockerComposeTiming timing = new DockerComposeTiming(currentTest, idOf(key), ruleFiles.getOrDefault(key, ""),
+				reused);
+		activeTimings.put(key, timing);
+		return timing;
+	}
+
+	private void lap(String key, String phase, long since) {
+		DockerComposeTiming timing = activeTimings.get(key);
+		if (timing != null) {
+			timing.lap(phase, since);
+		}
+	}
+
+	private void finishTiming(String key) {
+		DockerComposeTiming timing = activeTimings.remove(key);
+		if (timing != null) {
+			timings.add(timing);
+			log.info("Timings of {} in {}: {}", timing.getId(), timing.getTest(), timing);
+		}
+	}
+
+	private static String idOf(String key) {
+		String id = key.substring(0, key.indexOf("$"));
+		return id.isEmpty() ? key.substring(key.indexOf("$") + 1) : id;
+	}
+
+	private long getTime(Map<String, Long> times, String id) {
+		for (Entry<String, Long> e : times.entrySet()) {
+			String idMatch = e.getKey().substring(0, e.getKey().indexOf("$"));
+			if (id.equals(idMatch)) {
+				return e.getValue();
+			}
+		}
+		return -1;
 	}
 
 	public static class DockerComposeData {
@@ -213,14 +499,36 @@ public class DockerComposeManager {
 		private final String[] services;
 		private final String log;
 		private final int order;
+		private final boolean reuse;
+		private final Class<? extends DockerComposeReset> reset;
+		private final Class<? extends DockerComposeReadiness>[] readiness;
 
 		public DockerComposeData(String id, String[] locations, String[] services, String log, boolean start, int order) {
+			this(id, locations, services, log, start, order, false, DockerComposeReset.None.class);
+		}
+
+		public DockerComposeData(String id, String[] locations, String[] services, String log, boolean start, int order,
+				boolean reuse, Class<? extends DockerComposeReset> reset) {
+			this(id, locations, services, log, start, order, reuse, reset, noReadiness());
+		}
+
+		public DockerComposeData(String id, String[] locations, String[] services, String log, boolean start, int order,
+				boolean reuse, Class<? extends DockerComposeReset> reset,
+				Class<? extends DockerComposeReadiness>[] readiness) {
 			this.id = id;
 			this.locations = locations;
 			this.services = services;
 			this.log = log;
 			this.start = start;
 			this.order = order;
+			this.reuse = reuse;
+			this.reset = reset;
+			this.readiness = readiness;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Class<? extends DockerComposeReadiness>[] noReadiness() {
+			return new Class[0];
 		}
 
 		public String[] getLocations() {
@@ -246,25 +554,62 @@ public class DockerComposeManager {
 		public int getOrder() {
 			return order;
 		}
+
+		public boolean isReuse() {
+			return reuse;
+		}
+
+		public Class<? extends DockerComposeReset> getReset() {
+			return reset;
+		}
+
+		public Class<? extends DockerComposeReadiness>[] getReadiness() {
+			return readiness;
+		}
 	}
 
 	private static class OrderingWrapper implements Comparable<OrderingWrapper>{
 		Integer order;
+		String key;
 		DockerComposeRule rule;
+		DockerComposeReset reset;
+		boolean reused;
 
-		public OrderingWrapper(Integer order, DockerComposeRule rule) {
+		public OrderingWrapper(Integer order, String key, DockerComposeRule rule, DockerComposeReset reset,
+				boolean reused) {
 			this.order = order;
+			this.key = key;
 			this.rule = rule;
+			this.reset = reset;
+			this.reused = reused;
 		}
 
 		public Integer getOrder() {
 			return order;
 		}
 
+		public String getKey() {
+			return key;
+		}
+
 		public DockerComposeRule getRule() {
 			return rule;
 		}
 
+		/**
+		 * @return the reset of a reusable cluster, or null if the cluster is not reusable
+		 */
+		public DockerComposeReset getReset() {
+			return reset;
+		}
+
+		/**
+		 * @return true if the cluster is taken from the pool, already started
+		 */
+		public boolean isReused() {
+			return reused;
+		}
+
 		@Override
 		public int compareTo(OrderingWrapper o) {
 			return getOrder().compareTo(o.getOrder());
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Pool of started reusable clusters, keyed by their compose files and services,
+ * kept in the root extension store so that they outlive test classes and are
+ * stopped once all tests ran.
+ *
+ * A pooled cluster is in use by at most one test at a time. Pooled clusters not
+ * in use are stopped when a test needs other clusters, as fixed container names
+ * of the compose files would otherwise clash.
+ */
+public class DockerComposePool implements CloseableResource {
+
+	private static final Logger log = LoggerFactory.getLogger(DockerComposePool.class);
+
+	private final Map<String, DockerComposeRule> rules = new HashMap<>();
+	private final Set<String> inUse = new HashSet<>();
+
+	/**
+	 * Gets the pool key of a cluster.
+	 *
+	 * @param locations the compose files of the cluster
+	 * @param services the services of the cluster
+	 * @return the pool key
+	 */
+	public static String key(Collection<String> locations, Collection<String> services) {
+		return String.join(",", new TreeSet<>(locations)) + "|" + String.join(",", new TreeSet<>(services));
+	}
+
+	/**
+	 * Takes a pooled cluster for use by a test.
+	 *
+	 * @param key the pool key
+	 * @return the started cluster, or null if none is pooled or it is in use
+	 */
+	public synchronized DockerComposeRule acquire(String key) {
+		DockerComposeRule rule = rules.get(key);
+		if (rule == null || inUse.contains(key)) {
+			return null;
+		}
+		inUse.add(key);
+		return rule;
+	}
+
+	/**
+	 * Adds a started cluster, in use by a test, to the pool.
+	 *
+	 * @param key the pool key
+	 * @param rule the started cluster
+	 * @return true if added, false if a cluster is already pooled for the key
+	 */
+	public synchronized boolean add(String key, DockerComposeRule rule) {
+		if (rules.containsKey(key)) {
+			return false;
+		}
+		rules.put(key, rule);
+		inUse.add(key);
+		return true;
+	}
+
+	/**
+	 * Puts a cluster back into the pool, still running, once a test is done.
+	 *
+	 * @param key the pool key
+	 */
+	public synchronized void release(String key) {
+		inUse.remove(key);
+	}
+
+	/**
+	 * Stops a pooled cluster and removes it from the pool.
+	 *
+	 * @param key the pool key, may be null
+	 */
+	public synchronized void evict(String key) {
+		inUse.remove(key);
+		DockerComposeRule rule = key != null ? rules.remove(key) : null;
+		if (rule != null) {
+			log.info("Stopping pooled cluster {}", key);
+			rule.after();
+		}
+	}
+
+	/**
+	 * Stops the pooled clusters not in use and not among the given ones.
+	 *
+	 * @param keep the pool keys of the clusters to keep
+	 */
+	public synchronized void evictExcept(Collection<String> keep) {
+		List<String> toEvict = new ArrayList<>();
+		for (String key : rules.keySet()) {
+			if (!keep.contains(key) && !inUse.contains(key)) {
+				toEvict.add(key);
+			}
+		}
+		for (String key : toEvict) {
+			evict(key);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		for (String key : new ArrayList<>(rules.keySet())) {
+			evict(key);
+		}
+	}
+}
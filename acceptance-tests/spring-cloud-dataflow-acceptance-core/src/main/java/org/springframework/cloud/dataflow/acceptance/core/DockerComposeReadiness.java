@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.util.concurrent.TimeUnit;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Probe telling when a service of a started cluster is ready to be used, see
+ * {@link DockerCompose#readiness()}. Probes are polled with an adaptive backoff
+ * until ready, and a service with a probe is not waited for to have all its
+ * ports open. Implementations need a public no-argument constructor.
+ *
+ * @see HttpPathReadiness
+ * @see JdbcPingReadiness
+ * @see LogLineReadiness
+ */
+public interface DockerComposeReadiness {
+
+	/**
+	 * Gets the service this probe checks.
+	 *
+	 * @return the service name
+	 */
+	String getService();
+
+	/**
+	 * Checks once if the service is ready.
+	 *
+	 * @param rule the rule of the cluster
+	 * @return true if the service is ready
+	 * @throws Exception if the service could not be checked, counted as not ready
+	 */
+	boolean isReady(DockerComposeRule rule) throws Exception;
+
+	/**
+	 * Gets how long to wait for the service to get ready.
+	 *
+	 * @return the timeout in millis
+	 */
+	default long getTimeout() {
+		return TimeUnit.MINUTES.toMillis(3);
+	}
+}
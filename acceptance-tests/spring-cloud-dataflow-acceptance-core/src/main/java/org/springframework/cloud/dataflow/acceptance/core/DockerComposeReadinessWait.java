@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Polls the readiness probes of a cluster until all are ready.
+ *
+ * Polling starts every 100 ms and backs off up to every second while a probe
+ * is not ready. The time a probe took to get ready is remembered for the
+ * cluster, so that later starts of the same cluster poll every second until
+ * shortly before that time, and then quickly again.
+ */
+class DockerComposeReadinessWait {
+
+	private static final Logger log = LoggerFactory.getLogger(DockerComposeReadinessWait.class);
+	private static final long MIN_INTERVAL = 100;
+	private static final long MAX_INTERVAL = 1000;
+
+	// millis to ready of each probe of each cluster, by pool key and probe class
+	private static final Map<String, Long> history = new ConcurrentHashMap<>();
+
+	private final String name;
+	private final List<DockerComposeReadiness> probes;
+
+	/**
+	 * Instantiates a new readiness wait.
+	 *
+	 * @param name the name of the cluster, the same for every start of it
+	 * @param probes the readiness probes of the cluster
+	 */
+	DockerComposeReadinessWait(String name, List<DockerComposeReadiness> probes) {
+		this.name = name;
+		this.probes = probes;
+	}
+
+	/**
+	 * Waits for every probe to be ready.
+	 *
+	 * @param rule the rule of the cluster
+	 * @param start the epoch millis the cluster was started at
+	 * @return the epoch millis each probed service was found ready at, by service
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws IllegalStateException if a probe is not ready within its timeout
+	 */
+	Map<String, Long> await(DockerComposeRule rule, long start) throws InterruptedException {
+		Map<String, Long> readyTimes = new LinkedHashMap<>();
+		for (DockerComposeReadiness probe : probes) {
+			String key = name + "|" + probe.getClass().getName();
+			Long expected = history.get(key);
+			long deadline = start + probe.getTimeout();
+			long interval = MIN_INTERVAL;
+			while (!isReady(probe, rule)) {
+				long now = System.currentTimeMillis();
+				if (now > deadline) {
+					throw new IllegalStateException("Service " + probe.getService() + " not ready within "
+							+ probe.getTimeout() + " ms");
+				}
+				long sleep;
+				long early = expected != null ? start + expected * 9 / 10 - now : 0;
+				if (early > 0) {
+					// not expected to be ready yet, poll slowly until shortly before
+					sleep = Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, early));
+				}
+				else {
+					sleep = interval;
+					interval = Math.min(interval * 3 / 2, MAX_INTERVAL);
+				}
+				Thread.sleep(Math.min(sleep, Math.max(deadline - now, 1)));
+			}
+			long ready = System.currentTimeMillis();
+			readyTimes.merge(probe.getService(), ready, Math::max);
+			history.put(key, ready - start);
+			log.debug("Service {} ready after {} ms", probe.getService(), ready - start);
+		}
+		return readyTimes;
+	}
+
+	private static boolean isReady(DockerComposeReadiness probe, DockerComposeRule rule) {
+		try {
+			return probe.isReady(rule);
+		} catch (InterruptedException e) {
+			// let the wait be interrupted
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (Exception e) {
+			log.trace("Service {} not ready: {}", probe.getService(), e.getMessage());
+			return false;
+		}
+	}
+}
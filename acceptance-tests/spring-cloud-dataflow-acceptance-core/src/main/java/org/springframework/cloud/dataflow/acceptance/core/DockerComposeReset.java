@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Resets a reused cluster, see {@link DockerCompose#reuse()}, to a clean state
+ * before it is handed to the next test, for example by dropping the schema of a
+ * database. Implementations need a public no-argument constructor.
+ */
+public interface DockerComposeReset {
+
+	/**
+	 * Prepares a newly started cluster for reuse, before it is handed to its
+	 * first test, for example by taking a snapshot to reset it to later. Does
+	 * nothing by default.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws Exception if the cluster could not be prepared, it is then stopped
+	 */
+	default void started(DockerComposeRule rule) throws Exception {
+	}
+
+	/**
+	 * Resets the started cluster.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws Exception if the cluster could not be reset, it is then stopped
+	 */
+	void reset(DockerComposeRule rule) throws Exception;
+
+	/**
+	 * Reset leaving a cluster as the previous test left it.
+	 */
+	class None implements DockerComposeReset {
+
+		@Override
+		public void reset(DockerComposeRule rule) {
+		}
+	}
+}
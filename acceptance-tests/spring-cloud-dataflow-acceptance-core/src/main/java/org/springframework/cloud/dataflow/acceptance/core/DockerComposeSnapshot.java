@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.palantir.docker.compose.DockerComposeRule;
+import com.palantir.docker.compose.execution.DockerComposeExecArgument;
+import com.palantir.docker.compose.execution.DockerComposeExecOption;
+
+/**
+ * Reset restoring a reused cluster to a baseline snapshot of one of its
+ * services, captured once the cluster is started, before its first test. The
+ * snapshot is kept inside the container of the service, for example as a dump
+ * or backup of a database, so that restoring it takes seconds where starting
+ * the cluster again takes minutes.
+ *
+ * @see DockerCompose#reuse()
+ */
+public abstract class DockerComposeSnapshot implements DockerComposeReset {
+
+	private static final Logger log = LoggerFactory.getLogger(DockerComposeSnapshot.class);
+	private static final long DEFAULT_CAPTURE_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+	private static final long CAPTURE_INTERVAL = TimeUnit.SECONDS.toMillis(2);
+
+	private final String service;
+	private final long captureTimeout;
+
+	/**
+	 * Instantiates a new docker compose snapshot.
+	 *
+	 * @param service the service whose state is captured and restored
+	 */
+	protected DockerComposeSnapshot(String service) {
+		this(service, DEFAULT_CAPTURE_TIMEOUT);
+	}
+
+	/**
+	 * Instantiates a new docker compose snapshot.
+	 *
+	 * @param service the service whose state is captured and restored
+	 * @param captureTimeout the millis to retry capturing the baseline for, while the service starts up
+	 */
+	protected DockerComposeSnapshot(String service, long captureTimeout) {
+		this.service = service;
+		this.captureTimeout = captureTimeout;
+	}
+
+	@Override
+	public void started(DockerComposeRule rule) throws Exception {
+		// open ports don't mean the service accepts commands yet
+		long deadline = System.currentTimeMillis() + captureTimeout;
+		while (true) {
+			try {
+				capture(rule);
+				return;
+			} catch (Exception e) {
+				if (System.currentTimeMillis() > deadline) {
+					throw e;
+				}
+				log.debug("Capturing baseline of {} failed, retrying: {}", service, e.getMessage());
+				Thread.sleep(CAPTURE_INTERVAL);
+			}
+		}
+	}
+
+	@Override
+	public void reset(DockerComposeRule rule) throws Exception {
+		restore(rule);
+	}
+
+	/**
+	 * Captures the baseline snapshot. May be called again if it fails, so it
+	 * must replace a snapshot left by an earlier attempt.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws Exception if the baseline could not be captured
+	 */
+	protected abstract void capture(DockerComposeRule rule) throws Exception;
+
+	/**
+	 * Restores the baseline snapshot, discarding the changes of earlier tests.
+	 *
+	 * @param rule the rule of the cluster
+	 * @throws Exception if the baseline could not be restored
+	 */
+	protected abstract void restore(DockerComposeRule rule) throws Exception;
+
+	/**
+	 * Runs a command in the container of the service.
+	 *
+	 * @param rule the rule of the cluster
+	 * @param arguments the command and its arguments
+	 * @return the output of the command
+	 * @throws IOException if the command could not be run or failed
+	 * @throws InterruptedException if interrupted while waiting for the command
+	 */
+	protected String exec(DockerComposeRule rule, String... arguments) throws IOException, InterruptedException {
+		String output = rule.exec(DockerComposeExecOption.noOptions(), service,
+				DockerComposeExecArgument.arguments(arguments));
+		log.debug("Snapshot command on {} output {}", service, output);
+		return output;
+	}
+
+	public String getService() {
+		return service;
+	}
+}
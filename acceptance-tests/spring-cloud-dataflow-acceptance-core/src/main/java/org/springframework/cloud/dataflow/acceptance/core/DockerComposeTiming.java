@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Durations of the lifecycle phases of a cluster during a test, in the order
+ * the phases happened.
+ */
+public class DockerComposeTiming {
+
+	/** Pulling the images missing locally. */
+	public static final String PULL = "pull";
+	/** Creating the containers. */
+	public static final String CREATE = "create";
+	/** Starting the containers until all ports of services without a readiness probe are open. */
+	public static final String START = "start";
+	/** Waiting for the readiness probes. */
+	public static final String READINESS = "readiness";
+	/** Capturing the baseline snapshot of a reusable cluster. */
+	public static final String SNAPSHOT = "snapshot";
+	/** Resetting a reused cluster. */
+	public static final String RESET = "reset";
+	/** Stopping and removing the containers. */
+	public static final String TEARDOWN = "teardown";
+
+	private final String test;
+	private final String id;
+	private final String files;
+	private final boolean reused;
+	private final Map<String, Long> durations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/**
+	 * Instantiates a new docker compose timing.
+	 *
+	 * @param test the test name
+	 * @param id the cluster id
+	 * @param files the compose files of the cluster, comma separated
+	 * @param reused whether the cluster was reused from an earlier test
+	 */
+	public DockerComposeTiming(String test, String id, String files, boolean reused) {
+		this.test = test;
+		this.id = id;
+		this.files = files;
+		this.reused = reused;
+	}
+
+	/**
+	 * Adds the time since the given time to a phase.
+	 *
+	 * @param phase the phase
+	 * @param since the epoch millis the phase started at
+	 * @return the current epoch millis, the start of the next phase
+	 */
+	public long lap(String phase, long since) {
+		long now = System.currentTimeMillis();
+		durations.merge(phase, now - since, Long::sum);
+		return now;
+	}
+
+	public String getTest() {
+		return test;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getFiles() {
+		return files;
+	}
+
+	public boolean isReused() {
+		return reused;
+	}
+
+	/**
+	 * Gets the durations of the phases.
+	 *
+	 * @return the millis of each phase, in the order the phases happened
+	 */
+	public Map<String, Long> getDurations() {
+		synchronized (durations) {
+			return new LinkedHashMap<>(durations);
+		}
+	}
+
+	public long getTotal() {
+		return getDurations().values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Override
+	public String toString() {
+		return getDurations().entrySet().stream().map(e -> e.getKey() + " " + e.getValue() + " ms")
+				.collect(Collectors.joining(", ")) + (reused ? " (reused)" : "");
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the cluster timings of a test class as a json summary, with every
+ * timing and the summed durations per compose files, slowest first.
+ */
+final class DockerComposeTimingReport {
+
+	private DockerComposeTimingReport() {
+	}
+
+	/**
+	 * Writes the timings as {@code <testClass>.json}.
+	 *
+	 * @param directory the directory to write to
+	 * @param testClass the test class name
+	 * @param timings the timings of the test class
+	 * @return the written file
+	 * @throws IOException if the file could not be written
+	 */
+	static Path write(Path directory, String testClass, List<DockerComposeTiming> timings) throws IOException {
+		Map<String, List<DockerComposeTiming>> byFiles = timings.stream()
+				.collect(Collectors.groupingBy(DockerComposeTiming::getFiles, LinkedHashMap::new, Collectors.toList()));
+		List<Map.Entry<String, List<DockerComposeTiming>>> slowest = new ArrayList<>(byFiles.entrySet());
+		slowest.sort(Comparator.comparingLong(
+				(Map.Entry<String, List<DockerComposeTiming>> e) -> total(e.getValue())).reversed());
+
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("  \"testClass\": ").append(quote(testClass)).append(",\n");
+		json.append("  \"total\": ").append(total(timings)).append(",\n");
+		json.append("  \"files\": [");
+		for (int i = 0; i < slowest.size(); i++) {
+			List<DockerComposeTiming> filesTimings = slowest.get(i).getValue();
+			Map<String, Long> durations = new LinkedHashMap<>();
+			filesTimings.forEach(timing -> timing.getDurations().forEach((phase, millis) -> durations.merge(phase, millis, Long::sum)));
+			json.append(i == 0 ? "\n" : ",\n");
+			json.append("    { \"files\": ").append(quote(slowest.get(i).getKey()));
+			json.append(", \"count\": ").append(filesTimings.size());
+			json.append(", \"total\": ").append(total(filesTimings));
+			json.append(", \"durations\": ").append(durations(durations)).append(" }");
+		}
+		json.append(slowest.isEmpty() ? "],\n" : "\n  ],\n");
+		json.append("  \"timings\": [");
+		for (int i = 0; i < timings.size(); i++) {
+			DockerComposeTiming timing = timings.get(i);
+			json.append(i == 0 ? "\n" : ",\n");
+			json.append("    { \"test\": ").append(quote(timing.getTest()));
+			json.append(", \"id\": ").append(quote(timing.getId()));
+			json.append(", \"files\": ").append(quote(timing.getFiles()));
+			json.append(", \"reused\": ").append(timing.isReused());
+			json.append(", \"total\": ").append(timing.getTotal());
+			json.append(", \"durations\": ").append(durations(timing.getDurations())).append(" }");
+		}
+		json.append(timings.isEmpty() ? "]\n" : "\n  ]\n");
+		json.append("}\n");
+
+		Files.createDirectories(directory);
+		Path file = directory.resolve(testClass + ".json");
+		Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static long total(List<DockerComposeTiming> timings) {
+		return timings.stream().mapToLong(DockerComposeTiming::getTotal).sum();
+	}
+
+	private static String durations(Map<String, Long> durations) {
+		return durations.entrySet().stream().map(e -> quote(e.getKey()) + ": " + e.getValue())
+				.collect(Collectors.joining(", ", "{ ", " }"));
+	}
+
+	private static String quote(String value) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				quoted.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				quoted.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				quoted.append(c);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+import com.palantir.docker.compose.DockerComposeRule;
+import com.palantir.docker.compose.connection.DockerPort;
+
+/**
+ * Readiness of a service answering a http path with a body containing a given
+ * text.
+ */
+public class HttpPathReadiness implements DockerComposeReadiness {
+
+	private static final int CONNECT_TIMEOUT = 1000;
+	private static final int READ_TIMEOUT = 5000;
+
+	private final String service;
+	private final int port;
+	private final String path;
+	private final String contains;
+
+	/**
+	 * Instantiates a new http path readiness.
+	 *
+	 * @param service the service name
+	 * @param port the internal port of the service
+	 * @param path the path to get, starting with a slash
+	 * @param contains the text the response body contains once ready
+	 */
+	public HttpPathReadiness(String service, int port, String path, String contains) {
+		this.service = service;
+		this.port = port;
+		this.path = path;
+		this.contains = contains;
+	}
+
+	@Override
+	public String getService() {
+		return service;
+	}
+
+	@Override
+	public boolean isReady(DockerComposeRule rule) throws Exception {
+		DockerPort dockerPort = rule.containers().container(service).port(port);
+		URL url = new URL("http://" + dockerPort.getIp() + ":" + dockerPort.getExternalPort() + path);
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		connection.setConnectTimeout(CONNECT_TIMEOUT);
+		connection.setReadTimeout(READ_TIMEOUT);
+		try {
+			if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+				return false;
+			}
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+				return reader.lines().collect(Collectors.joining("\n")).contains(contains);
+			}
+		} finally {
+			connection.disconnect();
+		}
+	}
+}
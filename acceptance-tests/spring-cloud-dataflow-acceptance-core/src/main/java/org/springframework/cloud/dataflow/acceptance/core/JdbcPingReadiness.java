@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+
+import com.palantir.docker.compose.DockerComposeRule;
+import com.palantir.docker.compose.connection.DockerPort;
+
+/**
+ * Readiness of a database service accepting a jdbc connection. The jdbc
+ * driver of the database needs to be on the test classpath.
+ */
+public class JdbcPingReadiness implements DockerComposeReadiness {
+
+	private static final int VALID_TIMEOUT_SECONDS = 5;
+
+	private final String service;
+	private final int port;
+	private final String url;
+	private final String username;
+	private final String password;
+
+	/**
+	 * Instantiates a new jdbc ping readiness.
+	 *
+	 * @param service the service name
+	 * @param port the internal port of the database
+	 * @param url the jdbc url, with {@code $HOST} and {@code $EXTERNAL_PORT} placeholders
+	 * @param username the database user
+	 * @param password the database password
+	 */
+	public JdbcPingReadiness(String service, int port, String url, String username, String password) {
+		this.service = service;
+		this.port = port;
+		this.url = url;
+		this.username = username;
+		this.password = password;
+	}
+
+	@Override
+	public String getService() {
+		return service;
+	}
+
+	@Override
+	public boolean isReady(DockerComposeRule rule) throws Exception {
+		DockerPort dockerPort = rule.containers().container(service).port(port);
+		try (Connection connection = DriverManager.getConnection(dockerPort.inFormat(url), username, password)) {
+			return connection.isValid(VALID_TIMEOUT_SECONDS);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Readiness of a service having logged a line matching a pattern.
+ */
+public class LogLineReadiness implements DockerComposeReadiness {
+
+	private static final long LOGS_TIMEOUT_SECONDS = 10;
+
+	private final String service;
+	private final Pattern pattern;
+
+	/**
+	 * Instantiates a new log line readiness.
+	 *
+	 * @param service the service name
+	 * @param regex the regular expression found in a log line once ready
+	 */
+	public LogLineReadiness(String service, String regex) {
+		this.service = service;
+		this.pattern = Pattern.compile(regex);
+	}
+
+	@Override
+	public String getService() {
+		return service;
+	}
+
+	@Override
+	public boolean isReady(DockerComposeRule rule) throws Exception {
+		Process process = rule.dockerComposeExecutable().execute("logs", "--no-color", service);
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			return reader.lines().anyMatch(line -> pattern.matcher(line).find());
+		} finally {
+			if (!process.waitFor(LOGS_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroy();
+			}
+		}
+	}
+}
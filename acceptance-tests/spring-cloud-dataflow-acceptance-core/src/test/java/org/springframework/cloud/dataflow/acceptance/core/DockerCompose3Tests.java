@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@DockerCompose(id = DockerCompose3Tests.CLUSTER1, order = 0, locations = {"src/test/resources/docker-compose-5.yml"})
+@DockerCompose(id = DockerCompose3Tests.CLUSTER2, order = 0, locations = {"src/test/resources/docker-compose-6.yml"})
+@DockerCompose(id = DockerCompose3Tests.CLUSTER3, order = 1, locations = {"src/test/resources/docker-compose-1.yml"})
+@ExtendWith(DockerComposeExtension.class)
+public class DockerCompose3Tests {
+
+	public final static String CLUSTER1 = "dc1";
+	public final static String CLUSTER2 = "dc2";
+	public final static String CLUSTER3 = "dc3";
+
+	@Test
+	public void testSameOrderStartsInParallel(DockerComposeInfo dockerComposeInfo) {
+		DockerComposeCluster cluster1 = dockerComposeInfo.id(CLUSTER1);
+		DockerComposeCluster cluster2 = dockerComposeInfo.id(CLUSTER2);
+		DockerComposeCluster cluster3 = dockerComposeInfo.id(CLUSTER3);
+
+		// both clusters of order 0 started before either got ready
+		assertThat(cluster1.getStartTime()).isLessThanOrEqualTo(cluster2.getReadyTime());
+		assertThat(cluster2.getStartTime()).isLessThanOrEqualTo(cluster1.getReadyTime());
+
+		// cluster of order 1 started once the whole order 0 tier was ready
+		assertThat(cluster3.getStartTime()).isGreaterThanOrEqualTo(cluster1.getReadyTime());
+		assertThat(cluster3.getStartTime()).isGreaterThanOrEqualTo(cluster2.getReadyTime());
+	}
+}
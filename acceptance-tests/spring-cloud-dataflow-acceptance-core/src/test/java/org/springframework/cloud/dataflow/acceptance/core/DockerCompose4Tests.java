@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@DockerCompose(id = DockerCompose4Tests.CLUSTER1, locations = {"src/test/resources/docker-compose-7.yml"},
+		services = { "testservice7" }, readiness = DockerCompose4Tests.Ready.class)
+@ExtendWith(DockerComposeExtension.class)
+public class DockerCompose4Tests {
+
+	public final static String CLUSTER1 = "dc1";
+
+	@Test
+	public void testReadyOnceProbeMatches(DockerComposeInfo dockerComposeInfo) {
+		DockerComposeCluster cluster1 = dockerComposeInfo.id(CLUSTER1);
+		assertThat(cluster1.getReadyTime() - cluster1.getStartTime()).isGreaterThanOrEqualTo(3000);
+		assertThat(cluster1.getReadyTime("testservice7")).isBetween(cluster1.getStartTime() + 3000,
+				cluster1.getReadyTime());
+		assertThat(cluster1.getReadyTime("unknown")).isEqualTo(-1);
+	}
+
+	public static class Ready extends LogLineReadiness {
+
+		public Ready() {
+			super("testservice7", "testservice7 is ready");
+		}
+	}
+}
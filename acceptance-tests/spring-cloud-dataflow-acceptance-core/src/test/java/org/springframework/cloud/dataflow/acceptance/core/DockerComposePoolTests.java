@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.dataflow.acceptance.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeManager.DockerComposeData;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Tests of the pool of reusable clusters. Pooled rules are never started, their
+ * shutdown only records that the pool stopped them.
+ */
+public class DockerComposePoolTests {
+
+	private static final String LOCATION = "src/test/resources/docker-compose-1.yml";
+
+	private final List<String> stopped = Collections.synchronizedList(new ArrayList<>());
+
+	@Test
+	public void testKeyIgnoresOrder() {
+		assertThat(DockerComposePool.key(Arrays.asList("b.yml", "a.yml"), Arrays.asList("s2", "s1")))
+				.isEqualTo(DockerComposePool.key(Arrays.asList("a.yml", "b.yml"), Arrays.asList("s1", "s2")));
+		assertThat(DockerComposePool.key(Arrays.asList("a.yml"), Arrays.asList("s1")))
+				.isNotEqualTo(DockerComposePool.key(Arrays.asList("a.yml"), Arrays.asList("s2")));
+	}
+
+	@Test
+	public void testAcquireAndRelease() {
+		DockerComposePool pool = new DockerComposePool();
+		DockerComposeRule rule = rule("a");
+		assertThat(pool.acquire("a")).isNull();
+
+		assertThat(pool.add("a", rule)).isTrue();
+		assertThat(pool.acquire("a")).isNull();
+
+		pool.release("a");
+		assertThat(pool.acquire("a")).isSameAs(rule);
+		assertThat(pool.acquire("a")).isNull();
+		assertThat(stopped).isEmpty();
+	}
+
+	@Test
+	public void testAddReturnsFalseIfPooled() {
+		DockerComposePool pool = new DockerComposePool();
+		DockerComposeRule rule = rule("a");
+		assertThat(pool.add("a", rule)).isTrue();
+		assertThat(pool.add("a", rule("other"))).isFalse();
+
+		pool.release("a");
+		assertThat(pool.acquire("a")).isSameAs(rule);
+		assertThat(stopped).isEmpty();
+	}
+
+	@Test
+	public void testEvict() {
+		DockerComposePool pool = new DockerComposePool();
+		pool.add("a", rule("a"));
+		pool.evict("a");
+		pool.evict("a");
+		pool.evict(null);
+		assertThat(stopped).containsExactly("a");
+		assertThat(pool.acquire("a")).isNull();
+
+		assertThat(pool.add("a", rule("new"))).isTrue();
+	}
+
+	@Test
+	public void testEvictExcept() {
+		DockerComposePool pool = new DockerComposePool();
+		pool.add("kept", rule("kept"));
+		pool.release("kept");
+		pool.add("used", rule("used"));
+		pool.add("idle", rule("idle"));
+		pool.release("idle");
+
+		pool.evictExcept(Arrays.asList("kept"));
+		assertThat(stopped).containsExactly("idle");
+		assertThat(pool.acquire("kept")).isNotNull();
+
+		pool.release("used");
+		pool.close();
+		assertThat(stopped).containsExactlyInAnyOrder("idle", "kept", "used");
+	}
+
+	@Test
+	public void testEvictOnResetFailure() {
+		DockerComposePool pool = new DockerComposePool();
+		String poolKey = DockerComposePool.key(Arrays.asList(LOCATION), Arrays.asList("testservice1"));
+		pool.add(poolKey, rule("pooled"));
+		pool.release(poolKey);
+
+		DockerComposeManager manager = new DockerComposeManager(pool);
+		manager.addClassDockerComposeData("class", new DockerComposeData("", new String[] { LOCATION },
+				new String[] { "testservice1" }, "", true, 0, true, FailingReset.class));
+		Throwable thrown = catchThrowable(() -> manager.build("class", "method"));
+
+		assertThat(thrown).isInstanceOf(RuntimeException.class).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(stopped).containsExactly("pooled");
+		assertThat(pool.acquire(poolKey)).isNull();
+	}
+
+	private DockerComposeRule rule(String name) {
+		return DockerComposeRule.builder()
+				.file(LOCATION)
+				.shutdownStrategy((dockerCompose, docker) -> stopped.add(name))
+				.build();
+	}
+
+	public static class FailingReset implements DockerComposeReset {
+
+		@Override
+		public void reset(DockerComposeRule rule) {
+			throw new IllegalStateException("reset failed");
+		}
+	}
+}
@@ -22,8 +22,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeCluster;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeInfo;
 import org.springframework.cloud.dataflow.acceptance.tests.support.AssertUtils;
+import org.springframework.cloud.dataflow.acceptance.tests.support.StartupTimings;
+import org.springframework.cloud.dataflow.acceptance.tests.support.StartupTimingsExtension;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
@@ -32,6 +36,7 @@ import org.springframework.web.client.RestTemplate;
 import com.jayway.jsonpath.JsonPath;
 import com.palantir.docker.compose.connection.DockerPort;
 
+@ExtendWith(StartupTimingsExtension.class)
 public abstract class AbstractDataflowTests {
     private final static String STREAM_APPS_VER = "2021.1.2";
     private final static String STREAM_APPS_URI = "https://repo.maven.apache.org/maven2/org/springframework/cloud/stream/app/spring-cloud-stream-app-descriptor/" +
@@ -63,18 +68,22 @@ public abstract class AbstractDataflowTests {
     }
 
     protected static void assertDataflowServerRunning(DockerComposeInfo dockerComposeInfo, String id, String container, boolean skipper) {
-        DockerPort port = dockerComposeInfo.id(id).getRule().containers().container(container).port(9393);
+        DockerComposeCluster cluster = dockerComposeInfo.id(id);
+        DockerPort port = cluster.getRule().containers().container(container).port(9393);
         String url = "http://" + port.getIp() + ":" + port.getExternalPort() + "/about";
         AssertUtils.assertDataflowServerRunning(url);
         if (skipper) {
             AssertUtils.assertSkipperServerRunning(url);
         }
+        StartupTimings.record("dataflow", id, cluster, container);
     }
 
     protected static void assertSkipperServerRunning(DockerComposeInfo dockerComposeInfo, String id, String container) {
-        DockerPort port = dockerComposeInfo.id(id).getRule().containers().container(container).port(7577);
+        DockerComposeCluster cluster = dockerComposeInfo.id(id);
+        DockerPort port = cluster.getRule().containers().container(container).port(7577);
         String url = "http://" + port.getIp() + ":" + port.getExternalPort() + "/api/about";
         AssertUtils.assertSkipperServerRunning(url);
+        StartupTimings.record("skipper", id, cluster, container);
     }
 
     protected static List<String> registerApps(DockerComposeInfo dockerComposeInfo, String id, String container) {
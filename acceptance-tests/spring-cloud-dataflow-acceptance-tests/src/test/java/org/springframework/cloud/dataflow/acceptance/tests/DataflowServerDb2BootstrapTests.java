@@ -34,13 +34,16 @@ import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow25x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow26x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowReadiness;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Db2;
+import org.springframework.cloud.dataflow.acceptance.tests.support.Db2Snapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper11x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper20x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper22x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper25x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @Db2
@@ -50,9 +53,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow17xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
 	}
@@ -60,9 +63,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow21x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -77,9 +80,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow22x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -97,9 +100,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper22x
 	@Dataflow23x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -117,9 +120,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper23x
 	@Dataflow24x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -137,9 +140,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper24x
 	@Dataflow25x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow25xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -157,9 +160,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xdb2.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xdb2.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -177,9 +180,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xdb2withddl.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xdb2withddl.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xdb2withddl.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xdb2withddl.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithDb2AndDdl(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
@@ -197,9 +200,9 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow20x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xdb2.yml" }, services = { "dataflow" })
-	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false)
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xdb2.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
 	public void testDataflow20xBeforeSkipperDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		start(dockerComposeInfo, "skipper");
@@ -209,10 +212,10 @@ public class DataflowServerDb2BootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xdb2.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xdb2.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/", readiness = DataflowReadiness.class)
 	public void testDataflow20xAfter17xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		// github.com/spring-cloud/spring-cloud-dataflow/issues/2903
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow17x", "dataflow", false);
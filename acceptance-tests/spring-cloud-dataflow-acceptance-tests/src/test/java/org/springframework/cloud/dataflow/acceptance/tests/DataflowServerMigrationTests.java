@@ -27,13 +27,22 @@ import org.springframework.cloud.dataflow.acceptance.core.DockerCompose;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeExtension;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeInfo;
 import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowAll;
+import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowReadiness;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Db2;
+import org.springframework.cloud.dataflow.acceptance.tests.support.Db2Snapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Migration;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MsSql;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MsSqlSnapshot;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_5_7;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_8_0;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Oracle;
+import org.springframework.cloud.dataflow.acceptance.tests.support.OracleSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Postgres;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresSnapshot;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 /**
  * Essentially we're starting dataflow 17x assuming classic mode, register
@@ -54,13 +63,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Postgres
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xpostgres.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 4, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xpostgres.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 4, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -70,13 +79,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_5_7
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmysql.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmysql.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -84,13 +93,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_8_0
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -100,13 +109,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Oracle
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xoracle.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xoracle.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" }, reuse = true, reset = OracleSnapshot.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xoracle.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xoracle.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xoracle.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithOracle(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -116,13 +125,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@MsSql
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmssql.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xmssql.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -132,13 +141,13 @@ public class DataflowServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Db2
 	@DataflowAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xdb2.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/")
-	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false)
-	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/")
-	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "dataflow17x", order = 1, locations = { "src/test/resources/dataflow/dataflow17xdb2.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow20xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow23x", order = 3, locations = { "src/test/resources/dataflowandskipper/dataflow23xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow23x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 3, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow25x", order = 5, locations = { "src/test/resources/dataflowandskipper/dataflow25xdb2.yml" }, services = { "dataflow" }, start = false, log = "dataflow25x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 6, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom173ToLatestWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -34,13 +34,16 @@ import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow25x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow26x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowReadiness;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MsSql;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MsSqlSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper11x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper20x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper22x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper25x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @MsSql
@@ -50,9 +53,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow17xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
 	}
@@ -60,9 +63,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow21x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -77,9 +80,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow22x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -97,9 +100,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper22x
 	@Dataflow23x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -117,9 +120,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper23x
 	@Dataflow24x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -137,9 +140,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper24x
 	@Dataflow25x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow25xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -157,9 +160,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmssql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmssql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmssql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -177,9 +180,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmssqlwithddl.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmssqlwithddl.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmssqlwithddl.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmssqlwithddl.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithMsSqlAndDdl(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
@@ -197,9 +200,9 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
 	@Dataflow20x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xmssql.yml" }, services = { "dataflow" })
-	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false)
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xmssql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
 	public void testDataflow20xBeforeSkipperMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		start(dockerComposeInfo, "skipper");
@@ -209,10 +212,10 @@ public class DataflowServerMsSqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xmssql.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xmssql.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xmssql.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/", readiness = DataflowReadiness.class)
 	public void testDataflow20xAfter17xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		// github.com/spring-cloud/spring-cloud-dataflow/issues/2903
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow17x", "dataflow", false);
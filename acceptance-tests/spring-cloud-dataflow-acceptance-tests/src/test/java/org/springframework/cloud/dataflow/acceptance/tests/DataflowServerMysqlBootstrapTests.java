@@ -34,7 +34,10 @@ import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow25x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow26x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowReadiness;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_5_6;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_5_7;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_8_0;
@@ -44,6 +47,7 @@ import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper22x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper25x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @Mysql
@@ -54,9 +58,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper11x
 	@Dataflow17x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow17xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
 	}
@@ -65,9 +69,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow21x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -83,9 +87,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow21x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -101,9 +105,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow21x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -119,9 +123,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow22x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -140,9 +144,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow22x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -161,9 +165,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow22x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -182,9 +186,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper20x
 	@Dataflow20x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xmysql.yml" }, services = { "dataflow" })
-	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false)
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
 	public void testDataflow20xBeforeSkipperMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		start(dockerComposeInfo, "skipper");
@@ -195,10 +199,10 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper11x
 	@Dataflow17x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xmysql.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xmysql.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xmysql.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/", readiness = DataflowReadiness.class)
 	public void testDataflow20xAfter17xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		// github.com/spring-cloud/spring-cloud-dataflow/issues/2903
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow17x", "dataflow", false);
@@ -222,9 +226,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper22x
 	@Dataflow23x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -243,9 +247,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper22x
 	@Dataflow23x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -264,9 +268,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper22x
 	@Dataflow23x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -285,9 +289,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper23x
 	@Dataflow24x
 	@Mysql_5_6
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -306,9 +310,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper23x
 	@Dataflow24x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -327,9 +331,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper23x
 	@Dataflow24x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -348,9 +352,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper24x
 	@Dataflow25x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow25xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -369,9 +373,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper24x
 	@Dataflow25x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow25xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -390,9 +394,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper25x
 	@Dataflow26x
 	@Mysql_5_7
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysql.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysql.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysql.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysql.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -411,9 +415,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Skipper25x
 	@Dataflow26x
 	@Mysql_8_0
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysqlwithmysqldriver.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysqlwithmysqldriver.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysqlwithmysqldriver.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysqlwithmysqldriver.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -431,9 +435,9 @@ public class DataflowServerMysqlBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysqlwithddl.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysqlwithddl.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xmysqlwithddl.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xmysqlwithddl.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithMysql57AndDdl(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
@@ -34,13 +34,17 @@ import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow25x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Dataflow26x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.DataflowReadiness;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Postgres;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper11x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper20x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper22x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper23x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper24x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper25x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @Postgres
@@ -50,9 +54,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow17xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow17xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
 	}
@@ -60,9 +64,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper20x
 	@Dataflow21x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow21xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow21xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -77,9 +81,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper20x
 	@Dataflow22x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow22xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow22xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -97,9 +101,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper22x
 	@Dataflow23x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper22xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow23xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow23xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -117,9 +121,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper23x
 	@Dataflow24x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper23xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow24xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow24xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -137,9 +141,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper24x
 	@Dataflow25x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow25xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow25xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -157,9 +161,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xpostgres.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xpostgres.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xpostgres.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow");
@@ -177,9 +181,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper25x
 	@Dataflow26x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xpostgreswithddl.yml" }, services = { "skipper" })
-	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xpostgreswithddl.yml" }, services = { "dataflow" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper25xpostgreswithddl.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
+	@DockerCompose(id = "dataflow", order = 2, locations = { "src/test/resources/dataflowandskipper/dataflow26xpostgreswithddl.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
 	public void testDataflow26xWithPostgresAndDdl(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
@@ -197,9 +201,9 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper20x
 	@Dataflow20x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xpostgres.yml" }, services = { "dataflow" })
-	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false)
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "dataflow", order = 1, locations = { "src/test/resources/dataflow/dataflow20xpostgres.yml" }, services = { "dataflow" }, readiness = DataflowReadiness.class)
+	@DockerCompose(id = "skipper", order = 2, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false, readiness = SkipperReadiness.class)
 	public void testDataflow20xBeforeSkipperPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow", "dataflow", false);
 		start(dockerComposeInfo, "skipper");
@@ -209,10 +213,10 @@ public class DataflowServerPostgresBootstrapTests extends AbstractDataflowTests
 	@Test
 	@Skipper11x
 	@Dataflow17x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xpostgres.yml" }, services = { "dataflow" }, log = "dataflow17x/")
-	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/")
-	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "dataflow17x", order = 2, locations = { "src/test/resources/dataflow/dataflow17xpostgres.yml" }, services = { "dataflow" }, log = "dataflow17x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow20x", order = 3, locations = { "src/test/resources/dataflow/dataflow20xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow20x/", readiness = DataflowReadiness.class)
+	@DockerCompose(id = "dataflow21x", order = 4, locations = { "src/test/resources/dataflow/dataflow21xpostgres.yml" }, services = { "dataflow" }, start = false, log = "dataflow21x/", readiness = DataflowReadiness.class)
 	public void testDataflow20xAfter17xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		// github.com/spring-cloud/spring-cloud-dataflow/issues/2903
 		assertDataflowServerRunning(dockerComposeInfo, "dataflow17x", "dataflow", false);
@@ -22,8 +22,10 @@ import org.springframework.cloud.dataflow.acceptance.core.DockerComposeExtension
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeInfo;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Bootstrap;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Db2;
+import org.springframework.cloud.dataflow.acceptance.tests.support.Db2Snapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper11x;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper20x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @Db2
@@ -32,16 +34,16 @@ public class SkipperServerDb2BootstrapTests extends AbstractDataflowTests {
 
 	@Test
 	@Skipper11x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper11xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
 
 	@Test
 	@Skipper20x
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper20xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
@@ -22,11 +22,14 @@ import org.springframework.cloud.dataflow.acceptance.core.DockerComposeExtension
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeInfo;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Bootstrap;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDb;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDbReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDbSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDb_10_1;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDb_10_2;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDb_10_3;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MariaDb_10_4;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Skipper20x;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 @ExtendWith(DockerComposeExtension.class)
 @MariaDb
@@ -36,8 +39,8 @@ public class SkipperServerMariaDbBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
     @MariaDb_10_1
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_1.yml" }, services = { "mariadb" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadb.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_1.yml" }, services = { "mariadb" }, reuse = true, reset = MariaDbSnapshot.class, readiness = MariaDbReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadb.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper20xWithMariaDb101(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
@@ -45,8 +48,8 @@ public class SkipperServerMariaDbBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
     @MariaDb_10_2
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_2.yml" }, services = { "mariadb" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadb.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_2.yml" }, services = { "mariadb" }, reuse = true, reset = MariaDbSnapshot.class, readiness = MariaDbReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadb.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper20xWithMariaDb102(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
@@ -54,8 +57,8 @@ public class SkipperServerMariaDbBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
     @MariaDb_10_3
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_3.yml" }, services = { "mariadb" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadbwitholddialect.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_3.yml" }, services = { "mariadb" }, reuse = true, reset = MariaDbSnapshot.class, readiness = MariaDbReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadbwitholddialect.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper20xWithMariaDb103(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
@@ -63,8 +66,8 @@ public class SkipperServerMariaDbBootstrapTests extends AbstractDataflowTests {
 	@Test
 	@Skipper20x
     @MariaDb_10_4
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_4.yml" }, services = { "mariadb" })
-	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadbwitholddialect.yml" }, services = { "skipper" })
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mariadb_10_4.yml" }, services = { "mariadb" }, reuse = true, reset = MariaDbSnapshot.class, readiness = MariaDbReadiness.class)
+	@DockerCompose(id = "skipper", order = 1, locations = { "src/test/resources/skipper/skipper20xmariadbwitholddialect.yml" }, services = { "skipper" }, readiness = SkipperReadiness.class)
 	public void testSkipper20xWithMariaDb104(DockerComposeInfo dockerComposeInfo) throws Exception {
 		assertSkipperServerRunning(dockerComposeInfo, "skipper", "skipper");
 	}
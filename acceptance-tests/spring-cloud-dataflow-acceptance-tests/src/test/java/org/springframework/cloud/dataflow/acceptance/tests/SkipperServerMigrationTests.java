@@ -21,14 +21,22 @@ import org.springframework.cloud.dataflow.acceptance.core.DockerCompose;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeExtension;
 import org.springframework.cloud.dataflow.acceptance.core.DockerComposeInfo;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Db2;
+import org.springframework.cloud.dataflow.acceptance.tests.support.Db2Snapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Migration;
 import org.springframework.cloud.dataflow.acceptance.tests.support.MsSql;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MsSqlSnapshot;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.MysqlSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_5_6;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_5_7;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Mysql_8_0;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Oracle;
+import org.springframework.cloud.dataflow.acceptance.tests.support.OracleSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.Postgres;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresReadiness;
+import org.springframework.cloud.dataflow.acceptance.tests.support.PostgresSnapshot;
 import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperAll;
+import org.springframework.cloud.dataflow.acceptance.tests.support.SkipperReadiness;
 
 /**
  * Tests going through start of skipper servers with databases and verifying
@@ -46,9 +54,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Postgres
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xpostgres.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xpostgres.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -56,9 +64,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Postgres
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" })
-	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xpostgres.yml" }, services = { "skipper" }, log = "skipper23x/")
-	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/postgres.yml" }, services = { "postgres" }, reuse = true, reset = PostgresSnapshot.class, readiness = PostgresReadiness.class)
+	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xpostgres.yml" }, services = { "skipper" }, log = "skipper23x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xpostgres.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom23xTo24xWithPostgres(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts23xTo24x(dockerComposeInfo);
 	}
@@ -68,9 +76,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_5_6
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_6.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithMysql56(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -78,9 +86,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_5_7
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_5_7.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysql.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithMysql57(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -88,9 +96,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_8_0
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysqlwithmysqldriver.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmysqlwithmysqldriver.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -98,9 +106,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Mysql_8_0
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" })
-	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xmysqlwithmysqldriver.yml" }, services = { "skipper" }, log = "skipper23x/")
-	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mysql_8_0.yml" }, services = { "mysql" }, reuse = true, reset = MysqlSnapshot.class, readiness = MysqlReadiness.class)
+	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xmysqlwithmysqldriver.yml" }, services = { "skipper" }, log = "skipper23x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xmysqlwithmysqldriver.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom23xTo24xWithMysql80(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts23xTo24x(dockerComposeInfo);
 	}
@@ -110,9 +118,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Oracle
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xoracle.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" }, reuse = true, reset = OracleSnapshot.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xoracle.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithOracle(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -120,9 +128,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Oracle
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" })
-	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xoracle.yml" }, services = { "skipper" }, log = "skipper23x/")
-	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/oracle.yml" }, services = { "oracle" }, reuse = true, reset = OracleSnapshot.class)
+	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xoracle.yml" }, services = { "skipper" }, log = "skipper23x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xoracle.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom23xTo24xWithOracle(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts23xTo24x(dockerComposeInfo);
 	}
@@ -132,9 +140,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@MsSql
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmssql.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xmssql.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -142,9 +150,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@MsSql
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" })
-	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xmssql.yml" }, services = { "skipper" }, log = "skipper23x/")
-	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/mssql.yml" }, services = { "mssql" }, reuse = true, reset = MsSqlSnapshot.class)
+	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xmssql.yml" }, services = { "skipper" }, log = "skipper23x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xmssql.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom23xTo24xWithMsSql(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts23xTo24x(dockerComposeInfo);
 	}
@@ -154,9 +162,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Db2
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" }, log = "skipper11x/")
-	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper20x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper11x", order = 1, locations = { "src/test/resources/skipper/skipper11xdb2.yml" }, services = { "skipper" }, log = "skipper11x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper20x", order = 1, locations = { "src/test/resources/skipper/skipper20xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper20x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom11xToLatestWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts(dockerComposeInfo);
 	}
@@ -164,9 +172,9 @@ public class SkipperServerMigrationTests extends AbstractDataflowTests {
 	@Test
 	@Db2
 	@SkipperAll
-	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" })
-	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xdb2.yml" }, services = { "skipper" }, log = "skipper23x/")
-	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper24x/")
+	@DockerCompose(id = "db", order = 0, locations = { "src/test/resources/db/db2.yml" }, services = { "db2" }, reuse = true, reset = Db2Snapshot.class)
+	@DockerCompose(id = "skipper23x", order = 1, locations = { "src/test/resources/skipper/skipper23xdb2.yml" }, services = { "skipper" }, log = "skipper23x/", readiness = SkipperReadiness.class)
+	@DockerCompose(id = "skipper24x", order = 1, locations = { "src/test/resources/skipper/skipper24xdb2.yml" }, services = { "skipper" }, start = false, log = "skipper24x/", readiness = SkipperReadiness.class)
 	public void testMigrationFrom23xTo24xWithDb2(DockerComposeInfo dockerComposeInfo) throws Exception {
 		migrationAsserts23xTo24x(dockerComposeInfo);
 	}
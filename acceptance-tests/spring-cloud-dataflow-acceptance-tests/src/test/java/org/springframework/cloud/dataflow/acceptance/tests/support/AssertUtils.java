@@ -15,9 +15,7 @@
  */
 package org.springframework.cloud.dataflow.acceptance.tests.support;
 
-import static com.jayway.awaitility.Awaitility.with;
-
-import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,28 +32,21 @@ public abstract class AssertUtils {
 	private static final Logger log = LoggerFactory.getLogger(AssertUtils.class);
 
 	public static void assertDataflowServerRunning(String url) {
-		assertServerResponse("Spring Cloud Data Flow", url, 1, TimeUnit.SECONDS, 180,
-				TimeUnit.SECONDS);
+		assertServerResponse("Spring Cloud Data Flow", url);
 	}
 
 	public static void assertSkipperServerRunning(String url) {
-		assertServerResponse("Spring Cloud Skipper Server", url, 1, TimeUnit.SECONDS, 180,
-				TimeUnit.SECONDS);
+		assertServerResponse("Spring Cloud Skipper Server", url);
 	}
 
-	public static void assertServerResponse(String responseContains, String url, long pollInterval,
-			TimeUnit pollTimeUnit, long awaitInterval, TimeUnit awaitTimeUnit) {
-		RestTemplate template = new RestTemplate();
-		with()
-			.pollInterval(pollInterval, pollTimeUnit)
-			.and()
-			.await()
-				.ignoreExceptions()
-				.atMost(awaitInterval, awaitTimeUnit)
-				.until(() -> {
-					String response = template.getForObject(url, String.class);
-					log.debug("Response is {}", response);
-					return response.contains(responseContains);
-				});
+	/**
+	 * Asserts the response of the url contains the expected content. Servers
+	 * are already ready, their clusters waiting for their readiness probes, so
+	 * the url is called once.
+	 */
+	public static void assertServerResponse(String responseContains, String url) {
+		String response = new RestTemplate().getForObject(url, String.class);
+		log.debug("Response is {}", response);
+		assertThat(response).contains(responseContains);
 	}
 }
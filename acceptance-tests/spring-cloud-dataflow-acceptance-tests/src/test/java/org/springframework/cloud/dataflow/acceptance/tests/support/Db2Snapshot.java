@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeSnapshot;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Snapshot of the {@code spring} database of a reused {@code db2} cluster, as
+ * an offline backup in the home directory of the instance owner.
+ */
+public class Db2Snapshot extends DockerComposeSnapshot {
+
+	// the clp exits with 2 on warnings, like restoring over an existing database
+	private static final String OK_ON_WARNING = "; rc=$?; [ $rc -le 2 ]";
+
+	public Db2Snapshot() {
+		super("db2");
+	}
+
+	@Override
+	protected void capture(DockerComposeRule rule) throws Exception {
+		db2(rule, "rm -rf ~/baseline; mkdir ~/baseline; db2 force applications all; db2 deactivate database spring; "
+				+ "db2 backup database spring to ~/baseline" + OK_ON_WARNING);
+	}
+
+	@Override
+	protected void restore(DockerComposeRule rule) throws Exception {
+		db2(rule, "db2 force applications all; db2 deactivate database spring; "
+				+ "db2 restore database spring from ~/baseline replace existing without prompting" + OK_ON_WARNING);
+	}
+
+	private void db2(DockerComposeRule rule, String commands) throws Exception {
+		exec(rule, "su", "-", "db2inst1", "-c", commands);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeSnapshot;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Snapshot of the {@code spring} database of a reused {@code mssql} cluster,
+ * as a full backup in the container.
+ */
+public class MsSqlSnapshot extends DockerComposeSnapshot {
+
+	private static final String BACKUP = "N'/var/opt/mssql/data/spring-baseline.bak'";
+
+	public MsSqlSnapshot() {
+		super("mssql");
+	}
+
+	@Override
+	protected void capture(DockerComposeRule rule) throws Exception {
+		sqlcmd(rule, "BACKUP DATABASE spring TO DISK = " + BACKUP + " WITH INIT");
+	}
+
+	@Override
+	protected void restore(DockerComposeRule rule) throws Exception {
+		sqlcmd(rule, "ALTER DATABASE spring SET SINGLE_USER WITH ROLLBACK IMMEDIATE; "
+				+ "RESTORE DATABASE spring FROM DISK = " + BACKUP + " WITH REPLACE");
+	}
+
+	private void sqlcmd(DockerComposeRule rule, String sql) throws Exception {
+		exec(rule, "/opt/mssql-tools/bin/sqlcmd", "-S", "localhost", "-U", "sa", "-P", "Spring12", "-b", "-Q", sql);
+	}
+}
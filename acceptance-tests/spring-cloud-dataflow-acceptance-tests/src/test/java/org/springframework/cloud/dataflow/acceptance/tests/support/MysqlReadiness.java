@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.LogLineReadiness;
+
+/**
+ * Readiness of a {@code mysql} service, once the server listening on its port
+ * logged being ready for connections, not the one initializing a new database.
+ */
+public class MysqlReadiness extends LogLineReadiness {
+
+	public MysqlReadiness() {
+		this("mysql");
+	}
+
+	protected MysqlReadiness(String service) {
+		super(service, "Version: '.*port: 3306");
+	}
+}
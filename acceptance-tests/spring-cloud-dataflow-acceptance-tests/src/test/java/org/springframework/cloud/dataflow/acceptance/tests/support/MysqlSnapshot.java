@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeSnapshot;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Snapshot of the {@code dataflow} database of a reused {@code mysql} cluster,
+ * dumped to and reloaded from a file in the container.
+ */
+public class MysqlSnapshot extends DockerComposeSnapshot {
+
+	private static final String DUMP = "/tmp/dataflow-baseline.sql";
+
+	public MysqlSnapshot() {
+		this("mysql");
+	}
+
+	protected MysqlSnapshot(String service) {
+		super(service);
+	}
+
+	@Override
+	protected void capture(DockerComposeRule rule) throws Exception {
+		exec(rule, "sh", "-c", "mysqldump -uroot -pspring --add-drop-database --databases dataflow > " + DUMP);
+	}
+
+	@Override
+	protected void restore(DockerComposeRule rule) throws Exception {
+		exec(rule, "sh", "-c", "mysql -uroot -pspring < " + DUMP);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeSnapshot;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Snapshot of the {@code spring} schema of a reused {@code oracle} cluster,
+ * exported with Data Pump. Restoring drops the {@code spring} user and imports
+ * it again, with its grants.
+ */
+public class OracleSnapshot extends DockerComposeSnapshot {
+
+	private static final String LOGIN = "system/oracle@ORCLPDB1";
+	private static final String DUMP = "directory=DATA_PUMP_DIR dumpfile=spring-baseline.dmp";
+
+	public OracleSnapshot() {
+		super("oracle");
+	}
+
+	@Override
+	protected void capture(DockerComposeRule rule) throws Exception {
+		exec(rule, "sh", "-c", "expdp " + LOGIN + " schemas=spring " + DUMP
+				+ " logfile=spring-baseline-exp.log reuse_dumpfiles=y");
+	}
+
+	@Override
+	protected void restore(DockerComposeRule rule) throws Exception {
+		exec(rule, "sh", "-c", "echo 'WHENEVER SQLERROR EXIT FAILURE\nDROP USER spring CASCADE;\nEXIT' | sqlplus -s " + LOGIN);
+		exec(rule, "sh", "-c", "impdp " + LOGIN + " schemas=spring " + DUMP + " logfile=spring-baseline-imp.log");
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.LogLineReadiness;
+
+/**
+ * Readiness of a {@code postgres} service, once the server listening on its
+ * port started, not the one initializing a new database.
+ */
+public class PostgresReadiness extends LogLineReadiness {
+
+	public PostgresReadiness() {
+		super("postgres", "listening on IPv4 address \"0.0.0.0\", port 5432");
+	}
+}
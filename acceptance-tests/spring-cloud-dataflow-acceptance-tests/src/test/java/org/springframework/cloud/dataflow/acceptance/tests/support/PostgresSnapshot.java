@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeSnapshot;
+
+import com.palantir.docker.compose.DockerComposeRule;
+
+/**
+ * Snapshot of the {@code dataflow} database of a reused {@code postgres}
+ * cluster, copied to a {@code dataflow_baseline} database which is then used
+ * as the template to recreate it from.
+ */
+public class PostgresSnapshot extends DockerComposeSnapshot {
+
+	public PostgresSnapshot() {
+		super("postgres");
+	}
+
+	@Override
+	protected void capture(DockerComposeRule rule) throws Exception {
+		psql(rule, "DROP DATABASE IF EXISTS dataflow_baseline");
+		psql(rule, "CREATE DATABASE dataflow_baseline TEMPLATE dataflow");
+	}
+
+	@Override
+	protected void restore(DockerComposeRule rule) throws Exception {
+		psql(rule, "DROP DATABASE IF EXISTS dataflow");
+		psql(rule, "CREATE DATABASE dataflow TEMPLATE dataflow_baseline OWNER spring");
+	}
+
+	private void psql(DockerComposeRule rule, String sql) throws Exception {
+		// each statement on its own, as databases can't be created or dropped in a transaction
+		exec(rule, "psql", "-U", "spring", "-d", "postgres", "-v", "ON_ERROR_STOP=1", "-c", sql);
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.dataflow.acceptance.core.DockerComposeCluster;
+
+/**
+ * Collects the startup times of the servers asserted as running by the tests,
+ * per server version and database, and writes them as a comparison table.
+ *
+ * For each server two times are measured from the start of its compose
+ * cluster: until its readiness probe found it ready, which is the first
+ * successful call to its about endpoint as the probe polls it from the start
+ * of the cluster, and until the whole cluster was ready. Both are taken by the
+ * cluster as it starts, not when the test asserts the server, so a server
+ * started before the later tiers of a test does not include their startups.
+ *
+ * The server version and the database come from the tags of the running test,
+ * e.g. {@code dataflow21x} and {@code mysql_5_7}, or from the cluster id if it
+ * names a version, as in migration tests.
+ *
+ * @see StartupTimingsExtension
+ */
+public abstract class StartupTimings {
+
+	private static final Logger log = LoggerFactory.getLogger(StartupTimings.class);
+
+	private static final String[] DATABASES = { "db2", "mariadb", "mssql", "mysql", "oracle", "postgres" };
+
+	private static final List<Timing> timings = Collections.synchronizedList(new ArrayList<>());
+
+	private static volatile String currentTest = "unknown";
+
+	private static volatile Set<String> currentTags = Collections.emptySet();
+
+	/**
+	 * Sets the test the next timings are recorded for.
+	 *
+	 * @param test the test name
+	 * @param tags the tags of the test
+	 */
+	public static void testStarted(String test, Set<String> tags) {
+		currentTest = test;
+		currentTags = tags;
+	}
+
+	/**
+	 * Records the startup time of a server.
+	 *
+	 * @param server the server, {@code dataflow} or {@code skipper}
+	 * @param id the id of the compose cluster running the server
+	 * @param cluster the compose cluster running the server
+	 * @param service the service of the server in the cluster
+	 */
+	public static void record(String server, String id, DockerComposeCluster cluster, String service) {
+		long start = cluster.getStartTime();
+		long ready = cluster.getReadyTime(service);
+		long clusterReady = cluster.getReadyTime();
+		if (start < 0 || ready < 0 || clusterReady < 0) {
+			log.warn("Service {} of cluster {} of {} not probed at startup, not recording its startup time",
+					service, id, currentTest);
+			return;
+		}
+		Timing timing = new Timing(currentTest, server, version(server, id, currentTags), database(currentTags),
+				ready - start, clusterReady - start);
+		log.info("Startup of {} {} on {}: ready {} ms, cluster ready {} ms", timing.server, timing.version,
+				timing.database, timing.ready, timing.clusterReady);
+		timings.add(timing);
+	}
+
+	/**
+	 * Writes every timing recorded so far as {@code startup-timings.csv}, and a
+	 * table per server of the mean times, versions by databases, as
+	 * {@code startup-timings.md}.
+	 *
+	 * @param directory the directory to write to
+	 */
+	public static void writeReport(Path directory) {
+		List<Timing> recorded;
+		synchronized (timings) {
+			recorded = new ArrayList<>(timings);
+		}
+		if (recorded.isEmpty()) {
+			return;
+		}
+		StringBuilder csv = new StringBuilder(
+				"test,server,version,database,ready_ms,cluster_ready_ms\n");
+		for (Timing timing : recorded) {
+			csv.append(String.format("%s,%s,%s,%s,%d,%d%n", timing.test, timing.server, timing.version,
+					timing.database, timing.ready, timing.clusterReady));
+		}
+		StringBuilder table = new StringBuilder();
+		Map<String, List<Timing>> byServer = recorded.stream()
+				.collect(Collectors.groupingBy(timing -> timing.server, TreeMap::new, Collectors.toList()));
+		byServer.forEach((server, serverTimings) -> {
+			Set<String> databases = serverTimings.stream().map(timing -> timing.database)
+					.collect(Collectors.toCollection(TreeSet::new));
+			Map<String, List<Timing>> byVersion = serverTimings.stream()
+					.collect(Collectors.groupingBy(timing -> timing.version, TreeMap::new, Collectors.toList()));
+			table.append("## ").append(server).append("\n\n");
+			table.append("Mean seconds to ready (to cluster ready), per version and database.\n\n");
+			table.append("| version | ").append(String.join(" | ", databases)).append(" |\n");
+			table.append("|---").append(String.join("", Collections.nCopies(databases.size(), "|---"))).append("|\n");
+			byVersion.forEach((version, versionTimings) -> {
+				table.append("| ").append(version);
+				for (String database : databases) {
+					List<Timing> cell = versionTimings.stream().filter(timing -> timing.database.equals(database))
+							.collect(Collectors.toList());
+					table.append(" | ").append(cell.isEmpty() ? "-"
+							: String.format("%.1f (%.1f)", seconds(cell, false), seconds(cell, true)));
+				}
+				table.append(" |\n");
+			});
+			table.append('\n');
+		});
+		try {
+			Files.createDirectories(directory);
+			Files.write(directory.resolve("startup-timings.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+			Files.write(directory.resolve("startup-timings.md"), table.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("Startup timings written to {}", directory.toAbsolutePath());
+	}
+
+	static String version(String server, String id, Set<String> tags) {
+		Pattern version = Pattern.compile(server + "\\d+x?");
+		if (version.matcher(id).matches()) {
+			return id;
+		}
+		return new TreeSet<>(tags).stream().filter(tag -> version.matcher(tag).matches()).findFirst()
+				.orElse("unknown");
+	}
+
+	static String database(Set<String> tags) {
+		String database = "unknown";
+		for (String tag : tags) {
+			for (String prefix : DATABASES) {
+				if (tag.startsWith(prefix) && (database.equals("unknown") || tag.length() > database.length())) {
+					database = tag;
+				}
+			}
+		}
+		return database;
+	}
+
+	private static double seconds(List<Timing> timings, boolean cluster) {
+		return timings.stream().mapToLong(timing -> cluster ? timing.clusterReady : timing.ready).average()
+				.orElse(0) / 1000;
+	}
+
+	private static class Timing {
+
+		private final String test;
+		private final String server;
+		private final String version;
+		private final String database;
+		private final long ready;
+		private final long clusterReady;
+
+		Timing(String test, String server, String version, String database, long ready, long clusterReady) {
+			this.test = test;
+			this.server = server;
+			this.version = version;
+			this.database = database;
+			this.ready = ready;
+			this.clusterReady = clusterReady;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.tests.support;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * {@code JUnit5} extension telling {@link StartupTimings} which test is running
+ * and writing its report, to {@code build/test-startup-timings}, after each
+ * test class.
+ */
+public class StartupTimingsExtension implements BeforeEachCallback, AfterAllCallback {
+
+	@Override
+	public void beforeEach(ExtensionContext context) throws Exception {
+		StartupTimings.testStarted(
+				context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName(),
+				context.getTags());
+	}
+
+	@Override
+	public void afterAll(ExtensionContext context) throws Exception {
+		StartupTimings.writeReport(Paths.get("build", "test-startup-timings"));
+	}
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.Version;
+
+/**
+ * An embeddable stub of the Data Flow server REST API, serving the subset of the
+ * {@code /streams}, {@code /tasks}, {@code /jobs}, {@code /apps} and {@code /about} HAL
+ * endpoints used by the performance test initializers from an {@link InMemoryDataFlow}.
+ * <p>
+ * Every request but the root resource is delayed by the configured latency and jitter and,
+ * at the configured error rate, answered with an internal server error, so that the
+ * throughput and overhead of the harness itself can be benchmarked locally, without a
+ * platform or a database.
+ */
+public class DataFlowRestStub {
+
+	private static final Logger logger = LoggerFactory.getLogger(DataFlowRestStub.class);
+
+	private static final String CORE_VERSION = "2.11.2";
+
+	/**
+	 * The relations of the root resource the Data Flow client looks up when it is created.
+	 */
+	private static final String[][] ROOT_LINKS = {
+			{ "about", "/about" },
+			{ "apps", "/apps" },
+			{ "completions/stream", "/completions/stream{?start,detailLevel}" },
+			{ "completions/task", "/completions/task{?start,detailLevel}" },
+			{ "streams/definitions", "/streams/definitions" },
+			{ "streams/definitions/definition", "/streams/definitions/{name}" },
+			{ "streams/validation", "/streams/validation/{name}" },
+			{ "streams/deployments", "/streams/deployments" },
+			{ "streams/deployments/{name}", "/streams/deployments/{name}" },
+			{ "streams/deployments/{name}{?reuse-deployment-properties}",
+					"/streams/deployments/{name}{?reuse-deployment-properties}" },
+			{ "streams/deployments/deployment", "/streams/deployments/{name}" },
+			{ "streams/deployments/history/{name}", "/streams/deployments/history/{name}" },
+			{ "streams/deployments/manifest/{name}/{version}", "/streams/deployments/manifest/{name}/{version}" },
+			{ "streams/deployments/platform/list", "/streams/deployments/platform/list" },
+			{ "streams/deployments/rollback/{name}/{version}", "/streams/deployments/rollback/{name}/{version}" },
+			{ "streams/deployments/update/{name}", "/streams/deployments/update/{name}" },
+			{ "streams/deployments/scale/{streamName}/{appName}/instances/{count}",
+					"/streams/deployments/scale/{streamName}/{appName}/instances/{count}" },
+			{ "streams/logs", "/streams/logs" },
+			{ "streams/logs/{streamName}", "/streams/logs/{streamName}" },
+			{ "streams/logs/{streamName}/{appName}", "/streams/logs/{streamName}/{appName}" },
+			{ "runtime/streams", "/runtime/streams{?names}" },
+			{ "runtime/streams/{streamNames}", "/runtime/streams/{streamNames}" },
+			{ "runtime/apps", "/runtime/apps" },
+			{ "runtime/apps/{appId}", "/runtime/apps/{appId}" },
+			{ "runtime/apps/{appId}/instances", "/runtime/apps/{appId}/instances" },
+			{ "runtime/apps/{appId}/instances/{instanceId}", "/runtime/apps/{appId}/instances/{instanceId}" },
+			{ "audit-records", "/audit-records" },
+			{ "tools/parseTaskTextToGraph", "/tools/parseTaskTextToGraph" },
+			{ "tools/convertTaskGraphToText", "/tools/convertTaskGraphToText" },
+			{ "tasks/definitions", "/tasks/definitions" },
+			{ "tasks/definitions/definition", "/tasks/definitions/{name}" },
+			{ "tasks/executions", "/tasks/executions" },
+			{ "tasks/executions/launch", "/tasks/executions/launch" },
+			{ "tasks/executions/external", "/tasks/executions/external/{externalExecutionId}{?platform}" },
+			{ "tasks/executions/name", "/tasks/executions{?name}" },
+			{ "tasks/executions/current", "/tasks/executions/current" },
+			{ "tasks/executions/execution", "/tasks/executions/{id}{?schemaTarget}" },
+			{ "tasks/validation", "/tasks/validation/{name}" },
+			{ "tasks/info/executions", "/tasks/info/executions{?completed,name}" },
+			{ "tasks/logs", "/tasks/logs/{taskExternalExecutionId}{?platformName,schemaTarget}" },
+			{ "tasks/platforms", "/tasks/platforms" },
+			{ "tasks/schedules", "/tasks/schedules" },
+			{ "tasks/schedules/instances", "/tasks/schedules/instances/{taskDefinitionName}" },
+			{ "jobs/executions", "/jobs/executions" },
+			{ "jobs/executions/name", "/jobs/executions{?name}" },
+			{ "jobs/executions/status", "/jobs/executions{?status}" },
+			{ "jobs/executions/execution", "/jobs/executions/{id}{?schemaTarget}" },
+			{ "jobs/executions/execution/steps", "/jobs/executions/{jobExecutionId}/steps" },
+			{ "jobs/executions/execution/steps/step", "/jobs/executions/{jobExecutionId}/steps/{stepId}" },
+			{ "jobs/executions/execution/steps/step/progress", "/jobs/executions/{jobExecutionId}/steps/{stepId}/progress" },
+			{ "jobs/instances/name", "/jobs/instances{?name}" },
+			{ "jobs/instances/instance", "/jobs/instances/{id}" },
+			{ "jobs/thinexecutions", "/jobs/thinexecutions" },
+			{ "jobs/thinexecutions/name", "/jobs/thinexecutions{?name}" },
+			{ "jobs/thinexecutions/jobInstanceId", "/jobs/thinexecutions{?jobInstanceId}" },
+			{ "jobs/thinexecutions/taskExecutionId", "/jobs/thinexecutions{?taskExecutionId}" },
+			{ "schema/versions", "/schema/versions" },
+			{ "schema/targets", "/schema/targets" } };
+
+	private final DataFlowRestStubProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	private final InMemoryDataFlow dataFlow;
+
+	private final List<Route> routes = new ArrayList<>();
+
+	private final AtomicLong requests = new AtomicLong();
+
+	private final AtomicLong injectedErrors = new AtomicLong();
+
+	private HttpServer server;
+
+	private ExecutorService executor;
+
+	public DataFlowRestStub(DataFlowRestStubProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.dataFlow = new InMemoryDataFlow(properties);
+		registerRoutes();
+	}
+
+	public synchronized void start() throws IOException {
+		if (server != null) {
+			return;
+		}
+		executor = Executors.newFixedThreadPool(properties.getThreads());
+		server = HttpServer.create(new InetSocketAddress(properties.getPort()), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+		logger.info(String.format("Data Flow REST stub listening on %s (latency %s, jitter %s, error rate %.3f)",
+				getUri(), properties.getLatency(), properties.getLatencyJitter(), properties.getErrorRate()));
+	}
+
+	public synchronized void stop() {
+		if (server == null) {
+			return;
+		}
+		server.stop(0);
+		executor.shutdownNow();
+		server = null;
+		logger.info(String.format("Data Flow REST stub stopped after %d requests, %d injected errors",
+				requests.get(), injectedErrors.get()));
+	}
+
+	/**
+	 * @return the port the stub listens on, useful when started on port 0.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * @return the URI to use as {@code spring.cloud.dataflow.client.server-uri}.
+	 */
+	public String getUri() {
+		return "http://localhost:" + getPort();
+	}
+
+	public InMemoryDataFlow getDataFlow() {
+		return dataFlow;
+	}
+
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	public long getInjectedErrorCount() {
+		return injectedErrors.get();
+	}
+
+	private void registerRoutes() {
+		route("GET", "/", request -> root(request.baseUri));
+		route("GET", "/about", request -> about(request.baseUri));
+
+		route("GET", "/streams/definitions", request -> dataFlow.streamDefinitions(request));
+		route("POST", "/streams/definitions", request -> dataFlow.createStream(request));
+		route("DELETE", "/streams/definitions", request -> dataFlow.destroyStreams());
+		route("GET", "/streams/definitions/([^/]+)", request -> dataFlow.streamDefinition(request));
+		route("DELETE", "/streams/definitions/([^/]+)", request -> dataFlow.destroyStream(request));
+		route("POST", "/streams/deployments/([^/]+)", request -> dataFlow.deployStream(request));
+		route("DELETE", "/streams/deployments", request -> dataFlow.undeployStreams());
+		route("DELETE", "/streams/deployments/([^/]+)", request -> dataFlow.undeployStream(request));
+		route("GET", "/streams/deployments/([^/]+)", request -> dataFlow.streamDeployment(request));
+		route("GET", "/streams/deployments/history/([^/]+)", request -> Collections.emptyList());
+		route("GET", "/streams/logs/([^/]+)", request -> Collections.singletonMap("logs", Collections.emptyMap()));
+
+		route("GET", "/tasks/definitions", request -> dataFlow.taskDefinitions(request));
+		route("POST", "/tasks/definitions", request -> dataFlow.createTask(request));
+		route("DELETE", "/tasks/definitions", request -> dataFlow.destroyTasks());
+		route("GET", "/tasks/definitions/([^/]+)", request -> dataFlow.taskDefinition(request));
+		route("DELETE", "/tasks/definitions/([^/]+)", request -> dataFlow.destroyTask(request));
+		route("POST", "/tasks/executions/launch", request -> dataFlow.launchTask(request));
+		route("GET", "/tasks/executions", request -> dataFlow.taskExecutions(request));
+		route("GET", "/tasks/executions/current", request -> dataFlow.currentTaskExecutions());
+		route("GET", "/tasks/executions/([0-9]+)", request -> dataFlow.taskExecution(request));
+		route("DELETE", "/tasks/executions/([0-9,]+)", request -> dataFlow.deleteTaskExecutions(request));
+
+		route("GET", "/jobs/thinexecutions", request -> dataFlow.jobExecutions(request, true));
+		route("GET", "/jobs/executions", request -> dataFlow.jobExecutions(request, false));
+		route("GET", "/jobs/executions/([0-9]+)", request -> dataFlow.jobExecution(request));
+
+		route("GET", "/apps", request -> dataFlow.apps(request));
+		route("POST", "/apps", request -> dataFlow.importApps(request));
+		route("DELETE", "/apps", request -> dataFlow.unregisterApps());
+		route("GET", "/apps/([^/]+)/([^/]+)(?:/([^/]+))?", request -> dataFlow.app(request));
+		route("POST", "/apps/([^/]+)/([^/]+)(?:/([^/]+))?", request -> dataFlow.registerApp(request));
+		route("DELETE", "/apps/([^/]+)/([^/]+)(?:/([^/]+))?", request -> dataFlow.unregisterApp(request));
+
+		route("GET", "/schema/versions", request -> dataFlow.schemaVersions());
+		route("GET", "/schema/targets", request -> dataFlow.schemaTargets());
+	}
+
+	private void route(String method, String path, Handler handler) {
+		routes.add(new Route(method, Pattern.compile(path), handler));
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		try {
+			Request request = readRequest(exchange);
+			if (!"/".equals(request.path)) {
+				injectLatency();
+				if (ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+					injectedErrors.incrementAndGet();
+					respond(exchange, 500, errors("InjectedError", "Error injected by the Data Flow REST stub"));
+					return;
+				}
+			}
+			respond(exchange, request);
+		}
+		catch (StubException e) {
+			respond(exchange, e.getStatus(), errors(e.getLogref(), e.getMessage()));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			respond(exchange, 503, errors("Interrupted", "The Data Flow REST stub is stopping"));
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI(), e);
+			respond(exchange, 500, errors(e.getClass().getSimpleName(), String.valueOf(e.getMessage())));
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private void respond(HttpExchange exchange, Request request) throws IOException {
+		boolean pathMatched = false;
+		for (Route route : routes) {
+			Matcher matcher = route.pattern.matcher(request.path);
+			if (!matcher.matches()) {
+				continue;
+			}
+			pathMatched = true;
+			if (route.method.equals(request.method)) {
+				for (int group = 1; group <= matcher.groupCount(); group++) {
+					String variable = matcher.group(group);
+					request.pathVariables.add(variable == null ? null : URLDecoder.decode(variable, "UTF-8"));
+				}
+				Object body = route.handler.handle(request);
+				respond(exchange, "POST".equals(request.method) && body != null ? 201 : 200, body);
+				return;
+			}
+		}
+		throw pathMatched ? new StubException(405, "HttpRequestMethodNotSupportedException",
+				"Request method '" + request.method + "' not supported")
+				: new StubException(404, "NoHandlerFoundException", "No handler found for " + request.path);
+	}
+
+	private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/hal+json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private void injectLatency() throws InterruptedException {
+		long latencyNanos = properties.getLatency().toNanos();
+		long jitterNanos = properties.getLatencyJitter().toNanos();
+		if (jitterNanos > 0) {
+			latencyNanos += ThreadLocalRandom.current().nextLong(jitterNanos);
+		}
+		if (latencyNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(latencyNanos);
+		}
+	}
+
+	private Request readRequest(HttpExchange exchange) throws IOException {
+		Request request = new Request();
+		request.method = exchange.getRequestMethod();
+		String path = exchange.getRequestURI().getRawPath();
+		request.path = path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+		request.baseUri = "http://" + exchange.getRequestHeaders().getFirst("Host");
+		parseParameters(exchange.getRequestURI().getRawQuery(), request.parameters);
+		String body = readBody(exchange.getRequestBody());
+		if (!body.isEmpty()) {
+			String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+			if (contentType != null && contentType.contains("json")) {
+				request.body = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {
+				});
+			}
+			else {
+				parseParameters(body, request.parameters);
+			}
+		}
+		return request;
+	}
+
+	private static String readBody(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void parseParameters(String query, Map<String, List<String>> parameters)
+			throws UnsupportedEncodingException {
+		if (query == null || query.isEmpty()) {
+			return;
+		}
+		for (String pair : query.split("&")) {
+			int separator = pair.indexOf('=');
+			String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), "UTF-8");
+			String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), "UTF-8");
+			parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+		}
+	}
+
+	static Map<String, Object> errors(String logref, String message) {
+		Map<String, Object> error = new LinkedHashMap<>();
+		error.put("logref", logref);
+		error.put("message", message);
+		error.put("_links", Collections.singletonMap("self", Collections.singletonMap("href", "/")));
+		return Collections.singletonMap("_embedded",
+				Collections.singletonMap("errors", Collections.singletonList(error)));
+	}
+
+	private static Map<String, Object> root(String baseUri) {
+		Map<String, Object> links = new LinkedHashMap<>();
+		InMemoryDataFlow.link(links, "self", baseUri + "/");
+		for (String[] link : ROOT_LINKS) {
+			InMemoryDataFlow.link(links, link[0], baseUri + link[1]);
+		}
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("apiRevision", Version.REVISION);
+		root.put("_links", links);
+		return root;
+	}
+
+	private static Map<String, Object> about(String baseUri) {
+		Map<String, Object> featureInfo = new LinkedHashMap<>();
+		featureInfo.put("analyticsEnabled", false);
+		featureInfo.put("streamsEnabled", true);
+		featureInfo.put("tasksEnabled", true);
+		featureInfo.put("schedulesEnabled", false);
+		featureInfo.put("monitoringDashboardType", "NONE");
+		Map<String, Object> versionInfo = new LinkedHashMap<>();
+		versionInfo.put("implementation", dependency("spring-cloud-dataflow-rest-stub", CORE_VERSION));
+		versionInfo.put("core", dependency("Spring Cloud Data Flow Core", CORE_VERSION));
+		versionInfo.put("dashboard", dependency("Spring Cloud Dataflow UI", CORE_VERSION));
+		versionInfo.put("shell", dependency("Spring Cloud Data Flow Shell", CORE_VERSION));
+		Map<String, Object> securityInfo = new LinkedHashMap<>();
+		securityInfo.put("authenticationEnabled", false);
+		securityInfo.put("authenticated", false);
+		securityInfo.put("roles", Collections.emptyList());
+		Map<String, Object> about = new LinkedHashMap<>();
+		about.put("featureInfo", featureInfo);
+		about.put("versionInfo", versionInfo);
+		about.put("securityInfo", securityInfo);
+		about.put("runtimeEnvironment", Collections.emptyMap());
+		about.put("monitoringDashboardInfo", Collections.emptyMap());
+		about.put("_links", InMemoryDataFlow.links(baseUri + "/about"));
+		return about;
+	}
+
+	private static Map<String, Object> dependency(String name, String version) {
+		Map<String, Object> dependency = new LinkedHashMap<>();
+		dependency.put("name", name);
+		dependency.put("version", version);
+		return dependency;
+	}
+
+	@FunctionalInterface
+	interface Handler {
+
+		Object handle(Request request);
+
+	}
+
+	/**
+	 * A parsed request: the path variables of the matched route, the query and form
+	 * parameters, and the JSON body if any.
+	 */
+	static class Request {
+
+		String method;
+
+		String path;
+
+		String baseUri;
+
+		final List<String> pathVariables = new ArrayList<>();
+
+		final Map<String, List<String>> parameters = new LinkedHashMap<>();
+
+		Map<String, Object> body = Collections.emptyMap();
+
+		String pathVariable(int index) {
+			return index < pathVariables.size() ? pathVariables.get(index) : null;
+		}
+
+		String parameter(String name) {
+			List<String> values = parameters.get(name);
+			return values == null || values.isEmpty() ? null : values.get(0);
+		}
+
+		int intParameter(String name, int defaultValue) {
+			String value = parameter(name);
+			if (value == null || value.isEmpty()) {
+				return defaultValue;
+			}
+			try {
+				return Integer.parseInt(value);
+			}
+			catch (NumberFormatException e) {
+				throw new StubException(400, "NumberFormatException", "Invalid " + name + ": " + value);
+			}
+		}
+
+	}
+
+	private static class Route {
+
+		final String method;
+
+		final Pattern pattern;
+
+		final Handler handler;
+
+		Route(String method, Pattern pattern, Handler handler) {
+			this.method = method;
+			this.pattern = pattern;
+			this.handler = handler;
+		}
+
+	}
+
+	/**
+	 * An error answered as a VndErrors body with the given status.
+	 */
+	static class StubException extends RuntimeException {
+
+		private final int status;
+
+		private final String logref;
+
+		StubException(int status, String logref, String message) {
+			super(message);
+			this.status = status;
+			this.logref = logref;
+		}
+
+		int getStatus() {
+			return status;
+		}
+
+		String getLogref() {
+			return logref;
+		}
+
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Runs the {@link DataFlowRestStub} standalone, so that the performance test initializers
+ * can be pointed at it with {@code spring.cloud.dataflow.client.server-uri}.
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(DataFlowRestStubProperties.class)
+public class DataFlowRestStubApplication {
+
+	public static void main(String... args) {
+		new SpringApplicationBuilder(DataFlowRestStubApplication.class).web(WebApplicationType.NONE).run(args);
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	public DataFlowRestStub dataFlowRestStub(DataFlowRestStubProperties properties, ObjectMapper objectMapper) {
+		return new DataFlowRestStub(properties, objectMapper);
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stub;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "org.springframework.cloud.dataflow.stub")
+public class DataFlowRestStubProperties {
+
+	/**
+	 * The port the stub listens on. If 0 a free port is picked.
+	 */
+	private Integer port = 9393;
+
+	/**
+	 * The number of threads serving requests.
+	 */
+	private Integer threads = 16;
+
+	/**
+	 * The latency added to every request, except the root resource.
+	 */
+	private Duration latency = Duration.ZERO;
+
+	/**
+	 * The maximum random latency added on top of the fixed latency.
+	 */
+	private Duration latencyJitter = Duration.ZERO;
+
+	/**
+	 * The fraction, between 0 and 1, of requests, except the root resource, answered with an internal server error.
+	 */
+	private Double errorRate = 0.0;
+
+	/**
+	 * How long a stream stays deploying before being reported as deployed.
+	 */
+	private Duration streamDeployDelay = Duration.ZERO;
+
+	/**
+	 * How long a launched task execution runs before completing.
+	 */
+	private Duration taskDuration = Duration.ofSeconds(1);
+
+	/**
+	 * The fraction, between 0 and 1, of task executions that complete with a non zero exit code.
+	 */
+	private Double taskFailureRate = 0.0;
+
+	/**
+	 * The maximum number of running task executions, launches beyond it are rejected. If 0 launches are not limited.
+	 */
+	private Integer maxConcurrentTasks = 0;
+
+	/**
+	 * The number of job executions created for each task execution.
+	 */
+	private Integer jobsPerTaskExecution = 1;
+
+	public Integer getPort() {
+		return port;
+	}
+
+	public void setPort(Integer port) {
+		this.port = port;
+	}
+
+	public Integer getThreads() {
+		return threads;
+	}
+
+	public void setThreads(Integer threads) {
+		this.threads = threads;
+	}
+
+	public Duration getLatency() {
+		return latency;
+	}
+
+	public void setLatency(Duration latency) {
+		this.latency = latency;
+	}
+
+	public Duration getLatencyJitter() {
+		return latencyJitter;
+	}
+
+	public void setLatencyJitter(Duration latencyJitter) {
+		this.latencyJitter = latencyJitter;
+	}
+
+	public Double getErrorRate() {
+		return errorRate;
+	}
+
+	public void setErrorRate(Double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	public Duration getStreamDeployDelay() {
+		return streamDeployDelay;
+	}
+
+	public void setStreamDeployDelay(Duration streamDeployDelay) {
+		this.streamDeployDelay = streamDeployDelay;
+	}
+
+	public Duration getTaskDuration() {
+		return taskDuration;
+	}
+
+	public void setTaskDuration(Duration taskDuration) {
+		this.taskDuration = taskDuration;
+	}
+
+	public Double getTaskFailureRate() {
+		return taskFailureRate;
+	}
+
+	public void setTaskFailureRate(Double taskFailureRate) {
+		this.taskFailureRate = taskFailureRate;
+	}
+
+	public Integer getMaxConcurrentTasks() {
+		return maxConcurrentTasks;
+	}
+
+	public void setMaxConcurrentTasks(Integer maxConcurrentTasks) {
+		this.maxConcurrentTasks = maxConcurrentTasks;
+	}
+
+	public Integer getJobsPerTaskExecution() {
+		return jobsPerTaskExecution;
+	}
+
+	public void setJobsPerTaskExecution(Integer jobsPerTaskExecution) {
+		this.jobsPerTaskExecution = jobsPerTaskExecution;
+	}
+}
@@ -0,0 +1,749 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stub;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.cloud.dataflow.perf.test.stub.DataFlowRestStub.Request;
+import org.springframework.cloud.dataflow.perf.test.stub.DataFlowRestStub.StubException;
+
+/**
+ * The in-memory state behind {@link DataFlowRestStub}: stream, task and app definitions,
+ * stream deployments, task executions and the job executions they create, rendered as the
+ * HAL resources the Data Flow client expects.
+ * <p>
+ * Nothing is actually deployed or run. A deployed stream is reported as deploying for the
+ * configured deploy delay, a launched task execution runs for the configured task duration
+ * and then ends, failing at the configured rate, and its job executions follow it. Composed
+ * task definitions get their child task definitions, but only the composed task execution is
+ * simulated.
+ */
+public class InMemoryDataFlow {
+
+	static final String SCHEMA_TARGET = "boot2";
+
+	private static final Pattern COMPOSED_TASK_LABEL = Pattern.compile("([\\w-]+)\\s*:\\s*([\\w-]+)");
+
+	private static final Pattern VERSION = Pattern.compile(".*:([^:/]+)$");
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+
+	private final DataFlowRestStubProperties properties;
+
+	private final NavigableMap<String, StreamState> streams = new ConcurrentSkipListMap<>();
+
+	private final NavigableMap<String, TaskState> tasks = new ConcurrentSkipListMap<>();
+
+	private final NavigableMap<Long, TaskExecutionState> taskExecutions = new ConcurrentSkipListMap<>(
+			Comparator.reverseOrder());
+
+	private final NavigableMap<Long, JobExecutionState> jobExecutions = new ConcurrentSkipListMap<>(
+			Comparator.reverseOrder());
+
+	private final NavigableMap<String, AppState> apps = new ConcurrentSkipListMap<>();
+
+	private final AtomicLong taskExecutionIds = new AtomicLong();
+
+	private final AtomicLong jobExecutionIds = new AtomicLong();
+
+	public InMemoryDataFlow(DataFlowRestStubProperties properties) {
+		this.properties = properties;
+	}
+
+	// Streams
+
+	Object streamDefinitions(Request request) {
+		String search = request.parameter("search");
+		List<StreamState> matching = streams.values().stream()
+				.filter(stream -> search == null || stream.name.contains(search))
+				.collect(Collectors.toList());
+		return page(request, "streamDefinitionResourceList", matching, this::streamDefinitionResource);
+	}
+
+	Object createStream(Request request) {
+		String name = required(request, "name");
+		if (streams.putIfAbsent(name, new StreamState(name, required(request, "definition"),
+				request.parameter("description"))) != null) {
+			throw new StubException(409, "DuplicateStreamDefinitionException",
+					"Cannot create stream " + name + " because another one has already been created with the same name");
+		}
+		if (Boolean.parseBoolean(request.parameter("deploy"))) {
+			streams.get(name).deploy(System.currentTimeMillis());
+		}
+		return streamDefinitionResource(request.baseUri, streams.get(name));
+	}
+
+	Object streamDefinition(Request request) {
+		return streamDefinitionResource(request.baseUri, stream(request.pathVariable(0)));
+	}
+
+	Object destroyStream(Request request) {
+		if (streams.remove(request.pathVariable(0)) == null) {
+			throw noSuchStream(request.pathVariable(0));
+		}
+		return null;
+	}
+
+	Object destroyStreams() {
+		streams.clear();
+		return null;
+	}
+
+	Object deployStream(Request request) {
+		stream(request.pathVariable(0)).deploy(System.currentTimeMillis());
+		return null;
+	}
+
+	Object undeployStream(Request request) {
+		stream(request.pathVariable(0)).deployedAt = 0;
+		return null;
+	}
+
+	Object undeployStreams() {
+		streams.values().forEach(stream -> stream.deployedAt = 0);
+		return null;
+	}
+
+	Object streamDeployment(Request request) {
+		StreamState stream = stream(request.pathVariable(0));
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("streamName", stream.name);
+		resource.put("dslText", stream.dsl);
+		resource.put("description", stream.description);
+		resource.put("status", streamStatus(stream));
+		resource.put("deploymentProperties", "{}");
+		resource.put("_links", links(request.baseUri + "/streams/deployments/" + stream.name));
+		return resource;
+	}
+
+	private Map<String, Object> streamDefinitionResource(String baseUri, StreamState stream) {
+		String status = streamStatus(stream);
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("name", stream.name);
+		resource.put("dslText", stream.dsl);
+		resource.put("originalDslText", stream.dsl);
+		resource.put("description", stream.description);
+		resource.put("status", status);
+		resource.put("statusDescription", "The stream is " + status);
+		resource.put("_links", links(baseUri + "/streams/definitions/" + stream.name));
+		return resource;
+	}
+
+	private String streamStatus(StreamState stream) {
+		long deployedAt = stream.deployedAt;
+		if (deployedAt == 0) {
+			return "undeployed";
+		}
+		return System.currentTimeMillis() - deployedAt < properties.getStreamDeployDelay().toMillis() ? "deploying"
+				: "deployed";
+	}
+
+	private StreamState stream(String name) {
+		StreamState stream = streams.get(name);
+		if (stream == null) {
+			throw noSuchStream(name);
+		}
+		return stream;
+	}
+
+	private static StubException noSuchStream(String name) {
+		return new StubException(404, "NoSuchStreamDefinitionException",
+				"Could not find stream definition named " + name);
+	}
+
+	// Tasks
+
+	Object taskDefinitions(Request request) {
+		String search = request.parameter("search");
+		List<TaskState> matching = tasks.values().stream()
+				.filter(task -> search == null || task.name.contains(search))
+				.collect(Collectors.toList());
+		return page(request, "taskDefinitionResourceList", matching, this::taskDefinitionResource);
+	}
+
+	Object createTask(Request request) {
+		String name = required(request, "name");
+		String definition = required(request, "definition");
+		TaskState task = new TaskState(name, definition, request.parameter("description"), false);
+		if (tasks.putIfAbsent(name, task) != null) {
+			throw new StubException(409, "DuplicateTaskException",
+					"Cannot register task " + name + " because another one has already been registered with the same name");
+		}
+		if (task.composed) {
+			Matcher matcher = COMPOSED_TASK_LABEL.matcher(definition);
+			while (matcher.find()) {
+				String childName = name + "-" + matcher.group(1);
+				tasks.put(childName, new TaskState(childName, matcher.group(2), null, true));
+			}
+		}
+		return taskDefinitionResource(request.baseUri, task);
+	}
+
+	Object taskDefinition(Request request) {
+		return taskDefinitionResource(request.baseUri, task(request.pathVariable(0)));
+	}
+
+	Object destroyTask(Request request) {
+		TaskState task = task(request.pathVariable(0));
+		boolean cleanup = Boolean.parseBoolean(request.parameter("cleanup"));
+		List<String> names = new ArrayList<>();
+		names.add(task.name);
+		if (task.composed) {
+			tasks.tailMap(task.name + "-").keySet().stream()
+					.filter(name -> name.startsWith(task.name + "-") && tasks.get(name).composedTaskElement)
+					.forEach(names::add);
+		}
+		for (String name : names) {
+			tasks.remove(name);
+			if (cleanup) {
+				removeTaskExecutions(execution -> execution.taskName.equals(name));
+			}
+		}
+		return null;
+	}
+
+	Object destroyTasks() {
+		tasks.clear();
+		return null;
+	}
+
+	synchronized Object launchTask(Request request) {
+		TaskState task = task(required(request, "name"));
+		long now = System.currentTimeMillis();
+		int maxConcurrentTasks = properties.getMaxConcurrentTasks();
+		if (maxConcurrentTasks > 0 && runningTaskExecutions(now) >= maxConcurrentTasks) {
+			throw new StubException(409, "TaskLimitExceededException", String.format(
+					"The maximum concurrent task executions [%d] is at its limit.", maxConcurrentTasks));
+		}
+		long executionId = taskExecutionIds.incrementAndGet();
+		boolean failed = ThreadLocalRandom.current().nextDouble() < properties.getTaskFailureRate();
+		String arguments = request.parameter("arguments");
+		TaskExecutionState execution = new TaskExecutionState(executionId, task.name, now,
+				now + properties.getTaskDuration().toMillis(), failed,
+				arguments == null || arguments.trim().isEmpty() ? Collections.emptyList()
+						: Arrays.asList(arguments.trim().split("\\s+")));
+		for (int i = 0; i < properties.getJobsPerTaskExecution(); i++) {
+			long jobExecutionId = jobExecutionIds.incrementAndGet();
+			jobExecutions.put(jobExecutionId, new JobExecutionState(jobExecutionId, "job" + i, execution,
+					i == properties.getJobsPerTaskExecution() - 1));
+			execution.jobExecutionIds.add(jobExecutionId);
+		}
+		taskExecutions.put(executionId, execution);
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("executionId", executionId);
+		resource.put("schemaTarget", SCHEMA_TARGET);
+		return resource;
+	}
+
+	Object taskExecutions(Request request) {
+		String name = request.parameter("name");
+		List<TaskExecutionState> matching = taskExecutions.values().stream()
+				.filter(execution -> name == null || execution.taskName.equals(name))
+				.collect(Collectors.toList());
+		if (ascending(request)) {
+			Collections.reverse(matching);
+		}
+		return page(request, "taskExecutionResourceList", matching, this::taskExecutionResource);
+	}
+
+	Object taskExecution(Request request) {
+		TaskExecutionState execution = taskExecutions.get(Long.parseLong(request.pathVariable(0)));
+		if (execution == null) {
+			throw noSuchTaskExecution(request.pathVariable(0));
+		}
+		return taskExecutionResource(request.baseUri, execution);
+	}
+
+	Object currentTaskExecutions() {
+		Map<String, Object> current = new LinkedHashMap<>();
+		current.put("name", "default");
+		current.put("type", "Stub");
+		current.put("maximumTaskExecutions", properties.getMaxConcurrentTasks() > 0
+				? properties.getMaxConcurrentTasks() : Integer.MAX_VALUE);
+		current.put("runningExecutionCount", runningTaskExecutions(System.currentTimeMillis()));
+		return Collections.singletonList(current);
+	}
+
+	Object deleteTaskExecutions(Request request) {
+		List<Long> ids = Arrays.stream(request.pathVariable(0).split(",")).map(Long::valueOf)
+				.collect(Collectors.toList());
+		for (Long id : ids) {
+			if (!taskExecutions.containsKey(id)) {
+				throw noSuchTaskExecution(String.valueOf(id));
+			}
+		}
+		List<String> actions = request.parameters.getOrDefault("action", Collections.singletonList("CLEANUP"));
+		if (actions.stream().anyMatch(action -> action.contains("REMOVE_DATA"))) {
+			removeTaskExecutions(execution -> ids.contains(execution.executionId));
+		}
+		return null;
+	}
+
+	private Map<String, Object> taskDefinitionResource(String baseUri, TaskState task) {
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("name", task.name);
+		resource.put("dslText", task.dsl);
+		resource.put("description", task.description);
+		resource.put("composed", task.composed);
+		resource.put("composedTaskElement", task.composedTaskElement);
+		resource.put("status", "UNKNOWN");
+		resource.put("_links", links(baseUri + "/tasks/definitions/" + task.name));
+		return resource;
+	}
+
+	private Map<String, Object> taskExecutionResource(String baseUri, TaskExecutionState execution) {
+		boolean ended = execution.endTime <= System.currentTimeMillis();
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("executionId", execution.executionId);
+		resource.put("exitCode", ended ? (execution.failed ? 1 : 0) : null);
+		resource.put("taskName", execution.taskName);
+		resource.put("startTime", execution.startTime);
+		resource.put("endTime", ended ? execution.endTime : null);
+		resource.put("exitMessage", ended && execution.failed ? "Task failed" : null);
+		resource.put("arguments", execution.arguments);
+		resource.put("jobExecutionIds", execution.jobExecutionIds);
+		resource.put("errorMessage", ended && execution.failed ? "Failure injected by the Data Flow REST stub" : null);
+		resource.put("externalExecutionId", "stub-" + execution.executionId);
+		resource.put("parentExecutionId", null);
+		resource.put("resourceUrl", null);
+		resource.put("appProperties", Collections.emptyMap());
+		resource.put("deploymentProperties", Collections.emptyMap());
+		resource.put("platformName", "default");
+		resource.put("taskExecutionStatus", !ended ? "RUNNING" : execution.failed ? "ERROR" : "COMPLETE");
+		resource.put("schemaTarget", SCHEMA_TARGET);
+		resource.put("_links", links(baseUri + "/tasks/executions/" + execution.executionId));
+		return resource;
+	}
+
+	private long runningTaskExecutions(long now) {
+		return taskExecutions.values().stream().filter(execution -> execution.endTime > now).count();
+	}
+
+	private void removeTaskExecutions(Predicate<TaskExecutionState> predicate) {
+		taskExecutions.values().removeIf(predicate);
+		jobExecutions.values().removeIf(jobExecution -> predicate.test(jobExecution.taskExecution));
+	}
+
+	private TaskState task(String name) {
+		TaskState task = tasks.get(name);
+		if (task == null) {
+			throw new StubException(404, "NoSuchTaskDefinitionException",
+					"Could not find task definition named " + name);
+		}
+		return task;
+	}
+
+	private static StubException noSuchTaskExecution(String id) {
+		return new StubException(404, "NoSuchTaskExecutionException",
+				"Could not find TaskExecution with id " + id + " for schema target " + SCHEMA_TARGET);
+	}
+
+	// Jobs
+
+	Object jobExecutions(Request request, boolean thin) {
+		String name = request.parameter("name");
+		List<JobExecutionState> matching = jobExecutions.values().stream()
+				.filter(jobExecution -> name == null || jobExecution.name.equals(name))
+				.collect(Collectors.toList());
+		return page(request, thin ? "jobExecutionThinResourceList" : "jobExecutionResourceList", matching,
+				(baseUri, jobExecution) -> jobExecutionResource(baseUri, jobExecution, thin));
+	}
+
+	Object jobExecution(Request request) {
+		JobExecutionState jobExecution = jobExecutions.get(Long.parseLong(request.pathVariable(0)));
+		if (jobExecution == null) {
+			throw new StubException(404, "NoSuchJobExecutionException",
+					"No JobExecution with id=" + request.pathVariable(0));
+		}
+		return jobExecutionResource(request.baseUri, jobExecution, false);
+	}
+
+	private Map<String, Object> jobExecutionResource(String baseUri, JobExecutionState jobExecution, boolean thin) {
+		TaskExecutionState taskExecution = jobExecution.taskExecution;
+		boolean ended = taskExecution.endTime <= System.currentTimeMillis();
+		String status = !ended ? "STARTED" : taskExecution.failed && jobExecution.last ? "FAILED" : "COMPLETED";
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("executionId", jobExecution.executionId);
+		resource.put("name", jobExecution.name);
+		resource.put("taskExecutionId", taskExecution.executionId);
+		resource.put("instanceId", jobExecution.executionId);
+		resource.put("stepExecutionCount", 1);
+		resource.put("status", status);
+		resource.put("startDate", taskExecution.startTime);
+		resource.put("jobParametersString", "");
+		resource.put("restartable", ended && taskExecution.failed);
+		resource.put("abandonable", !ended);
+		resource.put("stoppable", !ended);
+		resource.put("defined", true);
+		resource.put("schemaTarget", SCHEMA_TARGET);
+		if (!thin) {
+			Map<String, Object> jobInstance = new LinkedHashMap<>();
+			jobInstance.put("id", jobExecution.executionId);
+			jobInstance.put("jobName", jobExecution.name);
+			jobInstance.put("version", 0);
+			Map<String, Object> exitStatus = new LinkedHashMap<>();
+			exitStatus.put("exitCode", ended ? status : "UNKNOWN");
+			exitStatus.put("exitDescription", "");
+			Map<String, Object> batchJobExecution = new LinkedHashMap<>();
+			batchJobExecution.put("id", jobExecution.executionId);
+			batchJobExecution.put("version", 0);
+			batchJobExecution.put("jobInstance", jobInstance);
+			batchJobExecution.put("status", status);
+			batchJobExecution.put("startTime", taskExecution.startTime);
+			batchJobExecution.put("endTime", ended ? taskExecution.endTime : null);
+			batchJobExecution.put("exitStatus", exitStatus);
+			batchJobExecution.put("jobParameters", Collections.singletonMap("parameters", Collections.emptyMap()));
+			batchJobExecution.put("stepExecutions", Collections.emptyList());
+			resource.put("jobId", jobExecution.executionId);
+			resource.put("jobExecution", batchJobExecution);
+		}
+		resource.put("_links", links(baseUri + "/jobs/executions/" + jobExecution.executionId));
+		return resource;
+	}
+
+	// Apps
+
+	Object apps(Request request) {
+		String type = request.parameter("type");
+		String search = request.parameter("search");
+		List<AppState> matching = apps.values().stream()
+				.filter(app -> app.defaultVersion)
+				.filter(app -> type == null || app.type.equals(type))
+				.filter(app -> search == null || app.name.contains(search))
+				.collect(Collectors.toList());
+		return page(request, "appRegistrationResourceList", matching, this::appResource);
+	}
+
+	Object app(Request request) {
+		AppState app = findApp(request.pathVariable(0), request.pathVariable(1), request.pathVariable(2));
+		Map<String, Object> resource = appResource(request.baseUri, app);
+		resource.put("options", Collections.emptyList());
+		resource.put("inboundPortNames", Collections.emptyList());
+		resource.put("outboundPortNames", Collections.emptyList());
+		resource.put("optionGroups", Collections.emptyMap());
+		return resource;
+	}
+
+	Object registerApp(Request request) {
+		String uri = required(request, "uri");
+		String version = request.pathVariable(2) != null ? request.pathVariable(2) : version(uri);
+		boolean force = Boolean.parseBoolean(request.parameter("force"));
+		return appResource(request.baseUri,
+				register(request.pathVariable(0), request.pathVariable(1), version, uri, force));
+	}
+
+	Object importApps(Request request) {
+		String properties = request.parameter("apps");
+		if (properties == null) {
+			properties = readAppsUri(required(request, "uri"));
+		}
+		boolean force = Boolean.parseBoolean(request.parameter("force"));
+		List<AppState> registered = new ArrayList<>();
+		for (String line : properties.split("\\r?\\n")) {
+			int separator = line.indexOf('=');
+			String key = separator < 0 ? "" : line.substring(0, separator).trim();
+			if (line.trim().startsWith("#") || key.endsWith(".metadata") || key.indexOf('.') < 0) {
+				continue;
+			}
+			String uri = line.substring(separator + 1).trim();
+			registered.add(register(key.substring(0, key.indexOf('.')), key.substring(key.indexOf('.') + 1),
+					version(uri), uri, force));
+		}
+		return page(request, "appRegistrationResourceList", registered, this::appResource);
+	}
+
+	Object unregisterApp(Request request) {
+		AppState app = findApp(request.pathVariable(0), request.pathVariable(1), request.pathVariable(2));
+		apps.remove(app.key());
+		return null;
+	}
+
+	Object unregisterApps() {
+		apps.clear();
+		return null;
+	}
+
+	private synchronized AppState register(String type, String name, String version, String uri, boolean force) {
+		AppState app = new AppState(type, name, version, uri);
+		if (apps.containsKey(app.key()) && !force) {
+			throw new StubException(409, "AppAlreadyRegisteredException", String.format(
+					"The '%s:%s:%s' application is already registered as %s", type, name, version,
+					apps.get(app.key()).uri));
+		}
+		app.defaultVersion = apps.values().stream()
+				.noneMatch(other -> other.type.equals(type) && other.name.equals(name) && other.defaultVersion
+						&& !other.version.equals(version));
+		apps.put(app.key(), app);
+		return app;
+	}
+
+	private AppState findApp(String type, String name, String version) {
+		return apps.values().stream()
+				.filter(app -> app.type.equals(type) && app.name.equals(name))
+				.filter(app -> version == null ? app.defaultVersion : app.version.equals(version))
+				.findFirst()
+				.orElseThrow(() -> new StubException(404, "NoSuchAppRegistrationException",
+						String.format("The '%s:%s' application could not be found.", type, name)));
+	}
+
+	private Map<String, Object> appResource(String baseUri, AppState app) {
+		Map<String, Object> resource = new LinkedHashMap<>();
+		resource.put("name", app.name);
+		resource.put("type", app.type);
+		resource.put("uri", app.uri);
+		resource.put("version", app.version);
+		resource.put("defaultVersion", app.defaultVersion);
+		resource.put("_links", links(baseUri + "/apps/" + app.type + "/" + app.name + "/" + app.version));
+		return resource;
+	}
+
+	private static String version(String uri) {
+		Matcher matcher = VERSION.matcher(uri);
+		if (!matcher.matches()) {
+			throw new StubException(400, "IllegalArgumentException", "Could not extract a version from " + uri);
+		}
+		return matcher.group(1);
+	}
+
+	private static String readAppsUri(String uri) {
+		if (!uri.startsWith("file:")) {
+			throw new StubException(400, "IllegalArgumentException",
+					"Only file: URIs can be imported by the stub, pass the properties as apps instead: " + uri);
+		}
+		try {
+			return new String(Files.readAllBytes(Paths.get(URI.create(uri))));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Schema
+
+	Object schemaVersions() {
+		Map<String, Object> versions = new LinkedHashMap<>();
+		versions.put("defaultSchemaVersion", "2");
+		versions.put("versions", Arrays.asList("2", "3"));
+		return versions;
+	}
+
+	Object schemaTargets() {
+		Map<String, Object> target = new LinkedHashMap<>();
+		target.put("name", SCHEMA_TARGET);
+		target.put("schemaVersion", "2");
+		target.put("taskPrefix", "TASK_");
+		target.put("batchPrefix", "BATCH_");
+		Map<String, Object> targets = new LinkedHashMap<>();
+		targets.put("defaultSchemaTarget", SCHEMA_TARGET);
+		targets.put("schemas", Collections.singletonList(target));
+		return targets;
+	}
+
+	// HAL
+
+	private static <T> Map<String, Object> page(Request request, String rel, List<T> content,
+			ResourceRenderer<T> renderer) {
+		int size = request.intParameter("size", DEFAULT_PAGE_SIZE);
+		int number = request.intParameter("page", 0);
+		int from = size > 0 ? Math.min(content.size(), number * size) : 0;
+		int to = size > 0 ? Math.min(content.size(), from + size) : content.size();
+		Function<T, Map<String, Object>> render = resource -> renderer.render(request.baseUri, resource);
+		Map<String, Object> page = new LinkedHashMap<>();
+		page.put("size", size);
+		page.put("totalElements", content.size());
+		page.put("totalPages", size > 0 ? (content.size() + size - 1) / size : 1);
+		page.put("number", number);
+		Map<String, Object> resources = new LinkedHashMap<>();
+		resources.put("_embedded", Collections.singletonMap(rel,
+				content.subList(from, to).stream().map(render).collect(Collectors.toList())));
+		resources.put("_links", links(request.baseUri + request.path + "?page=" + number + "&size=" + size));
+		resources.put("page", page);
+		return resources;
+	}
+
+	private static boolean ascending(Request request) {
+		return request.parameters.getOrDefault("sort", Collections.emptyList()).stream()
+				.anyMatch(sort -> sort.toUpperCase().endsWith(",ASC"));
+	}
+
+	static Map<String, Object> links(String selfHref) {
+		Map<String, Object> links = new LinkedHashMap<>();
+		link(links, "self", selfHref);
+		return links;
+	}
+
+	static void link(Map<String, Object> links, String rel, String href) {
+		Map<String, Object> link = new LinkedHashMap<>();
+		link.put("href", href);
+		if (href.contains("{")) {
+			link.put("templated", true);
+		}
+		links.put(rel, link);
+	}
+
+	private static String required(Request request, String name) {
+		String value = request.parameter(name);
+		if (value == null || value.isEmpty()) {
+			throw new StubException(400, "MissingServletRequestParameterException",
+					"Required String parameter '" + name + "' is not present");
+		}
+		return value;
+	}
+
+	@FunctionalInterface
+	private interface ResourceRenderer<T> {
+
+		Map<String, Object> render(String baseUri, T resource);
+
+	}
+
+	private static class StreamState {
+
+		final String name;
+
+		final String dsl;
+
+		final String description;
+
+		volatile long deployedAt;
+
+		StreamState(String name, String dsl, String description) {
+			this.name = name;
+			this.dsl = dsl;
+			this.description = description;
+		}
+
+		void deploy(long now) {
+			deployedAt = now;
+		}
+
+	}
+
+	private static class TaskState {
+
+		final String name;
+
+		final String dsl;
+
+		final String description;
+
+		final boolean composed;
+
+		final boolean composedTaskElement;
+
+		TaskState(String name, String dsl, String description, boolean composedTaskElement) {
+			this.name = name;
+			this.dsl = dsl;
+			this.description = description;
+			this.composed = !composedTaskElement && (dsl.contains("&&") || dsl.contains("||") || dsl.contains("<"));
+			this.composedTaskElement = composedTaskElement;
+		}
+
+	}
+
+	private static class TaskExecutionState {
+
+		final long executionId;
+
+		final String taskName;
+
+		final long startTime;
+
+		final long endTime;
+
+		final boolean failed;
+
+		final List<String> arguments;
+
+		final List<Long> jobExecutionIds = new ArrayList<>();
+
+		TaskExecutionState(long executionId, String taskName, long startTime, long endTime, boolean failed,
+				List<String> arguments) {
+			this.executionId = executionId;
+			this.taskName = taskName;
+			this.startTime = startTime;
+			this.endTime = endTime;
+			this.failed = failed;
+			this.arguments = arguments;
+		}
+
+	}
+
+	private static class JobExecutionState {
+
+		final long executionId;
+
+		final String name;
+
+		final TaskExecutionState taskExecution;
+
+		final boolean last;
+
+		JobExecutionState(long executionId, String name, TaskExecutionState taskExecution, boolean last) {
+			this.executionId = executionId;
+			this.name = name;
+			this.taskExecution = taskExecution;
+			this.last = last;
+		}
+
+	}
+
+	private static class AppState {
+
+		final String type;
+
+		final String name;
+
+		final String version;
+
+		final String uri;
+
+		volatile boolean defaultVersion;
+
+		AppState(String type, String name, String version, String uri) {
+			this.type = type;
+			this.name = name;
+			this.version = version;
+			this.uri = uri;
+		}
+
+		String key() {
+			return type + ":" + name + ":" + version;
+		}
+
+	}
+}
@@ -51,6 +51,7 @@ EOF
 
 
 # Main
+./mvnw clean install -f perf-test-results
 ./mvnw clean package -f task-perf-tests-initializer
 create_manifest
 cf push -i 0
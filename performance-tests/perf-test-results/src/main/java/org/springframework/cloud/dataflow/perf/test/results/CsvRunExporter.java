@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a {@link PerformanceRun} as {@code <runId>-operations.csv}, one row per operation,
+ * and {@code <runId>-phases.csv}, one row per phase. Every row starts with the run id so that
+ * the files of several runs can be concatenated.
+ */
+public class CsvRunExporter implements RunExporter {
+
+	private static final Logger logger = LoggerFactory.getLogger(CsvRunExporter.class);
+
+	private static final String OPERATIONS_HEADER = "run_id,suite,operation,count,errors,mean_ms,p50_ms,p90_ms,"
+			+ "p95_ms,p99_ms,p999_ms,max_ms,duration_s,per_second\n";
+
+	private static final String PHASES_HEADER = "run_id,suite,phase,start_offset_ms,duration_ms\n";
+
+	private final Path directory;
+
+	public CsvRunExporter(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public void export(PerformanceRun run) {
+		StringBuilder operations = new StringBuilder(OPERATIONS_HEADER);
+		for (OperationResult result : run.getOperations()) {
+			operations.append(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+					run.getRunId(), run.getSuite(), escape(result.getOperation()), result.getCount(),
+					result.getErrors(), result.getMeanMillis(), result.getP50Millis(), result.getP90Millis(),
+					result.getP95Millis(), result.getP99Millis(), result.getP999Millis(), result.getMaxMillis(),
+					result.getDurationSeconds(), result.getThroughput()));
+		}
+		StringBuilder phases = new StringBuilder(PHASES_HEADER);
+		for (PhaseTiming phase : run.getPhases()) {
+			phases.append(String.format(Locale.ROOT, "%s,%s,%s,%d,%d%n", run.getRunId(), run.getSuite(),
+					escape(phase.getName()), phase.getStartOffsetMillis(), phase.getDurationMillis()));
+		}
+		try {
+			Files.createDirectories(directory);
+			Files.write(directory.resolve(run.getRunId() + "-operations.csv"),
+					operations.toString().getBytes(StandardCharsets.UTF_8));
+			Files.write(directory.resolve(run.getRunId() + "-phases.csv"),
+					phases.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		logger.info("Run results:\n" + operations);
+	}
+
+	private static String escape(String value) {
+		return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a {@link PerformanceRun} as {@code <runId>.json}, the format runs are read back
+ * from to be compared.
+ */
+public class JsonRunExporter implements RunExporter {
+
+	private static final Logger logger = LoggerFactory.getLogger(JsonRunExporter.class);
+
+	private static final ObjectMapper objectMapper = new ObjectMapper()
+			.enable(SerializationFeature.INDENT_OUTPUT)
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	private final Path directory;
+
+	public JsonRunExporter(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public void export(PerformanceRun run) {
+		Path file = directory.resolve(run.getRunId() + ".json");
+		try {
+			Files.createDirectories(directory);
+			objectMapper.writeValue(file.toFile(), run);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		logger.info("Run results written to " + file.toAbsolutePath());
+	}
+
+	/**
+	 * Reads a run written by this exporter.
+	 * @param file the JSON file.
+	 * @return the run.
+	 */
+	public static PerformanceRun read(Path file) {
+		try {
+			return objectMapper.readValue(file.toFile(), PerformanceRun.class);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
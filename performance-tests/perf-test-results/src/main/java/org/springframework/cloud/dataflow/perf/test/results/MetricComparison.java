@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+/**
+ * The comparison of one metric of one operation between a baseline and a candidate run.
+ */
+public class MetricComparison {
+
+	/**
+	 * The outcome of a comparison.
+	 */
+	public enum Status {
+
+		/**
+		 * The candidate is within the tolerance of the baseline.
+		 */
+		OK,
+
+		/**
+		 * The candidate is better than the baseline by more than the tolerance.
+		 */
+		IMPROVED,
+
+		/**
+		 * The candidate is worse than the baseline by more than the tolerance.
+		 */
+		REGRESSED
+
+	}
+
+	private final String operation;
+
+	private final String metric;
+
+	private final double baseline;
+
+	private final double candidate;
+
+	private final double limit;
+
+	private final Status status;
+
+	public MetricComparison(String operation, String metric, double baseline, double candidate, double limit,
+			Status status) {
+		this.operation = operation;
+		this.metric = metric;
+		this.baseline = baseline;
+		this.candidate = candidate;
+		this.limit = limit;
+		this.status = status;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the compared metric, e.g. {@code p99_ms} or {@code per_second}.
+	 */
+	public String getMetric() {
+		return metric;
+	}
+
+	public double getBaseline() {
+		return baseline;
+	}
+
+	public double getCandidate() {
+		return candidate;
+	}
+
+	/**
+	 * @return the worst candidate value tolerated: a maximum for latencies and error rates, a
+	 *     minimum for throughputs.
+	 */
+	public double getLimit() {
+		return limit;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return the relative change from the baseline to the candidate, e.g. {@code 0.25} for
+	 *     25% more, or {@code NaN} if the baseline is 0.
+	 */
+	public double getChange() {
+		return baseline != 0 ? (candidate - baseline) / baseline : Double.NaN;
+	}
+}
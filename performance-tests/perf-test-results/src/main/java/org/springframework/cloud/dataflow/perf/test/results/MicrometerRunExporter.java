@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes a {@link PerformanceRun} to a Micrometer {@link MeterRegistry} as gauges tagged
+ * with the run id and suite: {@code perf.operation.latency} per operation and percentile,
+ * {@code perf.operation.throughput}, {@code perf.operation.errors} and
+ * {@code perf.phase.duration} per phase, in milliseconds. The gauges hold the run, so they
+ * keep reporting it for as long as the registry lives. Requires {@code micrometer-core} on
+ * the classpath.
+ */
+public class MicrometerRunExporter implements RunExporter {
+
+	private final MeterRegistry meterRegistry;
+
+	public MicrometerRunExporter(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void export(PerformanceRun run) {
+		Tags runTags = Tags.of("run", run.getRunId(), "suite", run.getSuite());
+		for (OperationResult result : run.getOperations()) {
+			Tags tags = runTags.and("operation", result.getOperation());
+			latency(tags, "mean", result, OperationResult::getMeanMillis);
+			latency(tags, "0.5", result, OperationResult::getP50Millis);
+			latency(tags, "0.9", result, OperationResult::getP90Millis);
+			latency(tags, "0.95", result, OperationResult::getP95Millis);
+			latency(tags, "0.99", result, OperationResult::getP99Millis);
+			latency(tags, "0.999", result, OperationResult::getP999Millis);
+			latency(tags, "max", result, OperationResult::getMaxMillis);
+			Gauge.builder("perf.operation.throughput", result, OperationResult::getThroughput)
+					.tags(tags).baseUnit("operations/s").strongReference(true).register(meterRegistry);
+			Gauge.builder("perf.operation.errors", result, OperationResult::getErrors)
+					.tags(tags).strongReference(true).register(meterRegistry);
+		}
+		for (PhaseTiming phase : run.getPhases()) {
+			Gauge.builder("perf.phase.duration", phase, PhaseTiming::getDurationMillis)
+					.tags(runTags.and("phase", phase.getName())).baseUnit("milliseconds").strongReference(true)
+					.register(meterRegistry);
+		}
+	}
+
+	private void latency(Tags tags, String percentile, OperationResult result,
+			ToDoubleFunction<OperationResult> millis) {
+		Gauge.builder("perf.operation.latency", result, millis)
+				.tags(tags.and("percentile", percentile)).baseUnit("milliseconds").strongReference(true)
+				.register(meterRegistry);
+	}
+}
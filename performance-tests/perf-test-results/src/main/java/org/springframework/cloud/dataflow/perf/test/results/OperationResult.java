@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+/**
+ * The latency distribution and throughput of one operation of a {@link PerformanceRun}.
+ * Latencies are in milliseconds. The full HdrHistogram, recorded in microseconds, is kept
+ * base64 encoded so that runs can be compared at any percentile.
+ */
+public class OperationResult {
+
+	private String operation;
+
+	private long count;
+
+	private long errors;
+
+	private double meanMillis;
+
+	private double p50Millis;
+
+	private double p90Millis;
+
+	private double p95Millis;
+
+	private double p99Millis;
+
+	private double p999Millis;
+
+	private double maxMillis;
+
+	private double durationSeconds;
+
+	private double throughput;
+
+	private boolean throughputMeasured;
+
+	private String histogram;
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public void setOperation(String operation) {
+		this.operation = operation;
+	}
+
+	/**
+	 * @return the number of successful operations.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	/**
+	 * @return the number of failed operations, not included in the latencies.
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	public void setErrors(long errors) {
+		this.errors = errors;
+	}
+
+	public double getMeanMillis() {
+		return meanMillis;
+	}
+
+	public void setMeanMillis(double meanMillis) {
+		this.meanMillis = meanMillis;
+	}
+
+	public double getP50Millis() {
+		return p50Millis;
+	}
+
+	public void setP50Millis(double p50Millis) {
+		this.p50Millis = p50Millis;
+	}
+
+	public double getP90Millis() {
+		return p90Millis;
+	}
+
+	public void setP90Millis(double p90Millis) {
+		this.p90Millis = p90Millis;
+	}
+
+	public double getP95Millis() {
+		return p95Millis;
+	}
+
+	public void setP95Millis(double p95Millis) {
+		this.p95Millis = p95Millis;
+	}
+
+	public double getP99Millis() {
+		return p99Millis;
+	}
+
+	public void setP99Millis(double p99Millis) {
+		this.p99Millis = p99Millis;
+	}
+
+	public double getP999Millis() {
+		return p999Millis;
+	}
+
+	public void setP999Millis(double p999Millis) {
+		this.p999Millis = p999Millis;
+	}
+
+	public double getMaxMillis() {
+		return maxMillis;
+	}
+
+	public void setMaxMillis(double maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * @return the wall time over which the operations were performed, in seconds.
+	 */
+	public double getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	public void setDurationSeconds(double durationSeconds) {
+		this.durationSeconds = durationSeconds;
+	}
+
+	/**
+	 * @return the number of successful operations per second of wall time.
+	 */
+	public double getThroughput() {
+		return throughput;
+	}
+
+	public void setThroughput(double throughput) {
+		this.throughput = throughput;
+	}
+
+	/**
+	 * @return whether the throughput was measured over the wall time of a bulk operation,
+	 *     rather than derived from the time between the first and the last recorded latency,
+	 *     which is too noisy to be compared.
+	 */
+	public boolean isThroughputMeasured() {
+		return throughputMeasured;
+	}
+
+	public void setThroughputMeasured(boolean throughputMeasured) {
+		this.throughputMeasured = throughputMeasured;
+	}
+
+	/**
+	 * @return the base64 encoded, compressed HdrHistogram of the latencies in microseconds,
+	 *     or {@code null} if only a throughput was recorded.
+	 */
+	public String getHistogram() {
+		return histogram;
+	}
+
+	public void setHistogram(String histogram) {
+		this.histogram = histogram;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of one performance test run: what was run against what, how long each phase
+ * took, and the latency distribution and throughput of every measured operation. Written
+ * by the {@link RunExporter}s and read back to compare runs.
+ */
+public class PerformanceRun {
+
+	private String runId;
+
+	private String suite;
+
+	private String startTime;
+
+	private String endTime;
+
+	private long durationMillis;
+
+	private Map<String, String> parameters = new LinkedHashMap<>();
+
+	private List<PhaseTiming> phases = new ArrayList<>();
+
+	private List<OperationResult> operations = new ArrayList<>();
+
+	/**
+	 * @return the unique id of the run, also the base name of its result files.
+	 */
+	public String getRunId() {
+		return runId;
+	}
+
+	public void setRunId(String runId) {
+		this.runId = runId;
+	}
+
+	/**
+	 * @return the performance test that was run, e.g. {@code stream} or {@code task}.
+	 */
+	public String getSuite() {
+		return suite;
+	}
+
+	public void setSuite(String suite) {
+		this.suite = suite;
+	}
+
+	/**
+	 * @return the ISO-8601 start time of the run.
+	 */
+	public String getStartTime() {
+		return startTime;
+	}
+
+	public void setStartTime(String startTime) {
+		this.startTime = startTime;
+	}
+
+	/**
+	 * @return the ISO-8601 end time of the run.
+	 */
+	public String getEndTime() {
+		return endTime;
+	}
+
+	public void setEndTime(String endTime) {
+		this.endTime = endTime;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	public void setDurationMillis(long durationMillis) {
+		this.durationMillis = durationMillis;
+	}
+
+	/**
+	 * @return the configuration of the run, such as the test properties and the Data Flow
+	 *     server version, as strings.
+	 */
+	public Map<String, String> getParameters() {
+		return parameters;
+	}
+
+	public void setParameters(Map<String, String> parameters) {
+		this.parameters = parameters;
+	}
+
+	public List<PhaseTiming> getPhases() {
+		return phases;
+	}
+
+	public void setPhases(List<PhaseTiming> phases) {
+		this.phases = phases;
+	}
+
+	public List<OperationResult> getOperations() {
+		return operations;
+	}
+
+	public void setOperations(List<OperationResult> operations) {
+		this.operations = operations;
+	}
+}
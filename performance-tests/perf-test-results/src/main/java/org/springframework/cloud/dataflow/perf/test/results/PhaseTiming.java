@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+/**
+ * The wall time of one phase of a {@link PerformanceRun}, such as creating the definitions
+ * or deploying the streams.
+ */
+public class PhaseTiming {
+
+	private String name;
+
+	private long startOffsetMillis;
+
+	private long durationMillis;
+
+	public PhaseTiming() {
+	}
+
+	public PhaseTiming(String name, long startOffsetMillis, long durationMillis) {
+		this.name = name;
+		this.startOffsetMillis = startOffsetMillis;
+		this.durationMillis = durationMillis;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return when the phase started, in milliseconds since the start of the run.
+	 */
+	public long getStartOffsetMillis() {
+		return startOffsetMillis;
+	}
+
+	public void setStartOffsetMillis(long startOffsetMillis) {
+		this.startOffsetMillis = startOffsetMillis;
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	public void setDurationMillis(long durationMillis) {
+		this.durationMillis = durationMillis;
+	}
+}
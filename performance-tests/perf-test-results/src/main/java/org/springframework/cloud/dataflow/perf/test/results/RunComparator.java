@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the operations of a candidate {@link PerformanceRun} with those of a baseline run,
+ * operation by operation, on the latency percentiles, the throughput and the error rate.
+ * <p>
+ * A latency regresses if it grows by more than both the relative latency tolerance and the
+ * absolute minimum latency delta, the latter keeping sub millisecond noise of fast operations
+ * from failing the comparison. A throughput regresses if it drops by more than the relative
+ * throughput tolerance, and an error rate if it grows by more than the absolute error rate
+ * tolerance. Throughputs are only compared when measured by both runs, not when derived from
+ * the recorded latencies of an operation.
+ */
+public class RunComparator {
+
+	/**
+	 * The comparable latency metrics, by name.
+	 */
+	public static final Map<String, ToDoubleFunction<OperationResult>> LATENCY_METRICS;
+
+	static {
+		Map<String, ToDoubleFunction<OperationResult>> metrics = new LinkedHashMap<>();
+		metrics.put("mean_ms", OperationResult::getMeanMillis);
+		metrics.put("p50_ms", OperationResult::getP50Millis);
+		metrics.put("p90_ms", OperationResult::getP90Millis);
+		metrics.put("p95_ms", OperationResult::getP95Millis);
+		metrics.put("p99_ms", OperationResult::getP99Millis);
+		metrics.put("p999_ms", OperationResult::getP999Millis);
+		metrics.put("max_ms", OperationResult::getMaxMillis);
+		LATENCY_METRICS = metrics;
+	}
+
+	private List<String> latencyMetrics = Arrays.asList("p50_ms", "p95_ms", "p99_ms");
+
+	private double latencyTolerance = 0.10;
+
+	private double minLatencyDeltaMillis = 1.0;
+
+	private double throughputTolerance = 0.10;
+
+	private double errorRateTolerance = 0.0;
+
+	private Pattern ignoredOperations;
+
+	private boolean failOnMissing;
+
+	/**
+	 * @param latencyMetrics the compared latency metrics, among the {@link #LATENCY_METRICS}.
+	 */
+	public void setLatencyMetrics(List<String> latencyMetrics) {
+		latencyMetrics.stream().filter(metric -> !LATENCY_METRICS.containsKey(metric)).findFirst()
+				.ifPresent(metric -> {
+					throw new IllegalArgumentException(String.format("Unknown latency metric %s, expected one of %s",
+							metric, LATENCY_METRICS.keySet()));
+				});
+		this.latencyMetrics = latencyMetrics;
+	}
+
+	/**
+	 * @param latencyTolerance the tolerated relative latency increase, e.g. {@code 0.1} for 10%.
+	 */
+	public void setLatencyTolerance(double latencyTolerance) {
+		this.latencyTolerance = latencyTolerance;
+	}
+
+	/**
+	 * @param minLatencyDeltaMillis the latency increase, in milliseconds, always tolerated.
+	 */
+	public void setMinLatencyDeltaMillis(double minLatencyDeltaMillis) {
+		this.minLatencyDeltaMillis = minLatencyDeltaMillis;
+	}
+
+	/**
+	 * @param throughputTolerance the tolerated relative throughput decrease, e.g. {@code 0.1} for
+	 *     10%.
+	 */
+	public void setThroughputTolerance(double throughputTolerance) {
+		this.throughputTolerance = throughputTolerance;
+	}
+
+	/**
+	 * @param errorRateTolerance the tolerated absolute error rate increase, e.g. {@code 0.01}
+	 *     for one more failed operation in a hundred.
+	 */
+	public void setErrorRateTolerance(double errorRateTolerance) {
+		this.errorRateTolerance = errorRateTolerance;
+	}
+
+	/**
+	 * @param ignoredOperations the regular expression of the operations not compared, or null.
+	 */
+	public void setIgnoredOperations(Pattern ignoredOperations) {
+		this.ignoredOperations = ignoredOperations;
+	}
+
+	/**
+	 * @param failOnMissing whether a baseline operation missing from the candidate is a
+	 *     regression.
+	 */
+	public void setFailOnMissing(boolean failOnMissing) {
+		this.failOnMissing = failOnMissing;
+	}
+
+	/**
+	 * Compares the candidate with the baseline.
+	 * @param baseline the reference run.
+	 * @param candidate the run checked for regressions.
+	 * @return the comparison of every metric of the operations recorded by both runs.
+	 */
+	public RunComparison compare(PerformanceRun baseline, PerformanceRun candidate) {
+		if (baseline.getSuite() != null && !baseline.getSuite().equals(candidate.getSuite())) {
+			throw new IllegalArgumentException(String.format("Cannot compare a %s run with a %s run",
+					baseline.getSuite(), candidate.getSuite()));
+		}
+		RunComparison comparison = new RunComparison(baseline, candidate, failOnMissing);
+		Map<String, OperationResult> candidateOperations = new LinkedHashMap<>();
+		candidate.getOperations().stream().filter(operation -> !isIgnored(operation.getOperation()))
+				.forEach(operation -> candidateOperations.put(operation.getOperation(), operation));
+		for (OperationResult baselineOperation : baseline.getOperations()) {
+			String name = baselineOperation.getOperation();
+			if (isIgnored(name)) {
+				continue;
+			}
+			OperationResult candidateOperation = candidateOperations.remove(name);
+			if (candidateOperation == null) {
+				comparison.getMissingOperations().add(name);
+				continue;
+			}
+			compareOperation(baselineOperation, candidateOperation, comparison.getMetrics());
+		}
+		comparison.getNewOperations().addAll(candidateOperations.keySet());
+		return comparison;
+	}
+
+	private void compareOperation(OperationResult baseline, OperationResult candidate,
+			List<MetricComparison> metrics) {
+		String operation = baseline.getOperation();
+		if (baseline.getCount() > 0 && candidate.getCount() > 0) {
+			for (String metric : latencyMetrics) {
+				double baselineValue = LATENCY_METRICS.get(metric).applyAsDouble(baseline);
+				double candidateValue = LATENCY_METRICS.get(metric).applyAsDouble(candidate);
+				double delta = Math.max(baselineValue * latencyTolerance, minLatencyDeltaMillis);
+				metrics.add(new MetricComparison(operation, metric, baselineValue, candidateValue,
+						baselineValue + delta, status(candidateValue - baselineValue, delta)));
+			}
+		}
+		if (baseline.isThroughputMeasured() && candidate.isThroughputMeasured() && baseline.getThroughput() > 0) {
+			double delta = baseline.getThroughput() * throughputTolerance;
+			metrics.add(new MetricComparison(operation, "per_second", baseline.getThroughput(),
+					candidate.getThroughput(), baseline.getThroughput() - delta,
+					status(baseline.getThroughput() - candidate.getThroughput(), delta)));
+		}
+		double baselineErrorRate = errorRate(baseline);
+		double candidateErrorRate = errorRate(candidate);
+		if (baselineErrorRate > 0 || candidateErrorRate > 0) {
+			metrics.add(new MetricComparison(operation, "error_rate", baselineErrorRate, candidateErrorRate,
+					baselineErrorRate + errorRateTolerance,
+					status(candidateErrorRate - baselineErrorRate, errorRateTolerance)));
+		}
+	}
+
+	/**
+	 * @param worsening how much worse the candidate is than the baseline, negative if better.
+	 * @param tolerance the tolerated worsening.
+	 */
+	private static MetricComparison.Status status(double worsening, double tolerance) {
+		if (worsening > tolerance) {
+			return MetricComparison.Status.REGRESSED;
+		}
+		return worsening < -tolerance ? MetricComparison.Status.IMPROVED : MetricComparison.Status.OK;
+	}
+
+	private static double errorRate(OperationResult operation) {
+		long total = operation.getCount() + operation.getErrors();
+		return total > 0 ? operation.getErrors() / (double) total : 0.0;
+	}
+
+	private boolean isIgnored(String operation) {
+		return ignoredOperations != null && ignoredOperations.matcher(operation).matches();
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compares two {@code <runId>.json} run results, as written by {@link JsonRunExporter}, and
+ * exits with {@code 1} if the candidate regressed, {@code 2} if the arguments or files are
+ * invalid:
+ *
+ * <pre>
+ * RunComparatorApplication [options] &lt;baseline.json&gt; &lt;candidate.json&gt;
+ * </pre>
+ *
+ * See {@link #USAGE} for the options.
+ */
+public final class RunComparatorApplication {
+
+	static final String USAGE = String.join("\n",
+			"Usage: RunComparatorApplication [options] <baseline.json> <candidate.json>",
+			"Options:",
+			"  --latency-metrics=<list>        latency metrics compared, among mean_ms, p50_ms, p90_ms, p95_ms,",
+			"                                  p99_ms, p999_ms and max_ms (default p50_ms,p95_ms,p99_ms)",
+			"  --latency-tolerance=<ratio>     tolerated latency increase, e.g. 0.1 or 10% (default 10%)",
+			"  --min-latency-delta-ms=<ms>     latency increase always tolerated (default 1)",
+			"  --throughput-tolerance=<ratio>  tolerated throughput decrease (default 10%)",
+			"  --error-rate-tolerance=<ratio>  tolerated absolute error rate increase (default 0)",
+			"  --ignore=<regex>                operations not compared",
+			"  --fail-on-missing               fail if a baseline operation is missing from the candidate",
+			"  --report=<file>                 also write the report to the file");
+
+	private RunComparatorApplication() {
+	}
+
+	public static void main(String[] args) {
+		int status = run(args, System.out, System.err);
+		if (status != 0) {
+			System.exit(status);
+		}
+	}
+
+	static int run(String[] args, PrintStream out, PrintStream err) {
+		RunComparator comparator = new RunComparator();
+		List<Path> files = new ArrayList<>();
+		Path reportFile = null;
+		try {
+			for (String arg : args) {
+				if (!arg.startsWith("--")) {
+					files.add(Paths.get(arg));
+					continue;
+				}
+				int separator = arg.indexOf('=');
+				String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+				String value = separator < 0 ? null : arg.substring(separator + 1);
+				switch (name) {
+				case "latency-metrics":
+					comparator.setLatencyMetrics(Arrays.asList(required(name, value).split("\\s*,\\s*")));
+					break;
+				case "latency-tolerance":
+					comparator.setLatencyTolerance(ratio(name, value));
+					break;
+				case "min-latency-delta-ms":
+					comparator.setMinLatencyDeltaMillis(Double.parseDouble(required(name, value)));
+					break;
+				case "throughput-tolerance":
+					comparator.setThroughputTolerance(ratio(name, value));
+					break;
+				case "error-rate-tolerance":
+					comparator.setErrorRateTolerance(ratio(name, value));
+					break;
+				case "ignore":
+					comparator.setIgnoredOperations(Pattern.compile(required(name, value)));
+					break;
+				case "fail-on-missing":
+					comparator.setFailOnMissing(value == null || Boolean.parseBoolean(value));
+					break;
+				case "report":
+					reportFile = Paths.get(required(name, value));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + arg);
+				}
+			}
+			if (files.size() != 2) {
+				throw new IllegalArgumentException("Expected a baseline and a candidate file, got " + files);
+			}
+		}
+		catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println(USAGE);
+			return 2;
+		}
+		RunComparison comparison;
+		try {
+			comparison = comparator.compare(JsonRunExporter.read(files.get(0)), JsonRunExporter.read(files.get(1)));
+		}
+		catch (RuntimeException e) {
+			err.println("Cannot compare " + files.get(0) + " with " + files.get(1) + ": " + e.getMessage());
+			return 2;
+		}
+		String report = comparison.report();
+		out.print(report);
+		if (reportFile != null) {
+			try {
+				if (reportFile.toAbsolutePath().getParent() != null) {
+					Files.createDirectories(reportFile.toAbsolutePath().getParent());
+				}
+				Files.write(reportFile, report.getBytes(StandardCharsets.UTF_8));
+			}
+			catch (IOException e) {
+				err.println("Cannot write the report to " + reportFile + ": " + e.getMessage());
+				return 2;
+			}
+		}
+		return comparison.isRegressed() ? 1 : 0;
+	}
+
+	private static String required(String name, String value) {
+		if (value == null || value.isEmpty()) {
+			throw new IllegalArgumentException("Missing value of --" + name);
+		}
+		return value;
+	}
+
+	/**
+	 * Parses a ratio given as a fraction, {@code 0.1}, or a percentage, {@code 10%}.
+	 */
+	private static double ratio(String name, String value) {
+		String ratio = required(name, value).trim();
+		try {
+			return ratio.endsWith("%") ? Double.parseDouble(ratio.substring(0, ratio.length() - 1)) / 100
+					: Double.parseDouble(ratio);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid value of --" + name + ": " + value);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The result of comparing a candidate {@link PerformanceRun} with a baseline one, as
+ * computed by {@link RunComparator}.
+ */
+public class RunComparison {
+
+	private final PerformanceRun baseline;
+
+	private final PerformanceRun candidate;
+
+	private final List<MetricComparison> metrics = new ArrayList<>();
+
+	private final List<String> missingOperations = new ArrayList<>();
+
+	private final List<String> newOperations = new ArrayList<>();
+
+	private final boolean failOnMissing;
+
+	RunComparison(PerformanceRun baseline, PerformanceRun candidate, boolean failOnMissing) {
+		this.baseline = baseline;
+		this.candidate = candidate;
+		this.failOnMissing = failOnMissing;
+	}
+
+	public List<MetricComparison> getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * @return the operations of the baseline the candidate did not record.
+	 */
+	public List<String> getMissingOperations() {
+		return missingOperations;
+	}
+
+	/**
+	 * @return the operations of the candidate the baseline did not record.
+	 */
+	public List<String> getNewOperations() {
+		return newOperations;
+	}
+
+	public List<MetricComparison> getRegressions() {
+		return metrics.stream().filter(metric -> metric.getStatus() == MetricComparison.Status.REGRESSED)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return true if a metric regressed or, when missing operations fail the comparison, an
+	 *     operation is missing.
+	 */
+	public boolean isRegressed() {
+		return !getRegressions().isEmpty() || (failOnMissing && !missingOperations.isEmpty());
+	}
+
+	/**
+	 * @return the parameters whose value differs between the runs, as
+	 *     {@code baseline -> candidate}, the run id excluded.
+	 */
+	public Map<String, String> getParameterChanges() {
+		Map<String, String> changes = new TreeMap<>();
+		baseline.getParameters().forEach((name, value) -> {
+			String candidateValue = candidate.getParameters().get(name);
+			if (!value.equals(candidateValue) && !"runId".equals(name)) {
+				changes.put(name, value + " -> " + candidateValue);
+			}
+		});
+		candidate.getParameters().forEach((name, value) -> {
+			if (!baseline.getParameters().containsKey(name) && !"runId".equals(name)) {
+				changes.put(name, null + " -> " + value);
+			}
+		});
+		return changes;
+	}
+
+	/**
+	 * @return a plain text report of the comparison, listing every compared metric, the
+	 *     parameter changes and the missing and new operations, ending with the verdict.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Baseline:  %s (%s, Data Flow %s)%n", baseline.getRunId(), baseline.getStartTime(),
+				baseline.getParameters().getOrDefault("dataflowVersion", "unknown")));
+		report.append(String.format("Candidate: %s (%s, Data Flow %s)%n%n", candidate.getRunId(),
+				candidate.getStartTime(), candidate.getParameters().getOrDefault("dataflowVersion", "unknown")));
+		Map<String, String> parameterChanges = getParameterChanges();
+		if (!parameterChanges.isEmpty()) {
+			report.append("Parameters changed:\n");
+			parameterChanges.forEach((name, change) -> report.append("  ").append(name).append(": ").append(change)
+					.append('\n'));
+			report.append('\n');
+		}
+		int operationWidth = Math.max("operation".length(),
+				metrics.stream().mapToInt(metric -> metric.getOperation().length()).max().orElse(0));
+		String rowFormat = "%-" + operationWidth + "s  %-10s  %12s  %12s  %9s  %12s  %s%n";
+		report.append(String.format(rowFormat, "operation", "metric", "baseline", "candidate", "change", "limit",
+				"status"));
+		for (MetricComparison metric : metrics) {
+			report.append(String.format(rowFormat, metric.getOperation(), metric.getMetric(),
+					number(metric.getBaseline()), number(metric.getCandidate()), percent(metric.getChange()),
+					number(metric.getLimit()), metric.getStatus()));
+		}
+		missingOperations.forEach(operation -> report.append("\nMissing from the candidate: ").append(operation));
+		newOperations.forEach(operation -> report.append("\nNew in the candidate: ").append(operation));
+		if (!missingOperations.isEmpty() || !newOperations.isEmpty()) {
+			report.append('\n');
+		}
+		List<MetricComparison> regressions = getRegressions();
+		report.append('\n');
+		if (isRegressed()) {
+			report.append(String.format("REGRESSION: %d metric(s) regressed%s%n", regressions.size(),
+					failOnMissing && !missingOperations.isEmpty()
+							? ", " + missingOperations.size() + " operation(s) missing" : ""));
+			for (MetricComparison metric : regressions) {
+				report.append(String.format("  %s %s: %s -> %s (%s, limit %s)%n", metric.getOperation(),
+						metric.getMetric(), number(metric.getBaseline()), number(metric.getCandidate()),
+						percent(metric.getChange()), number(metric.getLimit())));
+			}
+		}
+		else {
+			report.append("OK: no regression\n");
+		}
+		return report.toString();
+	}
+
+	private static String number(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	private static String percent(double change) {
+		return Double.isNaN(change) ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", change * 100);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Exports a finished {@link PerformanceRun}.
+ */
+@FunctionalInterface
+public interface RunExporter {
+
+	/**
+	 * @param run the run to export.
+	 */
+	void export(PerformanceRun run);
+
+	/**
+	 * Returns the file exporter for a format.
+	 * @param format {@code json} or {@code csv}.
+	 * @param directory the directory to write the result files into. Created if missing.
+	 * @return the exporter.
+	 * @throws IllegalArgumentException for an unknown format.
+	 */
+	static RunExporter forFormat(String format, Path directory) {
+		switch (format.toLowerCase()) {
+		case "json":
+			return new JsonRunExporter(directory);
+		case "csv":
+			return new CsvRunExporter(directory);
+		default:
+			throw new IllegalArgumentException("Unknown result format " + format + ", expected json or csv");
+		}
+	}
+
+	/**
+	 * Writes the run in each of the formats.
+	 * @param run the run to export.
+	 * @param directory the directory to write the result files into. Created if missing.
+	 * @param formats the formats, {@code json} and/or {@code csv}.
+	 */
+	static void exportAll(PerformanceRun run, Path directory, Collection<String> formats) {
+		for (String format : formats) {
+			forFormat(format, directory).export(run);
+		}
+	}
+}
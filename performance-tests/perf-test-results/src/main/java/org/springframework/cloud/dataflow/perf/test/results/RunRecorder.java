@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Collects the parameters, phase timings, operation latencies and throughputs of a
+ * performance test run and turns them into a {@link PerformanceRun}. It is thread safe, so a
+ * single recorder can be shared by the concurrent workers of a run.
+ * <p>
+ * Latencies are recorded in microseconds into one HdrHistogram per operation. Unless a
+ * throughput is recorded explicitly, the throughput of an operation is its count over the
+ * wall time between its first and its last recorded value.
+ */
+public class RunRecorder {
+
+	private static final Logger logger = LoggerFactory.getLogger(RunRecorder.class);
+
+	private static final DateTimeFormatter RUN_ID_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+			.withZone(ZoneOffset.UTC);
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final String suite;
+
+	private final String runId;
+
+	private final Instant startTime = Instant.now();
+
+	private final long startNanos = System.nanoTime();
+
+	private final Map<String, String> parameters = Collections.synchronizedMap(new TreeMap<>());
+
+	private final List<PhaseTiming> phases = Collections.synchronizedList(new ArrayList<>());
+
+	private final Map<String, OperationStats> operations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/**
+	 * Creates a recorder with a generated run id made of the suite and the UTC start time.
+	 * @param suite the performance test being run, e.g. {@code stream} or {@code task}.
+	 */
+	public RunRecorder(String suite) {
+		this(suite, null);
+	}
+
+	/**
+	 * @param suite the performance test being run, e.g. {@code stream} or {@code task}.
+	 * @param runId the id of the run, or {@code null} to generate one.
+	 */
+	public RunRecorder(String suite, String runId) {
+		this.suite = suite;
+		this.runId = StringUtils.hasText(runId) ? runId
+				: suite + "-" + RUN_ID_TIMESTAMP.format(startTime) + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	public String getRunId() {
+		return runId;
+	}
+
+	/**
+	 * Records a parameter of the run.
+	 * @param name the name of the parameter.
+	 * @param value the value of the parameter, recorded as a string.
+	 * @return this recorder.
+	 */
+	public RunRecorder parameter(String name, Object value) {
+		parameters.put(name, String.valueOf(value));
+		return this;
+	}
+
+	/**
+	 * Records every readable property of a configuration properties bean as a parameter,
+	 * nested beans being flattened with dotted names. Besides the JavaBeans getters, the
+	 * {@code is} getters returning a {@link Boolean}, which Spring Boot binds but JavaBeans
+	 * introspection ignores, are recorded too.
+	 * @param prefix the prefix of the parameter names, may be empty.
+	 * @param properties the bean to record.
+	 * @return this recorder.
+	 */
+	public RunRecorder parameters(String prefix, Object properties) {
+		BeanWrapper beanWrapper = new BeanWrapperImpl(properties);
+		for (PropertyDescriptor descriptor : beanWrapper.getPropertyDescriptors()) {
+			String name = descriptor.getName();
+			if ("class".equals(name) || !beanWrapper.isReadableProperty(name)) {
+				continue;
+			}
+			String parameterName = parameterName(prefix, name);
+			Object value = beanWrapper.getPropertyValue(name);
+			if (value == null || isSimpleValue(value)) {
+				parameter(parameterName, value);
+			}
+			else {
+				parameters(parameterName, value);
+			}
+		}
+		for (Method method : properties.getClass().getMethods()) {
+			String name = method.getName();
+			if (method.getReturnType() != Boolean.class || method.getParameterCount() != 0
+					|| Modifier.isStatic(method.getModifiers()) || name.length() <= 2 || !name.startsWith("is")) {
+				continue;
+			}
+			String propertyName = Introspector.decapitalize(name.substring(2));
+			if (!beanWrapper.isReadableProperty(propertyName)) {
+				ReflectionUtils.makeAccessible(method);
+				parameter(parameterName(prefix, propertyName), ReflectionUtils.invokeMethod(method, properties));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Starts timing a phase of the run, ended by closing the returned phase.
+	 * @param name the name of the phase.
+	 * @return the phase to close once it is over.
+	 */
+	public Phase phase(String name) {
+		logger.info("Starting phase " + name);
+		return new Phase(name, System.nanoTime());
+	}
+
+	/**
+	 * Records a single latency value.
+	 * @param operation the name of the operation.
+	 * @param nanos the observed latency in nanoseconds.
+	 */
+	public void record(String operation, long nanos) {
+		stats(operation).record(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+	}
+
+	/**
+	 * Records a failed operation.
+	 * @param operation the name of the operation.
+	 */
+	public void recordError(String operation) {
+		stats(operation).errors.increment();
+	}
+
+	/**
+	 * Runs the given call and records its latency, or an error if it throws.
+	 * @param operation the name of the operation.
+	 * @param call the call to time.
+	 * @param <T> the result type of the call.
+	 * @return the result of the call.
+	 */
+	public <T> T time(String operation, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			T result = call.get();
+			record(operation, System.nanoTime() - start);
+			return result;
+		}
+		catch (RuntimeException e) {
+			recordError(operation);
+			throw e;
+		}
+	}
+
+	/**
+	 * Adds the latencies of a histogram recorded elsewhere to an operation.
+	 * @param operation the name of the operation.
+	 * @param micros the latencies, in microseconds.
+	 * @param errors the number of failed operations.
+	 * @param elapsedNanos the wall time the operations took, in nanoseconds, or 0 if unknown.
+	 */
+	public void recordHistogram(String operation, Histogram micros, long errors, long elapsedNanos) {
+		OperationStats stats = stats(operation);
+		stats.histogram.add(micros);
+		stats.errors.add(errors);
+		if (elapsedNanos > 0) {
+			stats.elapsedNanos.addAndGet(elapsedNanos);
+		}
+	}
+
+	/**
+	 * Records the throughput of an operation performed in bulk, overriding the one derived
+	 * from its recorded latencies.
+	 * @param operation the name of the operation.
+	 * @param count the number of operations completed.
+	 * @param nanos the wall time taken to complete them, in nanoseconds.
+	 */
+	public void recordThroughput(String operation, long count, long nanos) {
+		OperationStats stats = stats(operation);
+		stats.throughputCount.set(count);
+		stats.elapsedNanos.set(nanos);
+	}
+
+	/**
+	 * @return the run recorded so far, with an end time of now.
+	 */
+	public PerformanceRun finish() {
+		PerformanceRun run = new PerformanceRun();
+		run.setRunId(runId);
+		run.setSuite(suite);
+		run.setStartTime(startTime.toString());
+		run.setEndTime(Instant.now().toString());
+		run.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+		synchronized (parameters) {
+			run.setParameters(new LinkedHashMap<>(parameters));
+		}
+		synchronized (phases) {
+			run.setPhases(new ArrayList<>(phases));
+		}
+		synchronized (operations) {
+			operations.forEach((operation, stats) -> run.getOperations().add(stats.toResult(operation)));
+		}
+		return run;
+	}
+
+	private OperationStats stats(String operation) {
+		return operations.computeIfAbsent(operation, key -> new OperationStats());
+	}
+
+	private static String parameterName(String prefix, String name) {
+		return StringUtils.hasText(prefix) ? prefix + "." + name : name;
+	}
+
+	private static boolean isSimpleValue(Object value) {
+		Class<?> type = value.getClass();
+		return type.isPrimitive() || type.isEnum() || type.isArray() || value instanceof Collection
+				|| value instanceof Map || type.getName().startsWith("java.");
+	}
+
+	private static double toMillis(double micros) {
+		return micros / 1000.0;
+	}
+
+	/**
+	 * A phase of the run being timed.
+	 */
+	public final class Phase implements AutoCloseable {
+
+		private final String name;
+
+		private final long start;
+
+		private Phase(String name, long start) {
+			this.name = name;
+			this.start = start;
+		}
+
+		@Override
+		public void close() {
+			long end = System.nanoTime();
+			PhaseTiming timing = new PhaseTiming(name, TimeUnit.NANOSECONDS.toMillis(start - startNanos),
+					TimeUnit.NANOSECONDS.toMillis(end - start));
+			phases.add(timing);
+			logger.info(String.format("Phase %s took %d ms", name, timing.getDurationMillis()));
+		}
+
+	}
+
+	private static class OperationStats {
+
+		final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+		final LongAdder errors = new LongAdder();
+
+		final AtomicLong firstRecordNanos = new AtomicLong();
+
+		final AtomicLong lastRecordNanos = new AtomicLong();
+
+		final AtomicLong elapsedNanos = new AtomicLong();
+
+		final AtomicLong throughputCount = new AtomicLong(-1);
+
+		void record(long micros) {
+			long now = System.nanoTime();
+			firstRecordNanos.compareAndSet(0, now - TimeUnit.MICROSECONDS.toNanos(micros));
+			lastRecordNanos.accumulateAndGet(now, Math::max);
+			histogram.recordValue(micros);
+		}
+
+		OperationResult toResult(String operation) {
+			Histogram snapshot = histogram.copy();
+			long count = throughputCount.get() >= 0 ? throughputCount.get() : snapshot.getTotalCount();
+			long elapsed = elapsedNanos.get() > 0 ? elapsedNanos.get()
+					: lastRecordNanos.get() - firstRecordNanos.get();
+			OperationResult result = new OperationResult();
+			result.setOperation(operation);
+			result.setCount(count);
+			result.setErrors(errors.sum());
+			result.setDurationSeconds(elapsed / 1_000_000_000.0);
+			result.setThroughput(elapsed > 0 ? count / (elapsed / 1_000_000_000.0) : 0.0);
+			result.setThroughputMeasured(elapsedNanos.get() > 0);
+			if (snapshot.getTotalCount() > 0) {
+				result.setMeanMillis(toMillis(snapshot.getMean()));
+				result.setP50Millis(toMillis(snapshot.getValueAtPercentile(50.0)));
+				result.setP90Millis(toMillis(snapshot.getValueAtPercentile(90.0)));
+				result.setP95Millis(toMillis(snapshot.getValueAtPercentile(95.0)));
+				result.setP99Millis(toMillis(snapshot.getValueAtPercentile(99.0)));
+				result.setP999Millis(toMillis(snapshot.getValueAtPercentile(99.9)));
+				result.setMaxMillis(toMillis(snapshot.getMaxValue()));
+				result.setHistogram(encode(snapshot));
+			}
+			return result;
+		}
+
+		private static String encode(Histogram histogram) {
+			ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+			int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+			return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+		}
+
+	}
+}
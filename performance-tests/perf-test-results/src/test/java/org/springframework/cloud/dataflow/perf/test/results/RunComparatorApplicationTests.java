@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.dataflow.perf.test.results.RunComparatorTests.operation;
+import static org.springframework.cloud.dataflow.perf.test.results.RunComparatorTests.run;
+
+class RunComparatorApplicationTests {
+
+	@TempDir
+	Path directory;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	@Test
+	void exitsWithZeroWithoutRegression() {
+		String baseline = write("baseline", 100.0);
+		String candidate = write("candidate", 105.0);
+		assertThat(runComparator(baseline, candidate)).isEqualTo(0);
+		assertThat(output(out)).contains("deploy");
+	}
+
+	@Test
+	void exitsWithOneOnRegression() {
+		String baseline = write("baseline", 100.0);
+		String candidate = write("candidate", 120.0);
+		assertThat(runComparator(baseline, candidate)).isEqualTo(1);
+	}
+
+	@Test
+	void appliesTheLatencyTolerance() {
+		String baseline = write("baseline", 100.0);
+		String candidate = write("candidate", 120.0);
+		assertThat(runComparator("--latency-tolerance=25%", baseline, candidate)).isEqualTo(0);
+		assertThat(runComparator("--latency-tolerance=0.15", baseline, candidate)).isEqualTo(1);
+	}
+
+	@Test
+	void writesTheReport() throws Exception {
+		Path report = directory.resolve("reports").resolve("comparison.txt");
+		assertThat(runComparator("--report=" + report, write("baseline", 100.0), write("candidate", 100.0))).isEqualTo(0);
+		assertThat(new String(Files.readAllBytes(report), StandardCharsets.UTF_8)).isEqualTo(output(out));
+	}
+
+	@Test
+	void exitsWithTwoOnInvalidArguments() {
+		assertThat(runComparator(write("baseline", 100.0))).isEqualTo(2);
+		assertThat(runComparator("--unknown", write("baseline", 100.0), write("candidate", 100.0))).isEqualTo(2);
+		assertThat(output(err)).contains("Usage:");
+	}
+
+	@Test
+	void exitsWithTwoOnMissingFile() {
+		assertThat(runComparator(write("baseline", 100.0), directory.resolve("missing.json").toString())).isEqualTo(2);
+		assertThat(output(err)).contains("Cannot compare");
+	}
+
+	private int runComparator(String... args) {
+		return RunComparatorApplication.run(args, new PrintStream(out, true), new PrintStream(err, true));
+	}
+
+	private String write(String runId, double latencyMillis) {
+		PerformanceRun run = run(operation("deploy", latencyMillis, 0.0, false));
+		run.setRunId(runId);
+		new JsonRunExporter(directory).export(run);
+		return directory.resolve(runId + ".json").toString();
+	}
+
+	private static String output(ByteArrayOutputStream stream) {
+		return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+}
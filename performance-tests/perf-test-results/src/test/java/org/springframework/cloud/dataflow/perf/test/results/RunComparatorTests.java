@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunComparatorTests {
+
+	@Test
+	void latencyWithinToleranceDoesNotRegress() {
+		RunComparison comparison = new RunComparator().compare(run(operation("deploy", 100.0, 0.0, false)),
+				run(operation("deploy", 109.0, 0.0, false)));
+		assertThat(comparison.isRegressed()).isFalse();
+		assertThat(comparison.getMetrics()).extracting(MetricComparison::getMetric).containsExactly("p50_ms",
+				"p95_ms", "p99_ms");
+	}
+
+	@Test
+	void latencyBeyondToleranceRegresses() {
+		RunComparison comparison = new RunComparator().compare(run(operation("deploy", 100.0, 0.0, false)),
+				run(operation("deploy", 111.0, 0.0, false)));
+		assertThat(comparison.isRegressed()).isTrue();
+		assertThat(comparison.getRegressions()).extracting(MetricComparison::getMetric).containsExactly("p50_ms",
+				"p95_ms", "p99_ms");
+	}
+
+	@Test
+	void latencyBelowMinimumDeltaDoesNotRegress() {
+		RunComparison comparison = new RunComparator().compare(run(operation("get", 0.2, 0.0, false)),
+				run(operation("get", 0.9, 0.0, false)));
+		assertThat(comparison.isRegressed()).isFalse();
+	}
+
+	@Test
+	void measuredThroughputDropRegresses() {
+		RunComparison comparison = new RunComparator().compare(run(operation("create", 10.0, 100.0, true)),
+				run(operation("create", 10.0, 80.0, true)));
+		assertThat(comparison.getRegressions()).extracting(MetricComparison::getMetric)
+				.containsExactly("per_second");
+	}
+
+	@Test
+	void derivedThroughputIsNotCompared() {
+		RunComparison comparison = new RunComparator().compare(run(operation("message-send", 10.0, 100.0, false)),
+				run(operation("message-send", 10.0, 10.0, false)));
+		assertThat(comparison.isRegressed()).isFalse();
+		assertThat(comparison.getMetrics()).extracting(MetricComparison::getMetric).doesNotContain("per_second");
+	}
+
+	@Test
+	void errorRateIncreaseRegresses() {
+		OperationResult candidate = operation("deploy", 10.0, 0.0, false);
+		candidate.setErrors(1);
+		RunComparison comparison = new RunComparator().compare(run(operation("deploy", 10.0, 0.0, false)),
+				run(candidate));
+		assertThat(comparison.getRegressions()).extracting(MetricComparison::getMetric)
+				.containsExactly("error_rate");
+	}
+
+	@Test
+	void missingOperationRegressesOnlyIfRequired() {
+		RunComparator comparator = new RunComparator();
+		PerformanceRun baseline = run(operation("deploy", 10.0, 0.0, false), operation("undeploy", 10.0, 0.0, false));
+		PerformanceRun candidate = run(operation("deploy", 10.0, 0.0, false));
+		assertThat(comparator.compare(baseline, candidate).getMissingOperations()).containsExactly("undeploy");
+		assertThat(comparator.compare(baseline, candidate).isRegressed()).isFalse();
+		comparator.setFailOnMissing(true);
+		assertThat(comparator.compare(baseline, candidate).isRegressed()).isTrue();
+	}
+
+	static PerformanceRun run(OperationResult... operations) {
+		PerformanceRun run = new PerformanceRun();
+		run.setRunId("run");
+		run.setSuite("stream");
+		run.setOperations(Arrays.asList(operations));
+		return run;
+	}
+
+	static OperationResult operation(String name, double latencyMillis, double throughput, boolean measured) {
+		OperationResult operation = new OperationResult();
+		operation.setOperation(name);
+		operation.setCount(100);
+		operation.setMeanMillis(latencyMillis);
+		operation.setP50Millis(latencyMillis);
+		operation.setP90Millis(latencyMillis);
+		operation.setP95Millis(latencyMillis);
+		operation.setP99Millis(latencyMillis);
+		operation.setP999Millis(latencyMillis);
+		operation.setMaxMillis(latencyMillis);
+		operation.setThroughput(throughput);
+		operation.setThroughputMeasured(measured);
+		return operation;
+	}
+
+}
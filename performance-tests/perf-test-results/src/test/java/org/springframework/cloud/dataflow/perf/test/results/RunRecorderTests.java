@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.dataflow.perf.test.results;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunRecorderTests {
+
+	@Test
+	void recordsBoxedBooleanIsGetters() {
+		Map<String, String> parameters = new RunRecorder("test").parameters("perf", new Properties()).finish()
+				.getParameters();
+		assertThat(parameters).containsEntry("perf.loadEnabled", "true").containsEntry("perf.soakEnabled", "false")
+				.containsEntry("perf.batchDeploymentEnabled", "null").containsEntry("perf.cleanup", "true")
+				.containsEntry("perf.size", "10").containsEntry("perf.nested.name", "nested");
+	}
+
+	@Test
+	void recordsReadablePropertiesOnce() {
+		Map<String, String> parameters = new RunRecorder("test").parameters("", new Properties()).finish()
+				.getParameters();
+		assertThat(parameters).containsOnlyKeys("loadEnabled", "soakEnabled", "batchDeploymentEnabled", "cleanup",
+				"size", "nested.name");
+	}
+
+	static class Properties {
+
+		private Boolean loadEnabled = true;
+
+		private Boolean soakEnabled = false;
+
+		private Boolean batchDeploymentEnabled;
+
+		private Boolean cleanup = true;
+
+		private int size = 10;
+
+		private Nested nested = new Nested();
+
+		public Boolean isLoadEnabled() {
+			return loadEnabled;
+		}
+
+		public void setLoadEnabled(Boolean loadEnabled) {
+			this.loadEnabled = loadEnabled;
+		}
+
+		public Boolean isSoakEnabled() {
+			return soakEnabled;
+		}
+
+		public void setSoakEnabled(Boolean soakEnabled) {
+			this.soakEnabled = soakEnabled;
+		}
+
+		public Boolean isBatchDeploymentEnabled() {
+			return batchDeploymentEnabled;
+		}
+
+		public void setBatchDeploymentEnabled(Boolean batchDeploymentEnabled) {
+			this.batchDeploymentEnabled = batchDeploymentEnabled;
+		}
+
+		public Boolean getCleanup() {
+			return cleanup;
+		}
+
+		public void setCleanup(Boolean cleanup) {
+			this.cleanup = cleanup;
+		}
+
+		public int getSize() {
+			return size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public Nested getNested() {
+			return nested;
+		}
+
+	}
+
+	static class Nested {
+
+		private String name = "nested";
+
+		public String getName() {
+			return name;
+		}
+
+	}
+
+}
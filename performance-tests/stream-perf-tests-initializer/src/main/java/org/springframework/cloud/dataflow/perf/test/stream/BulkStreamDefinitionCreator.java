@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.DataFlowClientException;
+import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.dsl.Stream;
+import org.springframework.cloud.dataflow.rest.client.dsl.StreamDefinition;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Creates stream definitions using a bounded pool of concurrent REST requests. Requests
+ * failing with a 5xx response or an I/O error are retried after an exponential backoff with
+ * jitter, so that the concurrent requests don't hammer a struggling server in lockstep. If a
+ * retry finds the definition
+ * already registered, because the failed attempt did reach the server, it is destroyed and
+ * created again so that a {@link StreamDefinition} handle is returned for every name.
+ * <p>
+ * The client turns the {@code vnd.error} bodies of 5xx responses into
+ * {@link DataFlowClientException}s, the same as for 4xx responses, without their status.
+ * So a {@link DataFlowClientException} is retried unless its {@code logref}, the name of the
+ * server side exception, marks a request error that no retry can fix, such as an invalid
+ * definition or, on the first attempt, a duplicate one.
+ */
+public class BulkStreamDefinitionCreator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkStreamDefinitionCreator.class);
+
+    private static final String DUPLICATE_LOGREF = "DuplicateStreamDefinitionException";
+
+    // logrefs of the errors the server answers with a 4xx status, DSL parse errors aside
+    private static final Set<String> PERMANENT_LOGREFS = new HashSet<>(Arrays.asList(DUPLICATE_LOGREF,
+        "InvalidStreamDefinitionException", "NoSuchAppRegistrationException", "NoSuchStreamDefinitionException",
+        "StreamAlreadyDeployedException", "StreamAlreadyDeployingException", "IllegalArgumentException",
+        "ConstraintViolationException", "MissingServletRequestParameterException",
+        "UnsatisfiedServletRequestParameterException", "MethodArgumentTypeMismatchException",
+        "HttpMessageNotReadableException", "HttpRequestMethodNotSupportedException", "NoHandlerFoundException"));
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final DataFlowOperations dataFlowOperations;
+
+    private final LatencyRecorder latencyRecorder;
+
+    private final int parallelism;
+
+    private final int maxAttempts;
+
+    private final Duration retryBackoff;
+
+    public BulkStreamDefinitionCreator(DataFlowOperations dataFlowOperations, LatencyRecorder latencyRecorder,
+        int parallelism, int maxAttempts, Duration retryBackoff) {
+        this.dataFlowOperations = dataFlowOperations;
+        this.latencyRecorder = latencyRecorder;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Creates a stream definition for each of the given names.
+     * @param streamNames the names of the streams to define.
+     * @param definition the stream definition DSL shared by all streams.
+     * @return the created stream definitions, in the order of the given names.
+     */
+    public List<StreamDefinition> create(List<String> streamNames, String definition) {
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<Future<StreamDefinition>> futures = new ArrayList<>();
+            for (String streamName : streamNames) {
+                futures.add(executorService.submit(() -> createWithRetry(streamName, definition)));
+            }
+            List<StreamDefinition> streamDefinitions = new ArrayList<>();
+            for (Future<StreamDefinition> future : futures) {
+                streamDefinitions.add(future.get());
+            }
+            latencyRecorder.recordThroughput(LatencyRecorder.CREATE, streamDefinitions.size(),
+                System.nanoTime() - start);
+            return streamDefinitions;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private StreamDefinition createWithRetry(String streamName, String definition) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return latencyRecorder.time(LatencyRecorder.CREATE, () -> Stream.builder(dataFlowOperations)
+                    .name(streamName)
+                    .definition(definition)
+                    .create());
+            }
+            catch (HttpServerErrorException | ResourceAccessException e) {
+                retryOrThrow(streamName, attempt, e);
+            }
+            catch (DataFlowClientException e) {
+                if (!isDuplicate(e)) {
+                    if (isPermanent(e)) {
+                        throw e;
+                    }
+                    retryOrThrow(streamName, attempt, e);
+                }
+                else if (attempt == 1 || attempt >= maxAttempts) {
+                    throw e;
+                }
+                else {
+                    logger.warn("Stream " + streamName + " was created by a failed attempt, recreating it");
+                    dataFlowOperations.streamOperations().destroy(streamName);
+                }
+            }
+        }
+    }
+
+    private void retryOrThrow(String streamName, int attempt, RuntimeException e) {
+        if (attempt >= maxAttempts) {
+            throw e;
+        }
+        long backoffMillis = backoffMillis(attempt);
+        logger.warn("Creating stream " + streamName + " failed (attempt " + attempt + "), retrying in "
+            + backoffMillis + " ms: " + e.getMessage());
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoffMillis);
+        }
+        catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(interrupted);
+        }
+    }
+
+    /**
+     * @return the backoff doubled for each failed attempt, capped, of which a random half is
+     *     added as jitter.
+     */
+    private long backoffMillis(int attempt) {
+        long backoff = Math.min(retryBackoff.toMillis() << Math.min(attempt - 1, 20), MAX_BACKOFF.toMillis());
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private static boolean isDuplicate(DataFlowClientException e) {
+        return logrefs(e).contains(DUPLICATE_LOGREF)
+            || e.getMessage() != null && e.getMessage().contains("already been");
+    }
+
+    private static boolean isPermanent(DataFlowClientException e) {
+        return logrefs(e).stream().anyMatch(logref -> PERMANENT_LOGREFS.contains(logref)
+            || logref.endsWith("ParseException"));
+    }
+
+    private static Set<String> logrefs(DataFlowClientException e) {
+        Set<String> logrefs = new HashSet<>();
+        if (e.getVndErrors() != null) {
+            e.getVndErrors().getContent().forEach(error -> logrefs.add(String.valueOf(error.getLogref())));
+        }
+        return logrefs;
+    }
+}
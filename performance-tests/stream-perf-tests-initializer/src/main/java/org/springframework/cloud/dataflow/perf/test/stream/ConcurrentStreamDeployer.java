@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.dsl.Stream;
+import org.springframework.cloud.dataflow.rest.client.dsl.StreamDefinition;
+
+/**
+ * Deploys and undeploys a batch of streams concurrently. All deploy (or undeploy) requests
+ * of a batch are fired at once on a bounded pool and the readiness of the whole batch is
+ * then tracked by a single polling loop, recording the time each stream took to reach the
+ * expected status into the {@link LatencyRecorder}. Each poll queries the status of the
+ * pending streams concurrently, on the same pool, and a stream is timed up to the response
+ * first reporting the expected status, so that neither the poll interval nor the other
+ * streams of the batch inflate its time.
+ */
+public class ConcurrentStreamDeployer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentStreamDeployer.class);
+
+    private final ExecutorService executorService;
+
+    private final Duration pollInterval;
+
+    private final LatencyRecorder latencyRecorder;
+
+    public ConcurrentStreamDeployer(int parallelism, Duration pollInterval, LatencyRecorder latencyRecorder) {
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        this.pollInterval = pollInterval;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    /**
+     * Deploys all stream definitions of the batch concurrently and waits until every stream
+     * reports the 'deployed' status.
+     * @param streamDefinitions the batch of stream definitions to deploy.
+     * @param deploymentProperties the deployment properties used for each stream.
+     * @return the time to deployed, in milliseconds, for each stream.
+     */
+    public Map<Stream, Long> deploy(List<StreamDefinition> streamDefinitions, Map<String, String> deploymentProperties) {
+        Map<Stream, Long> requested = submitAll(streamDefinitions,
+            streamDefinition -> streamDefinition.deploy(deploymentProperties), LatencyRecorder.DEPLOY);
+        Map<Stream, Long> deployed = awaitStatus(requested, "deployed", LatencyRecorder.DEPLOYED);
+        report("deployed", deployed);
+        return deployed;
+    }
+
+    /**
+     * Undeploys all streams of the batch concurrently and waits until every stream reports
+     * the 'undeployed' status.
+     * @param streams the streams to undeploy.
+     * @return the time to undeployed, in milliseconds, for each stream.
+     */
+    public Map<Stream, Long> undeploy(Collection<Stream> streams) {
+        Map<Stream, Long> requested = submitAll(streams, stream -> {
+            stream.undeploy();
+            return stream;
+        }, LatencyRecorder.UNDEPLOY);
+        Map<Stream, Long> undeployed = awaitStatus(requested, "undeployed", LatencyRecorder.UNDEPLOYED);
+        report("undeployed", undeployed);
+        return undeployed;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    private <T> Map<Stream, Long> submitAll(Collection<T> items, Function<T, Stream> request, String operation) {
+        List<Future<Stream>> futures = new ArrayList<>();
+        Map<Stream, Long> requestTimes = new LinkedHashMap<>();
+        for (T item : items) {
+            futures.add(executorService.submit(() -> {
+                long start = System.nanoTime();
+                Stream stream = request.apply(item);
+                latencyRecorder.record(operation, System.nanoTime() - start);
+                synchronized (requestTimes) {
+                    requestTimes.put(stream, start);
+                }
+                return stream;
+            }));
+        }
+        awaitAll(futures);
+        return requestTimes;
+    }
+
+    private Map<Stream, Long> awaitStatus(Map<Stream, Long> requestTimes, String status, String operation) {
+        Map<Stream, Long> pending = new ConcurrentHashMap<>(requestTimes);
+        Map<Stream, Long> elapsedNanos = new ConcurrentHashMap<>();
+        Awaitility.await().pollDelay(Duration.ZERO).pollInterval(pollInterval).until(() -> {
+            List<Future<?>> polls = new ArrayList<>();
+            for (Map.Entry<Stream, Long> entry : pending.entrySet()) {
+                polls.add(executorService.submit(() -> {
+                    if (entry.getKey().getStatus().equals(status)) {
+                        // timed as the response arrives, not once the whole batch was polled
+                        long nanos = System.nanoTime() - entry.getValue();
+                        latencyRecorder.record(operation, nanos);
+                        elapsedNanos.put(entry.getKey(), nanos);
+                        pending.remove(entry.getKey());
+                    }
+                }));
+            }
+            awaitAll(polls);
+            return pending.isEmpty();
+        });
+        Map<Stream, Long> elapsed = new LinkedHashMap<>();
+        requestTimes.keySet().forEach(stream ->
+            elapsed.put(stream, TimeUnit.NANOSECONDS.toMillis(elapsedNanos.get(stream))));
+        return elapsed;
+    }
+
+    private static void awaitAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private void report(String status, Map<Stream, Long> times) {
+        times.forEach((stream, millis) -> logger.info("Stream {} {} in {} ms", stream.getName(), status, millis));
+        if (times.isEmpty()) {
+            return;
+        }
+        Collection<Long> values = times.values();
+        long min = values.stream().mapToLong(Long::longValue).min().getAsLong();
+        long max = values.stream().mapToLong(Long::longValue).max().getAsLong();
+        double avg = values.stream().mapToLong(Long::longValue).average().getAsDouble();
+        logger.info(String.format("Batch time to %s (%d streams): min=%d ms, avg=%.0f ms, max=%d ms", status,
+            values.size(), min, avg, max));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
+
+/**
+ * Records the latency of the stream operations performed by the perf test into one
+ * HdrHistogram per operation and writes a p50/p90/p99/max report as CSV and JSON.
+ * Values are recorded in microseconds and reported in milliseconds.
+ */
+public class LatencyRecorder {
+
+    public static final String CREATE = "create";
+
+    public static final String DEPLOY = "deploy";
+
+    public static final String DEPLOYED = "deploy-to-deployed";
+
+    public static final String UNDEPLOY = "undeploy";
+
+    public static final String UNDEPLOYED = "undeploy-to-undeployed";
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRecorder.class);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final Map<String, double[]> throughputs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final RunRecorder runRecorder;
+
+    public LatencyRecorder() {
+        this(null);
+    }
+
+    /**
+     * @param runRecorder the recorder of the run results every latency and throughput is also recorded into,
+     *     may be {@code null}.
+     */
+    public LatencyRecorder(RunRecorder runRecorder) {
+        this.runRecorder = runRecorder;
+    }
+
+    /**
+     * Records a single latency value.
+     * @param operation the name of the operation.
+     * @param nanos the observed latency in nanoseconds.
+     */
+    public void record(String operation, long nanos) {
+        histograms.computeIfAbsent(operation, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+            .recordValue(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (runRecorder != null) {
+            runRecorder.record(operation, nanos);
+        }
+    }
+
+    /**
+     * Runs the given call and records its latency.
+     * @param operation the name of the operation.
+     * @param call the call to time.
+     * @param <T> the result type of the call.
+     * @return the result of the call.
+     */
+    public <T> T time(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        }
+        finally {
+            record(operation, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the given call and records its latency.
+     * @param operation the name of the operation.
+     * @param call the call to time.
+     */
+    public void time(String operation, Runnable call) {
+        time(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records the throughput of an operation performed in bulk.
+     * @param operation the name of the operation.
+     * @param count the number of operations completed.
+     * @param nanos the wall time taken to complete them, in nanoseconds.
+     */
+    public void recordThroughput(String operation, long count, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        double perSecond = seconds > 0 ? count / seconds : 0.0;
+        throughputs.put(operation, new double[] { count, seconds, perSecond });
+        if (runRecorder != null) {
+            runRecorder.recordThroughput(operation, count, nanos);
+        }
+        logger.info(String.format("Throughput of %s: %d in %.3f s (%.2f/s)", operation, count, seconds, perSecond));
+    }
+
+    /**
+     * @return one summary row per recorded operation, in the order the operations were first seen.
+     */
+    public List<Map<String, Object>> summary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        synchronized (histograms) {
+            histograms.forEach((operation, histogram) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("operation", operation);
+                row.put("count", histogram.getTotalCount());
+                row.put("p50", toMillis(histogram.getValueAtPercentile(50.0)));
+                row.put("p90", toMillis(histogram.getValueAtPercentile(90.0)));
+                row.put("p99", toMillis(histogram.getValueAtPercentile(99.0)));
+                row.put("max", toMillis(histogram.getMaxValue()));
+                rows.add(row);
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * @return one throughput row per operation recorded with {@link #recordThroughput}.
+     */
+    public List<Map<String, Object>> throughputSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        synchronized (throughputs) {
+            throughputs.forEach((operation, values) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("operation", operation);
+                row.put("count", (long) values[0]);
+                row.put("seconds", values[1]);
+                row.put("perSecond", values[2]);
+                rows.add(row);
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Logs the latency summary and writes it as {@code <name>.csv} and {@code <name>.json}
+     * into the given directory. Recorded throughputs go to {@code <name>-throughput.csv} and
+     * are included in the JSON report.
+     * @param directory the directory to write the report files into. Created if missing.
+     * @param name the base name of the report files.
+     */
+    public void writeReport(Path directory, String name) {
+        List<Map<String, Object>> rows = summary();
+        StringBuilder csv = new StringBuilder("operation,count,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (Map<String, Object> row : rows) {
+            csv.append(String.format("%s,%d,%.3f,%.3f,%.3f,%.3f%n", row.get("operation"), row.get("count"),
+                row.get("p50"), row.get("p90"), row.get("p99"), row.get("max")));
+        }
+        logger.info("Latency report:\n" + csv);
+        List<Map<String, Object>> throughputRows = throughputSummary();
+        StringBuilder throughputCsv = new StringBuilder("operation,count,seconds,per_second\n");
+        for (Map<String, Object> row : throughputRows) {
+            throughputCsv.append(String.format("%s,%d,%.3f,%.2f%n", row.get("operation"), row.get("count"),
+                row.get("seconds"), row.get("perSecond")));
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("latencies", rows);
+        json.put("throughput", throughputRows);
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(name + ".csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+            if (!throughputRows.isEmpty()) {
+                Files.write(directory.resolve(name + "-throughput.csv"),
+                    throughputCsv.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve(name + ".json").toFile(), json);
+            logger.info("Latency report written to " + directory.toAbsolutePath());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
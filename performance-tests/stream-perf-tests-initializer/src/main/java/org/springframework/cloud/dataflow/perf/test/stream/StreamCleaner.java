@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
+import org.springframework.cloud.dataflow.rest.client.StreamOperations;
+import org.springframework.cloud.dataflow.rest.resource.StreamDefinitionResource;
+
+/**
+ * Removes the perf test streams. Walks every page of the stream definitions matching the
+ * prefix and destroys them on a bounded pool of workers, undeploying deployed streams first.
+ */
+public class StreamCleaner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamCleaner.class);
+
+    private static final int PAGE_SIZE = 100;
+
+    private final DataFlowTemplate dataFlowTemplate;
+
+    private final int parallelism;
+
+    public StreamCleaner(DataFlowTemplate dataFlowTemplate, int parallelism) {
+        this.dataFlowTemplate = dataFlowTemplate;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Destroys all stream definitions whose name starts with the given prefix.
+     * @param streamPrefix the stream name prefix.
+     * @return the number of destroyed streams.
+     */
+    public int cleanup(String streamPrefix) {
+        long start = System.nanoTime();
+        List<StreamDefinitionResource> streamDefinitions = new StreamDefinitionQueries(dataFlowTemplate)
+            .findAll(streamPrefix, PAGE_SIZE).stream()
+            .filter(streamDefinition -> streamDefinition.getName().startsWith(streamPrefix))
+            .collect(Collectors.toList());
+        logger.info("Found " + streamDefinitions.size() + " streams to destroy");
+
+        StreamOperations streamOperations = dataFlowTemplate.streamOperations();
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        int destroyed = 0;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (StreamDefinitionResource streamDefinition : streamDefinitions) {
+                futures.add(executorService.submit(() -> {
+                    if (!"undeployed".equals(streamDefinition.getStatus())) {
+                        streamOperations.undeploy(streamDefinition.getName());
+                    }
+                    streamOperations.destroy(streamDefinition.getName());
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    destroyed++;
+                }
+                catch (ExecutionException e) {
+                    logger.warn("Failed to destroy stream: " + e.getCause().getMessage());
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        finally {
+            executorService.shutdownNow();
+        }
+        logger.info(String.format("Destroyed %d of %d streams in %d ms", destroyed, streamDefinitions.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return destroyed;
+    }
+}
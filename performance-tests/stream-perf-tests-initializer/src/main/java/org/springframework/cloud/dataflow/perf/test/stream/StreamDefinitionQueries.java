@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
+import org.springframework.cloud.dataflow.rest.resource.StreamDefinitionResource;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Paged queries against the stream definitions endpoint that the {@link
+ * org.springframework.cloud.dataflow.rest.client.StreamOperations} do not expose, so that
+ * large numbers of definitions can be handled without materialising the full list.
+ */
+public class StreamDefinitionQueries {
+
+    private final DataFlowTemplate dataFlowTemplate;
+
+    private String definitionsUri;
+
+    public StreamDefinitionQueries(DataFlowTemplate dataFlowTemplate) {
+        this.dataFlowTemplate = dataFlowTemplate;
+    }
+
+    /**
+     * Counts the stream definitions whose name contains the given text by requesting a single
+     * element page and reading the total from the page metadata.
+     * @param search the text the stream names must contain.
+     * @return the number of matching stream definitions.
+     */
+    public long count(String search) {
+        StreamDefinitionResource.Page page = dataFlowTemplate.getRestTemplate()
+            .getForObject(pageUri(search, 0, 1), StreamDefinitionResource.Page.class);
+        return page == null || page.getMetadata() == null ? 0L : page.getMetadata().getTotalElements();
+    }
+
+    /**
+     * Walks every page of the stream definitions whose name contains the given text.
+     * @param search the text the stream names must contain.
+     * @param pageSize the number of definitions requested per page.
+     * @return the matching stream definitions.
+     */
+    public List<StreamDefinitionResource> findAll(String search, int pageSize) {
+        List<StreamDefinitionResource> streamDefinitions = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            StreamDefinitionResource.Page resources = dataFlowTemplate.getRestTemplate()
+                .getForObject(pageUri(search, page, pageSize), StreamDefinitionResource.Page.class);
+            if (resources == null || resources.getContent().isEmpty()) {
+                break;
+            }
+            streamDefinitions.addAll(resources.getContent());
+            if (resources.getMetadata() == null || page + 1 >= resources.getMetadata().getTotalPages()) {
+                break;
+            }
+        }
+        return streamDefinitions;
+    }
+
+    /**
+     * Builds the URI of a page of the stream definitions filtered by name.
+     * @param search the text the stream names must contain.
+     * @param page the zero-based page number.
+     * @param size the page size.
+     * @return the page URI.
+     */
+    public String pageUri(String search, int page, int size) {
+        return UriComponentsBuilder.fromUriString(definitionsUri())
+            .replaceQueryParam("search", search)
+            .replaceQueryParam("page", page)
+            .replaceQueryParam("size", size)
+            .build()
+            .toUriString();
+    }
+
+    private synchronized String definitionsUri() {
+        if (definitionsUri == null) {
+            definitionsUri = dataFlowTemplate.streamOperations().list()
+                .getRequiredLink(IanaLinkRelations.SELF).expand().getHref();
+        }
+        return definitionsUri;
+    }
+}
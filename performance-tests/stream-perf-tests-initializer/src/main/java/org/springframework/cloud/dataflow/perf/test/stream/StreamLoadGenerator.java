@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.integration.test.util.RuntimeApplicationHelper;
+import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.dsl.Stream;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Drives the {@code http} source of the deployed perf streams at a target rate and measures
+ * the achieved message rate, the error rate and the end-to-end latency of each stream.
+ * <p>
+ * Messages are scheduled at a fixed rate, and both the send latency and the send time of a
+ * message are taken from its scheduled time, not from when a sender thread got to it, so
+ * that a backlog of the senders adds to the measured latencies instead of hiding them.
+ * <p>
+ * Each message carries its stream, sequence number and send time, to the microsecond, in
+ * {@code perf-*} headers. The {@link #deploymentProperties() deployment properties} map these
+ * headers through the {@code http} source and make the {@code log} sink log them with the
+ * time it received the message. The end-to-end latency is computed after the load phase
+ * from these log lines, so it does not depend on the log line format, only on the sink and
+ * the initializer clocks being in sync.
+ * <p>
+ * The messages are sent over a pool of keep-alive connections, one per sender thread, and
+ * the messages still queued when the senders are stopped are counted as errors of their
+ * stream.
+ */
+public class StreamLoadGenerator {
+
+    public static final String MESSAGE_SEND = "message-send";
+
+    public static final String MESSAGE_END_TO_END = "message-end-to-end";
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamLoadGenerator.class);
+
+    private static final String SOURCE_APP = "http";
+
+    private static final String SINK_APP = "log";
+
+    private static final String STREAM_HEADER = "perf-stream";
+
+    private static final String SEQUENCE_HEADER = "perf-sequence";
+
+    private static final String SENT_AT_HEADER = "perf-sent-at";
+
+    /**
+     * Logs the headers of a message and the time the sink received it, as ISO-8601 instants.
+     */
+    private static final String SINK_LOG_EXPRESSION = "'perf-msg ' + headers['" + STREAM_HEADER + "'] + ' ' + headers['"
+        + SEQUENCE_HEADER + "'] + ' ' + headers['" + SENT_AT_HEADER + "'] + ' ' + T(java.time.Instant).now()";
+
+    private static final Pattern LOG_LINE_PATTERN = Pattern.compile("perf-msg (\\S+) (\\d+) (\\S+) (\\S+)");
+
+    private final DataFlowOperations dataFlowOperations;
+
+    private final RuntimeApplicationHelper runtimeApps;
+
+    private final LatencyRecorder latencyRecorder;
+
+    private final int messagesPerSecond;
+
+    private final Duration duration;
+
+    private final int senderThreads;
+
+    // over all runs, the exported message-send throughput covering every loaded batch
+    private long totalSent;
+
+    private long totalElapsedNanos;
+
+    public StreamLoadGenerator(DataFlowOperations dataFlowOperations, RuntimeApplicationHelper runtimeApps,
+        LatencyRecorder latencyRecorder, int messagesPerSecond, Duration duration, int senderThreads) {
+        this.dataFlowOperations = dataFlowOperations;
+        this.runtimeApps = runtimeApps;
+        this.latencyRecorder = latencyRecorder;
+        this.messagesPerSecond = Math.max(1, messagesPerSecond);
+        this.duration = duration;
+        this.senderThreads = Math.max(1, senderThreads);
+    }
+
+    /**
+     * @return the deployment properties the streams must be deployed with for the sink to log
+     *     the end-to-end latency of the messages.
+     */
+    public static Map<String, String> deploymentProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("app." + SOURCE_APP + ".http.mapped-request-headers", "HTTP_REQUEST_HEADERS,perf-*");
+        properties.put("app." + SINK_APP + ".log.expression", SINK_LOG_EXPRESSION);
+        return properties;
+    }
+
+    /**
+     * Sends messages to every given stream at the configured rate per stream for the configured
+     * duration, then reports the per stream results. The message-send throughput is recorded
+     * over all the runs so far.
+     * @param streams the deployed streams to load.
+     */
+    public void run(List<Stream> streams) {
+        Map<String, String> sourceUrls = new LinkedHashMap<>();
+        Map<String, LongAdder> sent = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (Stream stream : streams) {
+            sourceUrls.put(stream.getName(), runtimeApps.getApplicationInstanceUrl(stream.getName(), SOURCE_APP));
+            sent.put(stream.getName(), new LongAdder());
+            errors.put(stream.getName(), new LongAdder());
+        }
+
+        logger.info(String.format("Sending %d messages/s to each of %d streams for %s", messagesPerSecond,
+            streams.size(), duration));
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setMaxConnTotal(senderThreads)
+            .setMaxConnPerRoute(senderThreads)
+            .build();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        ExecutorService executorService = Executors.newFixedThreadPool(senderThreads);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / messagesPerSecond;
+        Instant startInstant = Instant.now();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try {
+            for (long sequence = 0; ; sequence++) {
+                long due = start + sequence * intervalNanos;
+                if (due >= end) {
+                    break;
+                }
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                long messageSequence = sequence;
+                Instant sentAt = startInstant.plusNanos(due - start);
+                sourceUrls.forEach((streamName, url) -> executorService.execute(new Send(streamName, () -> {
+                    try {
+                        send(restTemplate, url, streamName, messageSequence, sentAt);
+                        latencyRecorder.record(MESSAGE_SEND, System.nanoTime() - due);
+                        sent.get(streamName).increment();
+                    }
+                    catch (Exception e) {
+                        errors.get(streamName).increment();
+                        logger.debug("Failed to send message to " + streamName, e);
+                    }
+                })));
+            }
+            executorService.shutdown();
+            if (!executorService.awaitTermination(duration.getSeconds() + 60L, TimeUnit.SECONDS)) {
+                logger.warn("Senders did not keep up with the load, dropping the messages not sent yet");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        finally {
+            for (Runnable dropped : executorService.shutdownNow()) {
+                errors.get(((Send) dropped).streamName).increment();
+            }
+            close(httpClient);
+        }
+        long elapsed = System.nanoTime() - start;
+        totalSent += sent.values().stream().mapToLong(LongAdder::sum).sum();
+        totalElapsedNanos += elapsed;
+        latencyRecorder.recordThroughput(MESSAGE_SEND, totalSent, totalElapsedNanos);
+
+        for (Stream stream : streams) {
+            long streamSent = sent.get(stream.getName()).sum();
+            long streamErrors = errors.get(stream.getName()).sum();
+            long received = recordEndToEndLatencies(stream.getName());
+            logger.info(String.format("Stream %s: sent=%d (%.2f/s), errors=%d (%.2f%%), received at sink=%d",
+                stream.getName(), streamSent, streamSent / (elapsed / 1_000_000_000.0), streamErrors,
+                streamSent + streamErrors == 0 ? 0.0 : 100.0 * streamErrors / (streamSent + streamErrors), received));
+        }
+    }
+
+    private static void close(CloseableHttpClient httpClient) {
+        try {
+            httpClient.close();
+        }
+        catch (IOException e) {
+            logger.warn("Could not close the load HTTP client: " + e.getMessage());
+        }
+    }
+
+    private void send(RestTemplate restTemplate, String url, String streamName, long sequence, Instant sentAt) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        headers.set(STREAM_HEADER, streamName);
+        headers.set(SEQUENCE_HEADER, String.valueOf(sequence));
+        headers.set(SENT_AT_HEADER, sentAt.toString());
+        restTemplate.postForEntity(url, new HttpEntity<>("perf-msg " + streamName + " " + sequence, headers),
+            String.class);
+    }
+
+    private long recordEndToEndLatencies(String streamName) {
+        List<String> logs = new ArrayList<>();
+        try {
+            logs.addAll(dataFlowOperations.streamOperations().streamExecutionLog(streamName).getLogs().values());
+        }
+        catch (Exception e) {
+            logger.warn("Could not retrieve the logs of stream " + streamName + ": " + e.getMessage());
+        }
+        long received = 0;
+        for (String log : logs) {
+            Matcher matcher = LOG_LINE_PATTERN.matcher(log);
+            while (matcher.find()) {
+                if (!matcher.group(1).equals(streamName)) {
+                    continue;
+                }
+                try {
+                    Duration latency = Duration.between(Instant.parse(matcher.group(3)),
+                        Instant.parse(matcher.group(4)));
+                    latencyRecorder.record(MESSAGE_END_TO_END, latency.toNanos());
+                    received++;
+                }
+                catch (DateTimeParseException e) {
+                    logger.debug("Ignoring sink log line of " + streamName + ": " + matcher.group());
+                }
+            }
+        }
+        return received;
+    }
+
+    /**
+     * A message send, telling its stream if it is dropped before being sent.
+     */
+    private static final class Send implements Runnable {
+
+        private final String streamName;
+
+        private final Runnable send;
+
+        private Send(String streamName, Runnable send) {
+            this.streamName = streamName;
+            this.send = send;
+        }
+
+        @Override
+        public void run() {
+            send.run();
+        }
+    }
+}
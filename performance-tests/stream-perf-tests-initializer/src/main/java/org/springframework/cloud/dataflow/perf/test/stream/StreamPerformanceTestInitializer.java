@@ -16,16 +16,19 @@
 
 package org.springframework.cloud.dataflow.perf.test.stream;
 
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.awaitility.Awaitility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -34,6 +37,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.dataflow.integration.test.DataFlowOperationsITConfiguration;
 import org.springframework.cloud.dataflow.integration.test.IntegrationTestProperties;
 import org.springframework.cloud.dataflow.integration.test.util.RuntimeApplicationHelper;
+import org.springframework.cloud.dataflow.perf.test.results.MicrometerRunExporter;
+import org.springframework.cloud.dataflow.perf.test.results.PerformanceRun;
+import org.springframework.cloud.dataflow.perf.test.results.RunExporter;
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
 import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
 import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
 import org.springframework.cloud.dataflow.rest.client.dsl.DeploymentPropertiesBuilder;
@@ -70,64 +77,190 @@ public class StreamPerformanceTestInitializer {
 
     @Bean
     public CommandLineRunner commandLineRunner(DataFlowOperations dataFlowOperations, RuntimeApplicationHelper runtimeApps,
-        IntegrationTestProperties testProperties, StreamPerformanceTestProperties streamPerfTestProperties) {
+        IntegrationTestProperties testProperties, StreamPerformanceTestProperties streamPerfTestProperties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
 
         Awaitility.setDefaultPollInterval(Duration.ofSeconds(5L));
         Awaitility.setDefaultTimeout(Duration.ofMinutes(15L));
 
         return args -> {
+            RunRecorder runRecorder = new RunRecorder("stream", streamPerfTestProperties.getRunId())
+                .parameters("", streamPerfTestProperties)
+                .parameter("dataflowVersion", serverVersion(dataFlowOperations));
             if (streamPerfTestProperties.getCleanup()) {
                 logger.info("Destroy existing streams!");
-                dataFlowOperations.streamOperations().list().getContent().stream()
-                    .filter(streamDefinition -> streamDefinition.getName().startsWith(streamPerfTestProperties.getStreamPrefix()))
-                    .forEach(streamDefinition -> dataFlowOperations.streamOperations().destroy(streamDefinition.getName()));
-                //dataFlowOperations.streamOperations().destroyAll();
+                try (RunRecorder.Phase phase = runRecorder.phase("cleanup")) {
+                    new StreamCleaner((DataFlowTemplate) dataFlowOperations, streamPerfTestProperties.getCleanupParallelism())
+                        .cleanup(streamPerfTestProperties.getStreamPrefix());
+                }
             }
             else {
-                List<StreamDefinition> streamDefinitionList = new ArrayList<>();
-                logger.info("Creating Stream definitions...");
-                for (int i = 0; i < streamPerfTestProperties.getStreamDefinitionsNumber(); i++) {
-                    StreamDefinition streamDef = Stream.builder(dataFlowOperations)
-                        .name(randomStreamName(streamPerfTestProperties.getStreamPrefix()))
-                        .definition(streamPerfTestProperties.getStreamDefinition())
-                        .create();
-                    streamDefinitionList.add(streamDef);
+                LatencyRecorder latencyRecorder = new LatencyRecorder(runRecorder);
+                List<StreamDefinition> streamDefinitionList;
+                try (RunRecorder.Phase phase = runRecorder.phase("create-definitions")) {
+                    if (streamPerfTestProperties.getCreationParallelism() > 1) {
+                        logger.info("Creating Stream definitions in bulk...");
+                        List<String> streamNames = new ArrayList<>();
+                        for (int i = 0; i < streamPerfTestProperties.getStreamDefinitionsNumber(); i++) {
+                            streamNames.add(randomStreamName(streamPerfTestProperties.getStreamPrefix()));
+                        }
+                        streamDefinitionList = new BulkStreamDefinitionCreator(dataFlowOperations, latencyRecorder,
+                            streamPerfTestProperties.getCreationParallelism(), streamPerfTestProperties.getCreationMaxAttempts(),
+                            streamPerfTestProperties.getCreationRetryBackoff())
+                            .create(streamNames, streamPerfTestProperties.getStreamDefinition());
+                    }
+                    else {
+                        streamDefinitionList = new ArrayList<>();
+                        logger.info("Creating Stream definitions...");
+                        long start = System.nanoTime();
+                        for (int i = 0; i < streamPerfTestProperties.getStreamDefinitionsNumber(); i++) {
+                            StreamDefinition streamDef = latencyRecorder.time(LatencyRecorder.CREATE,
+                                () -> Stream.builder(dataFlowOperations)
+                                    .name(randomStreamName(streamPerfTestProperties.getStreamPrefix()))
+                                    .definition(streamPerfTestProperties.getStreamDefinition())
+                                    .create());
+                            streamDefinitionList.add(streamDef);
+                        }
+                        latencyRecorder.recordThroughput(LatencyRecorder.CREATE, streamDefinitionList.size(),
+                            System.nanoTime() - start);
+                    }
                 }
 
-                logger.info("Defined stream #: " + dataFlowOperations.streamOperations().list().getContent().size());
+                long definedStreams = new StreamDefinitionQueries((DataFlowTemplate) dataFlowOperations)
+                    .count(streamPerfTestProperties.getStreamPrefix());
+                logger.info("Defined stream #: " + definedStreams);
+                if (definedStreams < streamDefinitionList.size()) {
+                    logger.warn("Expected at least " + streamDefinitionList.size() + " stream definitions matching "
+                        + streamPerfTestProperties.getStreamPrefix() + " but found " + definedStreams);
+                }
+
+                if (streamPerfTestProperties.isSoakEnabled()) {
+                    try (RunRecorder.Phase phase = runRecorder.phase("soak")) {
+                        new StreamSoakTest(dataFlowOperations, streamPerfTestProperties, latencyRecorder)
+                            .run(streamDefinitionList, testDeploymentProperties(runtimeApps, streamPerfTestProperties));
+                    }
+                }
+                else if (streamPerfTestProperties.isBatchDeploymentEnabled()
+                    && streamPerfTestProperties.getDeploymentParallelism() > 1) {
+                    try (RunRecorder.Phase phase = runRecorder.phase("batch-deployment")) {
+                        concurrentBatchDeployment(streamDefinitionList, runtimeApps, streamPerfTestProperties,
+                            latencyRecorder, loadGenerator(dataFlowOperations, runtimeApps, streamPerfTestProperties,
+                                latencyRecorder));
+                    }
+                }
+                else if (streamPerfTestProperties.isBatchDeploymentEnabled()) {
+                    try (RunRecorder.Phase phase = runRecorder.phase("batch-deployment")) {
+                        serialBatchDeployment(streamDefinitionList, runtimeApps, streamPerfTestProperties,
+                            latencyRecorder, loadGenerator(dataFlowOperations, runtimeApps, streamPerfTestProperties,
+                                latencyRecorder));
+                    }
+                }
+                latencyRecorder.writeReport(Paths.get(streamPerfTestProperties.getReportDirectory()),
+                    "stream-perf-latency");
+            }
+            exportResults(runRecorder.finish(), streamPerfTestProperties, meterRegistry.getIfAvailable());
+        };
+    }
 
-                if (streamPerfTestProperties.isBatchDeploymentEnabled()) {
-                    int batchSize = streamPerfTestProperties.getBatchDeploymentSize();
+    private void serialBatchDeployment(List<StreamDefinition> streamDefinitionList,
+        RuntimeApplicationHelper runtimeApps, StreamPerformanceTestProperties streamPerfTestProperties,
+        LatencyRecorder latencyRecorder, StreamLoadGenerator loadGenerator) {
 
-                    int intervals = streamDefinitionList.size() / batchSize;
+        int batchSize = streamPerfTestProperties.getBatchDeploymentSize();
 
-                    for (int batch = 0; batch < intervals; batch++) {
-                        List<Stream> deployedStreams = new ArrayList<>();
-                        for (int i = batch * batchSize; i < batch * batchSize + batchSize; i++) {
-                            if (i < streamDefinitionList.size()) {
-                                Stream stream = streamDefinitionList.get(i).deploy(testDeploymentProperties(runtimeApps));
-                                deployedStreams.add(stream);
-                                Awaitility.await()
-                                    .until(() -> stream.getStatus().equals("deployed"));
-                            }
-                        }
+        int intervals = streamDefinitionList.size() / batchSize;
 
-                        for (Stream stream : deployedStreams) {
-                            stream.undeploy();
-                            Awaitility.await()
-                                .until(() -> stream.getStatus().equals("undeployed"));
-                        }
-                    }
+        for (int batch = 0; batch < intervals; batch++) {
+            List<Stream> deployedStreams = new ArrayList<>();
+            for (int i = batch * batchSize; i < batch * batchSize + batchSize; i++) {
+                if (i < streamDefinitionList.size()) {
+                    StreamDefinition streamDefinition = streamDefinitionList.get(i);
+                    long start = System.nanoTime();
+                    Stream stream = latencyRecorder.time(LatencyRecorder.DEPLOY,
+                        () -> streamDefinition.deploy(testDeploymentProperties(runtimeApps, streamPerfTestProperties)));
+                    deployedStreams.add(stream);
+                    Awaitility.await()
+                        .pollInterval(streamPerfTestProperties.getDeploymentPollInterval())
+                        .until(() -> stream.getStatus().equals("deployed"));
+                    latencyRecorder.record(LatencyRecorder.DEPLOYED, System.nanoTime() - start);
                 }
             }
-        };
+
+            if (loadGenerator != null) {
+                loadGenerator.run(deployedStreams);
+            }
+
+            for (Stream stream : deployedStreams) {
+                long start = System.nanoTime();
+                latencyRecorder.time(LatencyRecorder.UNDEPLOY, stream::undeploy);
+                Awaitility.await()
+                    .pollInterval(streamPerfTestProperties.getDeploymentPollInterval())
+                    .until(() -> stream.getStatus().equals("undeployed"));
+                latencyRecorder.record(LatencyRecorder.UNDEPLOYED, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void concurrentBatchDeployment(List<StreamDefinition> streamDefinitionList,
+        RuntimeApplicationHelper runtimeApps, StreamPerformanceTestProperties streamPerfTestProperties,
+        LatencyRecorder latencyRecorder, StreamLoadGenerator loadGenerator) {
+
+        int batchSize = streamPerfTestProperties.getBatchDeploymentSize();
+        Map<String, String> deploymentProperties = testDeploymentProperties(runtimeApps, streamPerfTestProperties);
+
+        try (ConcurrentStreamDeployer deployer =
+            new ConcurrentStreamDeployer(streamPerfTestProperties.getDeploymentParallelism(),
+                streamPerfTestProperties.getDeploymentPollInterval(), latencyRecorder)) {
+            for (int from = 0; from < streamDefinitionList.size(); from += batchSize) {
+                List<StreamDefinition> batch = streamDefinitionList.subList(from,
+                    Math.min(from + batchSize, streamDefinitionList.size()));
+                logger.info("Deploying batch of " + batch.size() + " streams starting at #" + from);
+                Map<Stream, Long> deployedStreams = deployer.deploy(batch, deploymentProperties);
+                if (loadGenerator != null) {
+                    loadGenerator.run(new ArrayList<>(deployedStreams.keySet()));
+                }
+                deployer.undeploy(deployedStreams.keySet());
+            }
+        }
+    }
+
+    private StreamLoadGenerator loadGenerator(DataFlowOperations dataFlowOperations,
+        RuntimeApplicationHelper runtimeApps, StreamPerformanceTestProperties streamPerfTestProperties,
+        LatencyRecorder latencyRecorder) {
+
+        if (!streamPerfTestProperties.isLoadEnabled()) {
+            return null;
+        }
+        return new StreamLoadGenerator(dataFlowOperations, runtimeApps, latencyRecorder,
+            streamPerfTestProperties.getLoadMessagesPerSecond(), streamPerfTestProperties.getLoadDuration(),
+            streamPerfTestProperties.getLoadSenderThreads());
+    }
+
+    private static void exportResults(PerformanceRun run, StreamPerformanceTestProperties streamPerfTestProperties,
+        MeterRegistry meterRegistry) {
+        RunExporter.exportAll(run, Paths.get(streamPerfTestProperties.getReportDirectory()),
+            streamPerfTestProperties.getResultFormats());
+        if (meterRegistry != null) {
+            new MicrometerRunExporter(meterRegistry).export(run);
+        }
+    }
+
+    private static String serverVersion(DataFlowOperations dataFlowOperations) {
+        try {
+            return dataFlowOperations.aboutOperation().get().getVersionInfo().getCore().getVersion();
+        }
+        catch (Exception e) {
+            logger.warn("Could not get the Data Flow server version: " + e.getMessage());
+            return "unknown";
+        }
     }
 
     private static String randomStreamName(String prefix) {
         return prefix + "-" + UUID.randomUUID().toString().substring(0, 10);
     }
 
-    private Map<String, String> testDeploymentProperties(RuntimeApplicationHelper runtimeApps) {
+    private Map<String, String> testDeploymentProperties(RuntimeApplicationHelper runtimeApps,
+        StreamPerformanceTestProperties streamPerfTestProperties) {
         DeploymentPropertiesBuilder propertiesBuilder = new DeploymentPropertiesBuilder()
             .put(SPRING_CLOUD_DATAFLOW_SKIPPER_PLATFORM_NAME, runtimeApps.getPlatformName())
             .put("app.*.logging.file", "/tmp/${PID}-test.log") // Keep it for Boot 2.x compatibility.
@@ -141,6 +274,9 @@ public class StreamPerformanceTestInitializer {
             propertiesBuilder.put("app.*.server.port", "8080");
             propertiesBuilder.put("deployer.*.kubernetes.createLoadBalancer", "true"); // requires LoadBalancer support on the platform
         }
+        if (streamPerfTestProperties.isLoadEnabled()) {
+            StreamLoadGenerator.deploymentProperties().forEach(propertiesBuilder::put);
+        }
 
         return propertiesBuilder.build();
     }
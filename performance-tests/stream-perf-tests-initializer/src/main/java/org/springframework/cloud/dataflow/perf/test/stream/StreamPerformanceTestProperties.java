@@ -16,6 +16,11 @@
 
 package org.springframework.cloud.dataflow.perf.test.stream;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,11 +43,35 @@ public class StreamPerformanceTestProperties {
      */
     private String streamPrefix = "perf-test-stream";
 
+    /**
+     * If greater than 1 the stream definitions are created in bulk, using up to creationParallelism concurrent
+     * requests. The default of 1 creates the definitions one at a time.
+     */
+    private int creationParallelism = 1;
+
+    /**
+     * The maximum number of attempts for creating a stream definition in bulk mode. Attempts failing with a server
+     * error (5xx), an error reported by the server, which the client does not tell apart from a server error, or an
+     * I/O error are retried, unless the server reported a request error such as an invalid definition.
+     */
+    private int creationMaxAttempts = 3;
+
+    /**
+     * The backoff before the second attempt of creating a stream definition in bulk mode, doubled for each further
+     * attempt and randomized, so that the concurrent requests don't retry in lockstep.
+     */
+    private Duration creationRetryBackoff = Duration.ofMillis(500);
+
     /**
      * Removes all stream definitions with a stream name starting with the prefix.
      */
     private Boolean cleanup = false;
 
+    /**
+     * The number of streams destroyed concurrently by the cleanup.
+     */
+    private int cleanupParallelism = 10;
+
     /**
      * Whether to test deploy/undeploy the defined streams. The deploy/undeploy are performed in batches.
      */
@@ -56,6 +85,94 @@ public class StreamPerformanceTestProperties {
      */
     private int batchDeploymentSize = 10;
 
+    /**
+     * If greater than 1 the streams of each deployment batch are deployed (and undeployed) concurrently, using up to
+     * deploymentParallelism simultaneous requests, and the readiness of the whole batch is tracked by a single polling
+     * loop. The default of 1 keeps the serial deploy-and-wait behaviour.
+     */
+    private int deploymentParallelism = 1;
+
+    /**
+     * How often the status of the streams being deployed (or undeployed) is polled. Each stream is timed up to the
+     * first poll seeing it deployed, so the interval bounds how much its time to deployed is inflated.
+     */
+    private Duration deploymentPollInterval = Duration.ofMillis(500);
+
+    /**
+     * Whether to drive messages through the http source of each deployed batch before it is undeployed.
+     */
+    private Boolean loadEnabled = false;
+
+    /**
+     * The target number of messages per second sent to each deployed stream when loadEnabled is true.
+     */
+    private int loadMessagesPerSecond = 10;
+
+    /**
+     * For how long messages are sent to each deployed batch when loadEnabled is true.
+     */
+    private Duration loadDuration = Duration.ofSeconds(60);
+
+    /**
+     * The number of threads sending the load messages.
+     */
+    private int loadSenderThreads = 10;
+
+    /**
+     * Whether to run the time bounded soak test instead of the batch deployment. The soak test keeps
+     * soakDeployedStreams streams deployed and continuously rotates them at soakChurnPerMinute.
+     */
+    private Boolean soakEnabled = false;
+
+    /**
+     * The number of streams kept deployed during the soak test. The stream definitions in excess are used as the
+     * rotation pool, so streamDefinitionsNumber should be greater than this value.
+     */
+    private int soakDeployedStreams = 10;
+
+    /**
+     * The number of undeploy/deploy rotations performed per minute during the soak test.
+     */
+    private int soakChurnPerMinute = 2;
+
+    /**
+     * For how long the soak test runs.
+     */
+    private Duration soakDuration = Duration.ofHours(1);
+
+    /**
+     * How often the soak test logs and records the latencies of the last interval and the Skipper release count.
+     */
+    private Duration soakReportInterval = Duration.ofMinutes(5);
+
+    /**
+     * How long the soak test waits for a rotated stream to be deployed (or undeployed) before failing the run,
+     * rather than stalling it on a stuck stream.
+     */
+    private Duration soakStreamTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Optional Skipper server URI used by the soak test to track the total number of Skipper releases. If not set
+     * only the releases of the perf test streams are counted.
+     */
+    private String skipperServerUri;
+
+    /**
+     * The directory the latency report (stream-perf-latency.csv and stream-perf-latency.json) is written to.
+     */
+    private String reportDirectory = "perf-results";
+
+    /**
+     * The id of the run, used as the base name of the run result files written to reportDirectory. If not set an id
+     * made of the suite name and the start time is generated.
+     */
+    private String runId;
+
+    /**
+     * The formats the run results are written in, json and/or csv.
+     */
+    private List<String> resultFormats = new ArrayList<>(Arrays.asList("json", "csv"));
+
     public int getStreamDefinitionsNumber() {
         return streamDefinitionsNumber;
     }
@@ -80,6 +197,30 @@ public class StreamPerformanceTestProperties {
         this.streamPrefix = streamPrefix;
     }
 
+    public int getCreationParallelism() {
+        return creationParallelism;
+    }
+
+    public void setCreationParallelism(int creationParallelism) {
+        this.creationParallelism = creationParallelism;
+    }
+
+    public int getCreationMaxAttempts() {
+        return creationMaxAttempts;
+    }
+
+    public void setCreationMaxAttempts(int creationMaxAttempts) {
+        this.creationMaxAttempts = creationMaxAttempts;
+    }
+
+    public Duration getCreationRetryBackoff() {
+        return creationRetryBackoff;
+    }
+
+    public void setCreationRetryBackoff(Duration creationRetryBackoff) {
+        this.creationRetryBackoff = creationRetryBackoff;
+    }
+
     public Boolean getCleanup() {
         return cleanup;
     }
@@ -88,6 +229,14 @@ public class StreamPerformanceTestProperties {
         this.cleanup = cleanup;
     }
 
+    public int getCleanupParallelism() {
+        return cleanupParallelism;
+    }
+
+    public void setCleanupParallelism(int cleanupParallelism) {
+        this.cleanupParallelism = cleanupParallelism;
+    }
+
     public int getBatchDeploymentSize() {
         return batchDeploymentSize;
     }
@@ -96,6 +245,134 @@ public class StreamPerformanceTestProperties {
         this.batchDeploymentSize = batchDeploymentSize;
     }
 
+    public int getDeploymentParallelism() {
+        return deploymentParallelism;
+    }
+
+    public void setDeploymentParallelism(int deploymentParallelism) {
+        this.deploymentParallelism = deploymentParallelism;
+    }
+
+    public Duration getDeploymentPollInterval() {
+        return deploymentPollInterval;
+    }
+
+    public void setDeploymentPollInterval(Duration deploymentPollInterval) {
+        this.deploymentPollInterval = deploymentPollInterval;
+    }
+
+    public Boolean isLoadEnabled() {
+        return loadEnabled;
+    }
+
+    public void setLoadEnabled(Boolean loadEnabled) {
+        this.loadEnabled = loadEnabled;
+    }
+
+    public int getLoadMessagesPerSecond() {
+        return loadMessagesPerSecond;
+    }
+
+    public void setLoadMessagesPerSecond(int loadMessagesPerSecond) {
+        this.loadMessagesPerSecond = loadMessagesPerSecond;
+    }
+
+    public Duration getLoadDuration() {
+        return loadDuration;
+    }
+
+    public void setLoadDuration(Duration loadDuration) {
+        this.loadDuration = loadDuration;
+    }
+
+    public int getLoadSenderThreads() {
+        return loadSenderThreads;
+    }
+
+    public void setLoadSenderThreads(int loadSenderThreads) {
+        this.loadSenderThreads = loadSenderThreads;
+    }
+
+    public Boolean isSoakEnabled() {
+        return soakEnabled;
+    }
+
+    public void setSoakEnabled(Boolean soakEnabled) {
+        this.soakEnabled = soakEnabled;
+    }
+
+    public int getSoakDeployedStreams() {
+        return soakDeployedStreams;
+    }
+
+    public void setSoakDeployedStreams(int soakDeployedStreams) {
+        this.soakDeployedStreams = soakDeployedStreams;
+    }
+
+    public int getSoakChurnPerMinute() {
+        return soakChurnPerMinute;
+    }
+
+    public void setSoakChurnPerMinute(int soakChurnPerMinute) {
+        this.soakChurnPerMinute = soakChurnPerMinute;
+    }
+
+    public Duration getSoakDuration() {
+        return soakDuration;
+    }
+
+    public void setSoakDuration(Duration soakDuration) {
+        this.soakDuration = soakDuration;
+    }
+
+    public Duration getSoakReportInterval() {
+        return soakReportInterval;
+    }
+
+    public void setSoakReportInterval(Duration soakReportInterval) {
+        this.soakReportInterval = soakReportInterval;
+    }
+
+    public Duration getSoakStreamTimeout() {
+        return soakStreamTimeout;
+    }
+
+    public void setSoakStreamTimeout(Duration soakStreamTimeout) {
+        this.soakStreamTimeout = soakStreamTimeout;
+    }
+
+    public String getSkipperServerUri() {
+        return skipperServerUri;
+    }
+
+    public void setSkipperServerUri(String skipperServerUri) {
+        this.skipperServerUri = skipperServerUri;
+    }
+
+    public String getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public void setReportDirectory(String reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public List<String> getResultFormats() {
+        return resultFormats;
+    }
+
+    public void setResultFormats(List<String> resultFormats) {
+        this.resultFormats = resultFormats;
+    }
+
     public Boolean isBatchDeploymentEnabled() {
         return batchDeploymentEnabled;
     }
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
+import org.springframework.cloud.dataflow.rest.client.dsl.Stream;
+import org.springframework.cloud.dataflow.rest.client.dsl.StreamDefinition;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Time bounded soak test. Keeps a fixed number of streams deployed and continuously rotates
+ * them, undeploying the oldest deployed stream and deploying the next idle definition, at the
+ * configured churn rate. At every report interval the deploy/undeploy latencies of the
+ * interval and the number of Skipper releases are logged and appended to
+ * {@code stream-perf-soak.csv}, so that latency drift and release table growth can be
+ * tracked over the run.
+ */
+public class StreamSoakTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamSoakTest.class);
+
+    private static final String CSV_HEADER = "elapsed_s,rotations,deploy_p50_ms,deploy_p99_ms,deployed_p50_ms,"
+        + "deployed_p99_ms,undeployed_p50_ms,undeployed_p99_ms,skipper_releases\n";
+
+    private final DataFlowOperations dataFlowOperations;
+
+    private final StreamPerformanceTestProperties properties;
+
+    private final LatencyRecorder latencyRecorder;
+
+    public StreamSoakTest(DataFlowOperations dataFlowOperations, StreamPerformanceTestProperties properties,
+        LatencyRecorder latencyRecorder) {
+        this.dataFlowOperations = dataFlowOperations;
+        this.properties = properties;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    /**
+     * Runs the soak test over the given stream definitions.
+     * @param streamDefinitions the definitions to rotate. Should be more than the number of
+     *     streams kept deployed, otherwise the same streams are redeployed.
+     * @param deploymentProperties the deployment properties used for each stream.
+     */
+    public void run(List<StreamDefinition> streamDefinitions, Map<String, String> deploymentProperties) {
+        int deployedCount = Math.min(properties.getSoakDeployedStreams(), streamDefinitions.size());
+        Deque<StreamDefinition> idle = new ArrayDeque<>(streamDefinitions.subList(deployedCount,
+            streamDefinitions.size()));
+        Deque<Stream> deployed = new ArrayDeque<>();
+        Path report = Paths.get(properties.getReportDirectory()).resolve("stream-perf-soak.csv");
+        writeCsv(report, CSV_HEADER, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        logger.info("Soak test: keeping " + deployedCount + " streams deployed for " + properties.getSoakDuration()
+            + ", rotating " + properties.getSoakChurnPerMinute() + " streams per minute");
+        try (ConcurrentStreamDeployer deployer = new ConcurrentStreamDeployer(properties.getDeploymentParallelism(),
+            properties.getDeploymentPollInterval(), latencyRecorder)) {
+            deployed.addAll(deployer.deploy(streamDefinitions.subList(0, deployedCount), deploymentProperties).keySet());
+
+            long rotationIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, properties.getSoakChurnPerMinute());
+            long start = System.nanoTime();
+            long end = start + properties.getSoakDuration().toNanos();
+            long nextReport = start + properties.getSoakReportInterval().toNanos();
+            LatencyRecorder window = new LatencyRecorder();
+            long rotations = 0;
+            while (System.nanoTime() < end && !deployed.isEmpty()) {
+                long rotationStart = System.nanoTime();
+
+                Stream oldest = deployed.poll();
+                undeploy(oldest, window);
+                idle.add(definitionOf(oldest, streamDefinitions));
+                deployed.add(deploy(idle.poll(), deploymentProperties, window));
+                rotations++;
+
+                if (System.nanoTime() >= nextReport) {
+                    reportWindow(report, window, rotations, System.nanoTime() - start);
+                    window = new LatencyRecorder();
+                    nextReport += properties.getSoakReportInterval().toNanos();
+                }
+                long wait = rotationStart + rotationIntervalNanos - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(wait, end - System.nanoTime()));
+                }
+            }
+            reportWindow(report, window, rotations, System.nanoTime() - start);
+
+            logger.info("Soak test finished after " + rotations + " rotations, undeploying the remaining streams");
+            deployer.undeploy(deployed);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Stream deploy(StreamDefinition streamDefinition, Map<String, String> deploymentProperties,
+        LatencyRecorder window) {
+        long start = System.nanoTime();
+        Stream stream = timeBoth(LatencyRecorder.DEPLOY, window, () -> streamDefinition.deploy(deploymentProperties));
+        awaitStatus(stream, "deployed");
+        recordBoth(LatencyRecorder.DEPLOYED, window, System.nanoTime() - start);
+        return stream;
+    }
+
+    private void undeploy(Stream stream, LatencyRecorder window) {
+        long start = System.nanoTime();
+        timeBoth(LatencyRecorder.UNDEPLOY, window, () -> {
+            stream.undeploy();
+            return stream;
+        });
+        awaitStatus(stream, "undeployed");
+        recordBoth(LatencyRecorder.UNDEPLOYED, window, System.nanoTime() - start);
+    }
+
+    private void awaitStatus(Stream stream, String status) {
+        Awaitility.await("stream " + stream.getName() + " " + status)
+            .pollInterval(properties.getDeploymentPollInterval())
+            .atMost(properties.getSoakStreamTimeout())
+            .until(() -> stream.getStatus().equals(status));
+    }
+
+    private <T> T timeBoth(String operation, LatencyRecorder window, Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        recordBoth(operation, window, System.nanoTime() - start);
+        return result;
+    }
+
+    private void recordBoth(String operation, LatencyRecorder window, long nanos) {
+        latencyRecorder.record(operation, nanos);
+        window.record(operation, nanos);
+    }
+
+    private StreamDefinition definitionOf(Stream stream, List<StreamDefinition> streamDefinitions) {
+        return streamDefinitions.stream()
+            .filter(streamDefinition -> streamDefinition.getName().equals(stream.getName()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No definition for stream " + stream.getName()));
+    }
+
+    private void reportWindow(Path report, LatencyRecorder window, long rotations, long elapsedNanos) {
+        long releases = skipperReleaseCount();
+        String row = String.format("%d,%d,%s,%s,%s,%d%n", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), rotations,
+            percentiles(window, LatencyRecorder.DEPLOY), percentiles(window, LatencyRecorder.DEPLOYED),
+            percentiles(window, LatencyRecorder.UNDEPLOYED), releases);
+        logger.info("Soak test window: " + CSV_HEADER.trim() + " = " + row.trim());
+        writeCsv(report, row, StandardOpenOption.APPEND);
+    }
+
+    private static String percentiles(LatencyRecorder window, String operation) {
+        return window.summary().stream()
+            .filter(row -> operation.equals(row.get("operation")))
+            .findFirst()
+            .map(row -> String.format("%.3f,%.3f", row.get("p50"), row.get("p99")))
+            .orElse(",");
+    }
+
+    /**
+     * @return the total number of Skipper releases if a Skipper server URI is configured,
+     *     otherwise the number of releases in the history of the soak test streams. -1 if
+     *     the count could not be retrieved.
+     */
+    @SuppressWarnings("unchecked")
+    private long skipperReleaseCount() {
+        try {
+            if (StringUtils.hasText(properties.getSkipperServerUri())) {
+                Map<String, Object> releases = new RestTemplate()
+                    .getForObject(properties.getSkipperServerUri() + "/api/releases?page=0&size=1", Map.class);
+                Map<String, Object> page = (Map<String, Object>) releases.get("page");
+                return ((Number) page.get("totalElements")).longValue();
+            }
+            return new StreamDefinitionQueries((DataFlowTemplate) dataFlowOperations)
+                .findAll(properties.getStreamPrefix(), 100).stream()
+                .mapToLong(streamDefinition -> dataFlowOperations.streamOperations()
+                    .history(streamDefinition.getName()).size())
+                .sum();
+        }
+        catch (Exception e) {
+            logger.warn("Could not count the Skipper releases: " + e.getMessage());
+            return -1L;
+        }
+    }
+
+    private static void writeCsv(Path file, String content, StandardOpenOption... options) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8), options);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
+import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
+import org.springframework.cloud.dataflow.rest.resource.LaunchResponseResource;
+import org.springframework.cloud.dataflow.rest.resource.TaskExecutionResource;
+import org.springframework.cloud.dataflow.rest.resource.TaskExecutionStatus;
+
+/**
+ * Measures how the composed task runner scales with the size and shape of the graph. For
+ * each configured width (split fan-out) and depth (sequential chain) a composed task of
+ * {@code depth} sequential stages, each a split of {@code width} child tasks, is created,
+ * launched and awaited.
+ * <p>
+ * From the server side start and end times of the composed task and child executions the
+ * makespan, the time from the composed task start to the first child launch, the gaps
+ * between the end of a stage and the launch of the next one, and the orchestration overhead
+ * (the makespan minus the sum of the longest child execution of each stage) are computed.
+ * The results are logged and written to {@code task-perf-ctr.csv}, one row per run, and the
+ * launch to complete times are added to the run results.
+ */
+public class ComposedTaskScaleBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(ComposedTaskScaleBenchmark.class);
+
+	private static final String CSV_HEADER = "width,depth,children,run,status,launch_to_complete_ms,makespan_ms,"
+			+ "first_child_delay_ms,mean_stage_gap_ms,max_stage_gap_ms,critical_path_ms,overhead_ms\n";
+
+	private static final long POLL_INTERVAL_SECONDS = 2;
+
+	private final DataFlowOperations dataFlowOperations;
+
+	private final TaskPerformanceProperties properties;
+
+	private final RunRecorder runRecorder;
+
+	private final List<String> results = new ArrayList<>();
+
+	public ComposedTaskScaleBenchmark(DataFlowOperations dataFlowOperations, TaskPerformanceProperties properties,
+			RunRecorder runRecorder) {
+		this.dataFlowOperations = dataFlowOperations;
+		this.properties = properties;
+		this.runRecorder = runRecorder;
+	}
+
+	/**
+	 * Runs every configured width and depth combination and writes the report.
+	 */
+	public void run() {
+		for (int depth : properties.getCtrBenchmarkDepths()) {
+			for (int width : properties.getCtrBenchmarkWidths()) {
+				for (int run = 0; run < properties.getCtrBenchmarkRuns(); run++) {
+					runGraph(width, depth, run);
+				}
+			}
+		}
+		writeReport();
+	}
+
+	/**
+	 * Generates the definition of a composed task of {@code depth} sequential stages, each a
+	 * split of {@code width} child tasks labelled {@code s<stage>b<branch>}.
+	 * @param app the task app run by every child.
+	 * @param width the number of child tasks per stage.
+	 * @param depth the number of stages.
+	 * @return the composed task definition.
+	 */
+	static String graphDefinition(String app, int width, int depth) {
+		List<String> stages = new ArrayList<>();
+		for (int stage = 0; stage < depth; stage++) {
+			List<String> branches = new ArrayList<>();
+			for (int branch = 0; branch < width; branch++) {
+				branches.add(label(stage, branch) + ": " + app);
+			}
+			stages.add(width == 1 ? branches.get(0) : "<" + String.join(" || ", branches) + ">");
+		}
+		return String.join(" && ", stages);
+	}
+
+	private static String label(int stage, int branch) {
+		return "s" + stage + "b" + branch;
+	}
+
+	private void runGraph(int width, int depth, int run) {
+		String name = String.format("%s-ctr-w%d-d%d", properties.getTaskPrefix(), width, depth);
+		String definition = graphDefinition(properties.getCtrBenchmarkApp(), width, depth);
+		logger.info(String.format("Composed task %s (%d children) run %d: %s", name, width * depth, run, definition));
+		try (Task task = Task.builder(dataFlowOperations).name(name).definition(definition)
+				.description("Composed task scale benchmark").build()) {
+			long start = System.nanoTime();
+			LaunchResponseResource launch = task.launch(properties.getCtrBenchmarkArguments());
+			TaskExecutionStatus status = awaitCompletion(task, launch);
+			long launchToCompleteNanos = System.nanoTime() - start;
+			long launchToComplete = TimeUnit.NANOSECONDS.toMillis(launchToCompleteNanos);
+			String operation = String.format("ctr-w%d-d%d launch-to-complete", width, depth);
+			if (status == TaskExecutionStatus.COMPLETE) {
+				runRecorder.record(operation, launchToCompleteNanos);
+			}
+			else {
+				runRecorder.recordError(operation);
+			}
+			Optional<TaskExecutionResource> parent = task.execution(launch.getExecutionId(), launch.getSchemaTarget());
+			if (!parent.isPresent() || parent.get().getStartTime() == null || parent.get().getEndTime() == null) {
+				logger.warn("No complete execution found for " + name);
+				return;
+			}
+			results.add(String.format("%d,%d,%d,%d,%s,%d,%s", width, depth, width * depth, run, status,
+					launchToComplete, orchestrationTimes(task, launch, parent.get(), depth)));
+			logger.info(CSV_HEADER.trim() + " = " + results.get(results.size() - 1));
+		}
+	}
+
+	private TaskExecutionStatus awaitCompletion(Task task, LaunchResponseResource launch) {
+		long deadline = System.nanoTime() + properties.getCtrBenchmarkTimeout().toNanos();
+		TaskExecutionStatus status = task.executionStatus(launch.getExecutionId(), launch.getSchemaTarget());
+		while (status != TaskExecutionStatus.COMPLETE && status != TaskExecutionStatus.ERROR
+				&& System.nanoTime() < deadline) {
+			try {
+				TimeUnit.SECONDS.sleep(POLL_INTERVAL_SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			status = task.executionStatus(launch.getExecutionId(), launch.getSchemaTarget());
+		}
+		return status;
+	}
+
+	/**
+	 * @return the makespan, first child delay, mean and max stage gap, critical path and
+	 *     overhead in milliseconds, as comma separated values.
+	 */
+	private String orchestrationTimes(Task task, LaunchResponseResource launch, TaskExecutionResource parent,
+			int depth) {
+		long[] stageStart = new long[depth];
+		long[] stageEnd = new long[depth];
+		long[] stageLongest = new long[depth];
+		Arrays.fill(stageStart, Long.MAX_VALUE);
+		for (Task child : task.composedTaskChildTasks()) {
+			int stage = stageOf(task, child);
+			if (stage < 0 || stage >= depth) {
+				continue;
+			}
+			Optional<TaskExecutionResource> execution = child.executionByParentExecutionId(launch.getExecutionId(),
+					launch.getSchemaTarget());
+			if (!execution.isPresent() || execution.get().getStartTime() == null
+					|| execution.get().getEndTime() == null) {
+				continue;
+			}
+			long childStart = execution.get().getStartTime().getTime();
+			long childEnd = execution.get().getEndTime().getTime();
+			stageStart[stage] = Math.min(stageStart[stage], childStart);
+			stageEnd[stage] = Math.max(stageEnd[stage], childEnd);
+			stageLongest[stage] = Math.max(stageLongest[stage], childEnd - childStart);
+		}
+		long parentStart = parent.getStartTime().getTime();
+		long makespan = parent.getEndTime().getTime() - parentStart;
+		long criticalPath = 0;
+		long gapSum = 0;
+		long maxGap = 0;
+		int gaps = 0;
+		for (int stage = 0; stage < depth; stage++) {
+			criticalPath += stageLongest[stage];
+			if (stage > 0 && stageStart[stage] != Long.MAX_VALUE && stageEnd[stage - 1] > 0) {
+				long gap = stageStart[stage] - stageEnd[stage - 1];
+				gapSum += gap;
+				maxGap = Math.max(maxGap, gap);
+				gaps++;
+			}
+		}
+		long firstChildDelay = stageStart[0] == Long.MAX_VALUE ? -1 : stageStart[0] - parentStart;
+		return String.format("%d,%d,%.1f,%d,%d,%d", makespan, firstChildDelay, gaps > 0 ? gapSum / (double) gaps : 0.0,
+				maxGap, criticalPath, makespan - criticalPath);
+	}
+
+	private static int stageOf(Task parent, Task child) {
+		String label = child.getTaskName().substring(parent.getTaskName().length() + 1);
+		int branch = label.indexOf('b');
+		if (!label.startsWith("s") || branch < 0) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(label.substring(1, branch));
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private void writeReport() {
+		Path report = Paths.get(properties.getReportDirectory()).resolve("task-perf-ctr.csv");
+		StringBuilder content = new StringBuilder(CSV_HEADER);
+		results.forEach(row -> content.append(row).append('\n'));
+		try {
+			Files.createDirectories(report.getParent());
+			Files.write(report, content.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		logger.info("Composed task benchmark report written to " + report.toAbsolutePath());
+	}
+}
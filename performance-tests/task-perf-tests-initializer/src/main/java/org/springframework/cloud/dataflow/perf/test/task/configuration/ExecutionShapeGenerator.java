@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the values that give the seeded executions their shape: start times spread (and
+ * optionally skewed towards the present) over a number of days, durations, failures and
+ * padded execution contexts.
+ */
+public class ExecutionShapeGenerator {
+
+	/**
+	 * The size of the {@code SHORT_CONTEXT} columns. Longer contexts are truncated there and
+	 * stored in full in {@code SERIALIZED_CONTEXT}, as Spring Batch does.
+	 */
+	static final int SHORT_CONTEXT_LENGTH = 2500;
+
+	private static final String CONTEXT_PREFIX = "{\"@class\":\"java.util.HashMap\",\"perf.padding\":\"";
+
+	private static final String CONTEXT_SUFFIX = "\"}";
+
+	private static final long MAX_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private final TaskPerformanceProperties.DataShape dataShape;
+
+	private final String context;
+
+	public ExecutionShapeGenerator(TaskPerformanceProperties.DataShape dataShape) {
+		this.dataShape = dataShape;
+		this.context = buildContext(dataShape.getContextSize());
+	}
+
+	/**
+	 * @return a start time within the configured date spread, skewed towards the present
+	 *     by the configured date skew.
+	 */
+	public Date startTime() {
+		long spreadMillis = TimeUnit.DAYS.toMillis(Math.max(0, dataShape.getDateSpreadDays()));
+		long now = System.currentTimeMillis();
+		if (spreadMillis == 0) {
+			return new Date(now);
+		}
+		double offset = Math.pow(ThreadLocalRandom.current().nextDouble(), Math.max(dataShape.getDateSkew(), 0.01));
+		return new Date(now - (long) (offset * spreadMillis));
+	}
+
+	/**
+	 * @param start the start time of the execution.
+	 * @return an end time up to ten minutes after the start, or the start itself when the
+	 *     executions are not spread over time.
+	 */
+	public Date endTime(Date start) {
+		if (dataShape.getDateSpreadDays() <= 0) {
+			return start;
+		}
+		return new Date(start.getTime() + ThreadLocalRandom.current().nextLong(MAX_DURATION_MILLIS));
+	}
+
+	/**
+	 * @return true if the next execution should be recorded as failed.
+	 */
+	public boolean failed() {
+		return dataShape.getFailureRate() > 0 && ThreadLocalRandom.current().nextDouble() < dataShape.getFailureRate();
+	}
+
+	public int getStepsPerJob() {
+		return Math.max(1, dataShape.getStepsPerJob());
+	}
+
+	public int getParamsPerExecution() {
+		return Math.max(1, dataShape.getParamsPerExecution());
+	}
+
+	/**
+	 * @return the value of the {@code SHORT_CONTEXT} column.
+	 */
+	public String getShortContext() {
+		return context.length() > SHORT_CONTEXT_LENGTH ? context.substring(0, SHORT_CONTEXT_LENGTH - 3) + "..." : context;
+	}
+
+	/**
+	 * @return the value of the {@code SERIALIZED_CONTEXT} column, null if the context fits
+	 *     in {@code SHORT_CONTEXT}.
+	 */
+	public String getSerializedContext() {
+		return context.length() > SHORT_CONTEXT_LENGTH ? context : null;
+	}
+
+	private static String buildContext(int size) {
+		int padding = size - CONTEXT_PREFIX.length() - CONTEXT_SUFFIX.length();
+		if (padding <= 0) {
+			return "{}";
+		}
+		StringBuilder builder = new StringBuilder(size).append(CONTEXT_PREFIX);
+		for (int i = 0; i < padding; i++) {
+			builder.append('x');
+		}
+		return builder.append(CONTEXT_SUFFIX).toString();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.incrementer.AbstractColumnMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+/**
+ * Hands out ids from a database sequence, reserving them in blocks so that seeding costs one
+ * round-trip per block instead of one per row.
+ * <p>
+ * Table based incrementers (MySQL, MariaDB) reserve a contiguous block through their cache
+ * size. For sequence based databases a block of values is fetched with a single vendor
+ * specific query; databases without such a query fall back to one call per id. Allocators
+ * are cached per {@link DataSource} and sequence.
+ */
+public final class IdRangeAllocator {
+
+	private static final Map<DataSource, Map<String, IdRangeAllocator>> allocators = new ConcurrentHashMap<>();
+
+	private final Deque<Long> ids = new ArrayDeque<>();
+
+	private final DataFieldMaxValueIncrementer incrementer;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final String blockQuery;
+
+	private final int blockSize;
+
+	private IdRangeAllocator(DataSource dataSource, String sequenceName, int blockSize) {
+		this.blockSize = Math.max(1, blockSize);
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.incrementer = TaskUtils.getIncrementer(dataSource, sequenceName);
+		if (incrementer instanceof AbstractColumnMaxValueIncrementer) {
+			((AbstractColumnMaxValueIncrementer) incrementer).setCacheSize(this.blockSize);
+			this.blockQuery = null;
+		}
+		else {
+			this.blockQuery = blockQuery(TaskUtils.getDatabaseType(dataSource), sequenceName);
+		}
+	}
+
+	/**
+	 * Returns the allocator for the sequence, creating it on first use.
+	 * @param dataSource the datasource holding the sequence.
+	 * @param sequenceName the name of the sequence (or sequence table).
+	 * @param blockSize the number of ids reserved per round-trip. Only used when the
+	 *     allocator is created.
+	 * @return the allocator.
+	 */
+	public static IdRangeAllocator forSequence(DataSource dataSource, String sequenceName, int blockSize) {
+		return allocators.computeIfAbsent(dataSource, key -> new ConcurrentHashMap<>())
+				.computeIfAbsent(sequenceName, key -> new IdRangeAllocator(dataSource, sequenceName, blockSize));
+	}
+
+	/**
+	 * @return the next id of the sequence.
+	 */
+	public synchronized long nextId() {
+		if (blockQuery == null) {
+			return incrementer.nextLongValue();
+		}
+		if (ids.isEmpty()) {
+			List<Long> block = jdbcTemplate.queryForList(blockQuery, Long.class, blockSize);
+			ids.addAll(block);
+		}
+		return ids.isEmpty() ? incrementer.nextLongValue() : ids.poll();
+	}
+
+	private static String blockQuery(DatabaseType databaseType, String sequenceName) {
+		switch (databaseType) {
+			case POSTGRES:
+				return "SELECT nextval('" + sequenceName + "') FROM generate_series(1, ?)";
+			case ORACLE:
+				return "SELECT " + sequenceName + ".nextval FROM dual CONNECT BY level <= ?";
+			case DB2:
+				return "WITH IDS(N) AS (VALUES 1 UNION ALL SELECT N + 1 FROM IDS WHERE N < ?) "
+						+ "SELECT NEXT VALUE FOR " + sequenceName + " FROM IDS";
+			default:
+				return null;
+		}
+	}
+}
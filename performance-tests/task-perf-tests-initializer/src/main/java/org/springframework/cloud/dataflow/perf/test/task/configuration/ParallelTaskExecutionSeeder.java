@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
+
+/**
+ * Seeds task executions and their batch job graphs concurrently. The task definitions are
+ * partitioned across a pool of workers, each inserting the executions of its definitions with
+ * its own {@link TaskExecutionSeeder}. Once all workers are done the rows per second of each
+ * table are reported.
+ */
+public class ParallelTaskExecutionSeeder {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelTaskExecutionSeeder.class);
+
+	private final DataSource dataSource;
+
+	private final int batchSize;
+
+	private final int idBlockSize;
+
+	private final int threads;
+
+	private final TaskPerformanceProperties.DataShape dataShape;
+
+	private final SeedingCheckpoint checkpoint;
+
+	/**
+	 * @param dataSource The dataSource to use for inserting the data.
+	 * @param batchSize The number of task executions written per JDBC batch and transaction.
+	 * @param idBlockSize The number of ids reserved from each sequence per round-trip.
+	 * @param threads The number of workers. If 0 or less the maximum size of the connection
+	 *     pool is used.
+	 * @param dataShape The shape of the inserted executions.
+	 * @param checkpointEnabled If true the seeded executions are checkpointed and only the
+	 *     executions missing to reach the requested number are inserted.
+	 */
+	public ParallelTaskExecutionSeeder(DataSource dataSource, int batchSize, int idBlockSize, int threads,
+			TaskPerformanceProperties.DataShape dataShape, boolean checkpointEnabled) {
+		this.dataSource = dataSource;
+		this.batchSize = batchSize;
+		this.idBlockSize = idBlockSize;
+		this.threads = threads > 0 ? threads : connectionPoolSize(dataSource);
+		this.dataShape = dataShape;
+		this.checkpoint = checkpointEnabled ? new SeedingCheckpoint(dataSource) : null;
+	}
+
+	/**
+	 * Inserts the specified number of task executions, each with the specified number of job
+	 * instances, for every task definition.
+	 * @param numberOfTaskExecutions Number of task executions for each task definition to insert.
+	 * @param numberOfJobInstances the number of job instance for each task execution
+	 * @param taskDefinitions A list of task definitions to use for populating the task name.
+	 * @return the number of rows inserted, keyed by table name.
+	 */
+	public Map<String, Long> seed(int numberOfTaskExecutions, int numberOfJobInstances, List<Task> taskDefinitions) {
+		int workers = Math.max(1, Math.min(threads, taskDefinitions.size()));
+		List<List<Task>> partitions = new ArrayList<>();
+		for (int i = 0; i < workers; i++) {
+			partitions.add(new ArrayList<>());
+		}
+		for (int i = 0; i < taskDefinitions.size(); i++) {
+			partitions.get(i % workers).add(taskDefinitions.get(i));
+		}
+		logger.info(String.format("Seeding %d task definitions with %d workers", taskDefinitions.size(), workers));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(workers);
+		long start = System.nanoTime();
+		Map<String, Long> insertedRows = new LinkedHashMap<>();
+		try {
+			List<Future<Map<String, Long>>> futures = new ArrayList<>();
+			for (List<Task> partition : partitions) {
+				futures.add(executorService.submit(() -> {
+					TaskExecutionSeeder seeder = new TaskExecutionSeeder(dataSource, batchSize, idBlockSize, dataShape,
+							checkpoint);
+					seeder.seed(numberOfTaskExecutions, numberOfJobInstances, partition);
+					return seeder.getInsertedRows();
+				}));
+			}
+			for (Future<Map<String, Long>> future : futures) {
+				future.get().forEach((table, rows) -> insertedRows.merge(table, rows, Long::sum));
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+		insertedRows.forEach((table, rows) -> logger.info(String.format("%s: %d rows in %.1f s (%.0f rows/s)",
+				table, rows, seconds, seconds > 0 ? rows / seconds : 0.0)));
+		return insertedRows;
+	}
+
+	private static int connectionPoolSize(DataSource dataSource) {
+		if (dataSource instanceof HikariDataSource) {
+			return ((HikariDataSource) dataSource).getMaximumPoolSize();
+		}
+		return 1;
+	}
+}
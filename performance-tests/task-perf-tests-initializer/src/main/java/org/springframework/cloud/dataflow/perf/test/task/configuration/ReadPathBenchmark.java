@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
+import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
+import org.springframework.cloud.dataflow.rest.resource.JobExecutionThinResource;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Benchmarks the task and job REST endpoints the dashboard relies on against the seeded
+ * data. Every endpoint is requested with each configured page size, with varying sorts and
+ * filters and random pages, by a number of concurrent clients. The latency percentiles are
+ * logged and written to {@code task-perf-read-path.csv}, one row per endpoint and page size,
+ * and added to the run results.
+ * <p>
+ * The endpoint URIs are taken from the links returned by the {@link DataFlowOperations} so
+ * that the page, size, sort and filter parameters the operations do not expose can be set.
+ * Responses are read as plain strings so that the client side deserialization does not
+ * skew the measured server latency.
+ */
+public class ReadPathBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReadPathBenchmark.class);
+
+	private static final String CSV_HEADER = "endpoint,page_size,requests,errors,p50_ms,p90_ms,p99_ms,max_ms\n";
+
+	private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+	private final DataFlowOperations dataFlowOperations;
+
+	private final RestTemplate restTemplate;
+
+	private final TaskPerformanceProperties properties;
+
+	private final RunRecorder runRecorder;
+
+	private final List<String> results = new ArrayList<>();
+
+	public ReadPathBenchmark(DataFlowOperations dataFlowOperations, TaskPerformanceProperties properties,
+			RunRecorder runRecorder) {
+		this.dataFlowOperations = dataFlowOperations;
+		this.restTemplate = ((DataFlowTemplate) dataFlowOperations).getRestTemplate();
+		this.properties = properties;
+		this.runRecorder = runRecorder;
+	}
+
+	/**
+	 * Runs every endpoint and page size combination in turn and writes the report.
+	 * @param taskNames the names of the seeded task definitions, used for the per task
+	 *     execution listings.
+	 */
+	public void run(List<String> taskNames) {
+		String definitionsUri = selfHref(dataFlowOperations.taskOperations().list());
+		String executionsUri = selfHref(dataFlowOperations.taskOperations().executionList());
+		String thinExecutionsUri = selfHref(dataFlowOperations.jobOperations().executionThinList());
+
+		for (int pageSize : properties.getReadBenchmarkPageSizes()) {
+			measure("/tasks/definitions?sort=taskName", pageSize, page -> pageUri(definitionsUri, page, pageSize)
+					.queryParam("search", properties.getTaskPrefix())
+					.queryParam("sort", "taskName,ASC").toUriString());
+			measure("/tasks/executions?sort=TASK_EXECUTION_ID", pageSize, page -> pageUri(executionsUri, page, pageSize)
+					.queryParam("sort", "TASK_EXECUTION_ID,DESC").toUriString());
+			measure("/tasks/executions?sort=START_TIME", pageSize, page -> pageUri(executionsUri, page, pageSize)
+					.queryParam("sort", "START_TIME,DESC").toUriString());
+			if (!taskNames.isEmpty()) {
+				measure("/tasks/executions?name", pageSize, page -> pageUri(executionsUri, page, pageSize)
+						.queryParam("name", taskNames.get(ThreadLocalRandom.current().nextInt(taskNames.size())))
+						.toUriString());
+			}
+			measure("/jobs/thinexecutions", pageSize, page -> pageUri(thinExecutionsUri, page, pageSize)
+					.toUriString());
+			measure("/jobs/thinexecutions?name", pageSize, page -> pageUri(thinExecutionsUri, page, pageSize)
+					.queryParam("name", "job0").toUriString());
+		}
+
+		List<Long> jobExecutionIds = new ArrayList<>();
+		for (JobExecutionThinResource jobExecution : dataFlowOperations.jobOperations().executionThinList()) {
+			jobExecutionIds.add(jobExecution.getExecutionId());
+		}
+		if (!jobExecutionIds.isEmpty()) {
+			String jobExecutionUri = UriComponentsBuilder.fromUriString(thinExecutionsUri).replaceQuery(null)
+					.toUriString().replaceFirst("/thinexecutions$", "/executions/");
+			measure("/jobs/executions/{id}", 0, page -> jobExecutionUri
+					+ jobExecutionIds.get(ThreadLocalRandom.current().nextInt(jobExecutionIds.size())));
+		}
+		else {
+			logger.warn("No job executions found, /jobs/executions/{id} is not benchmarked");
+		}
+		writeReport();
+	}
+
+	private void measure(String endpoint, int pageSize, IntFunction<String> uris) {
+		int maxPage = Math.max(1, properties.getReadBenchmarkMaxPage());
+		int clients = Math.max(1, properties.getReadBenchmarkClients());
+		Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+		LongAdder errors = new LongAdder();
+		ExecutorService executorService = Executors.newFixedThreadPool(clients);
+		long measureStart = System.nanoTime();
+		try {
+			for (int i = 0; i < properties.getReadBenchmarkRequests(); i++) {
+				executorService.execute(() -> {
+					String uri = uris.apply(ThreadLocalRandom.current().nextInt(maxPage));
+					long start = System.nanoTime();
+					try {
+						restTemplate.getForObject(uri, String.class);
+						histogram.recordValue(Math.min(MAX_LATENCY_MICROS,
+								TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+					}
+					catch (Exception e) {
+						errors.increment();
+						logger.debug("Request to " + uri + " failed", e);
+					}
+				});
+			}
+			executorService.shutdown();
+			executorService.awaitTermination(1, TimeUnit.HOURS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		String row = String.format("%s,%s,%d,%d,%.3f,%.3f,%.3f,%.3f", endpoint, pageSize > 0 ? pageSize : "",
+				histogram.getTotalCount(), errors.sum(), millis(histogram, 50.0), millis(histogram, 90.0),
+				millis(histogram, 99.0), histogram.getMaxValue() / 1000.0);
+		logger.info("Read path " + CSV_HEADER.trim() + " = " + row);
+		results.add(row);
+		runRecorder.recordHistogram(pageSize > 0 ? endpoint + " size=" + pageSize : endpoint, histogram, errors.sum(),
+				System.nanoTime() - measureStart);
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+
+	private static UriComponentsBuilder pageUri(String uri, int page, int size) {
+		return UriComponentsBuilder.fromUriString(uri)
+				.replaceQueryParam("page", page)
+				.replaceQueryParam("size", size)
+				.replaceQueryParam("sort");
+	}
+
+	private static String selfHref(RepresentationModel<?> resources) {
+		return resources.getRequiredLink(IanaLinkRelations.SELF).expand().getHref();
+	}
+
+	private void writeReport() {
+		Path report = Paths.get(properties.getReportDirectory()).resolve("task-perf-read-path.csv");
+		StringBuilder content = new StringBuilder(CSV_HEADER);
+		results.forEach(row -> content.append(row).append('\n'));
+		try {
+			Files.createDirectories(report.getParent());
+			Files.write(report, content.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		logger.info("Read path benchmark report written to " + report.toAbsolutePath());
+	}
+}
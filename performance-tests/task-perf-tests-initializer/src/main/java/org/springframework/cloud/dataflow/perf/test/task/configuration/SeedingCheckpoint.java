@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Records how many task executions have been seeded per task definition in a marker table,
+ * {@code PERF_SEED_CHECKPOINT}, so that an interrupted seed can be resumed and an existing
+ * dataset topped up to a new target size.
+ * <p>
+ * The counts are updated by {@link TaskExecutionSeeder} in the same transaction as the
+ * inserted rows, so the checkpoint never disagrees with the data. For a definition without
+ * a checkpoint row the executions already in {@code TASK_EXECUTION} are counted once and
+ * used as the starting point. As executions can be deleted without the checkpoint being
+ * updated, a checkpoint claiming more executions than {@code TASK_EXECUTION} holds is
+ * lowered to the actual count before being used.
+ */
+public class SeedingCheckpoint {
+
+	private static final Logger logger = LoggerFactory.getLogger(SeedingCheckpoint.class);
+
+	static final String TABLE_NAME = "PERF_SEED_CHECKPOINT";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public SeedingCheckpoint(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		createTableIfMissing(TaskUtils.getDatabaseType(dataSource));
+	}
+
+	/**
+	 * Returns the number of executions already seeded for the task, creating its checkpoint
+	 * from the existing task executions on first use.
+	 * @param taskName the name of the task definition.
+	 * @return the number of executions already seeded.
+	 */
+	public long completed(String taskName) {
+		List<Long> counts = jdbcTemplate.queryForList(
+				"SELECT EXECUTION_COUNT FROM " + TABLE_NAME + " WHERE TASK_NAME = ?", Long.class, taskName);
+		Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TASK_EXECUTION WHERE TASK_NAME = ?",
+				Long.class, taskName);
+		long count = existing == null ? 0L : existing;
+		if (counts.isEmpty()) {
+			jdbcTemplate.update("INSERT INTO " + TABLE_NAME + " (TASK_NAME, EXECUTION_COUNT) VALUES (?, ?)",
+					taskName, count);
+			return count;
+		}
+		if (counts.get(0) > count) {
+			logger.warn(String.format("Seeding checkpoint of %s claims %d executions but only %d exist, resuming "
+					+ "from %d", taskName, counts.get(0), count, count));
+			jdbcTemplate.update("UPDATE " + TABLE_NAME + " SET EXECUTION_COUNT = ? WHERE TASK_NAME = ?", count,
+					taskName);
+			return count;
+		}
+		return counts.get(0);
+	}
+
+	/**
+	 * Adds the newly seeded executions to the checkpoint. Must be called in the transaction
+	 * inserting them.
+	 * @param seededExecutions the number of executions seeded, keyed by task name.
+	 */
+	public void record(Map<String, Integer> seededExecutions) {
+		List<Object[]> rows = new ArrayList<>();
+		seededExecutions.forEach((taskName, count) -> rows.add(new Object[] { count, taskName }));
+		jdbcTemplate.batchUpdate("UPDATE " + TABLE_NAME + " SET EXECUTION_COUNT = EXECUTION_COUNT + ? "
+				+ "WHERE TASK_NAME = ?", rows);
+	}
+
+	/**
+	 * Removes the checkpoints of the tasks whose name starts with the prefix if the
+	 * checkpoint table exists, without creating it.
+	 * @param dataSource the database holding the checkpoints.
+	 * @param taskNamePrefix the prefix of the task names.
+	 */
+	public static void clearIfPresent(DataSource dataSource, String taskNamePrefix) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		if (tableExists(jdbcTemplate)) {
+			clear(jdbcTemplate, taskNamePrefix);
+		}
+	}
+
+	private static void clear(JdbcTemplate jdbcTemplate, String taskNamePrefix) {
+		int cleared = jdbcTemplate.update("DELETE FROM " + TABLE_NAME + " WHERE TASK_NAME LIKE ?",
+				taskNamePrefix + "%");
+		logger.info(String.format("Cleared %d seeding checkpoints", cleared));
+	}
+
+	private static boolean tableExists(JdbcTemplate jdbcTemplate) {
+		try {
+			jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE_NAME, Long.class);
+			return true;
+		}
+		catch (DataAccessException e) {
+			return false;
+		}
+	}
+
+	private void createTableIfMissing(DatabaseType databaseType) {
+		if (!tableExists(jdbcTemplate)) {
+			String countType = databaseType == DatabaseType.ORACLE ? "NUMBER(19)" : "BIGINT";
+			jdbcTemplate.execute("CREATE TABLE " + TABLE_NAME + " (TASK_NAME VARCHAR(255) NOT NULL PRIMARY KEY, "
+					+ "EXECUTION_COUNT " + countType + " NOT NULL)");
+			logger.info("Created the " + TABLE_NAME + " table");
+		}
+	}
+}
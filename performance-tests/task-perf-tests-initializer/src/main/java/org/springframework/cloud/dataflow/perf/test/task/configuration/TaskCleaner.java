@@ -0,0 +1,379 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
+import org.springframework.cloud.dataflow.rest.resource.TaskDefinitionResource;
+import org.springframework.cloud.dataflow.rest.resource.TaskExecutionResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Removes the perf test task definitions and their executions in bulk.
+ * <p>
+ * The matching definitions are paged through with a name search instead of loading every
+ * definition. The executions of each definition are then deleted a page at a time with a
+ * single {@code CLEANUP,REMOVE_DATA} task execution delete request per page, before the
+ * definition itself is destroyed. Definitions are processed by a bounded number of workers.
+ * <p>
+ * When a {@link DataSource} is given, the seeded task and batch rows are first purged
+ * directly from the database in batched deletes, one transaction per batch of task
+ * executions, which is considerably faster than going through the server for millions of
+ * rows. The tables of both the boot 2 and the boot 3 schema targets are purged, those of a
+ * schema target missing from the database being skipped. Progress and throughput are
+ * logged as the cleanup proceeds.
+ */
+public class TaskCleaner {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaskCleaner.class);
+
+	/**
+	 * The maximum number of values in a single IN list, Oracle rejects more than 1000.
+	 */
+	private static final int MAX_IN_LIST_SIZE = 1000;
+
+	private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	/**
+	 * The table prefixes of the schema targets, none for boot 2 and {@code BOOT3_} for the
+	 * boot 3 tables added in Data Flow 2.11.
+	 */
+	private static final String[] SCHEMA_PREFIXES = { "", "BOOT3_" };
+
+	private static final String[] PURGE_BY_JOB_EXECUTION = {
+			"DELETE FROM %1$sBATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN "
+					+ "(SELECT STEP_EXECUTION_ID FROM %1$sBATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))",
+			"DELETE FROM %1$sBATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)",
+			"DELETE FROM %1$sBATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)",
+			"DELETE FROM %1$sBATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)",
+			"DELETE FROM %1$sBATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)" };
+
+	/**
+	 * {@code TASK_EXECUTION_METADATA}, which references {@code TASK_EXECUTION}, only exists
+	 * in Data Flow 2.11 schemas and is skipped when missing.
+	 */
+	private static final String PURGE_METADATA = "DELETE FROM %1$sTASK_EXECUTION_METADATA "
+			+ "WHERE TASK_EXECUTION_ID IN (:ids)";
+
+	private static final String[] PURGE_BY_TASK_EXECUTION = {
+			"DELETE FROM %1$sTASK_TASK_BATCH WHERE TASK_EXECUTION_ID IN (:ids)",
+			PURGE_METADATA,
+			"DELETE FROM %1$sTASK_EXECUTION_PARAMS WHERE TASK_EXECUTION_ID IN (:ids)",
+			"DELETE FROM %1$sTASK_EXECUTION WHERE TASK_EXECUTION_ID IN (:ids)" };
+
+	private final DataFlowTemplate dataFlowTemplate;
+
+	private final int parallelism;
+
+	private final int pageSize;
+
+	private final DataSource purgeDataSource;
+
+	private final int purgeBatchSize;
+
+	private final AtomicLong deletedExecutions = new AtomicLong();
+
+	private final AtomicLong destroyedDefinitions = new AtomicLong();
+
+	private final AtomicLong failures = new AtomicLong();
+
+	private String executionsUri;
+
+	private long start;
+
+	private long lastProgress;
+
+	/**
+	 * @param dataFlowTemplate the template used to connect to Data Flow.
+	 * @param parallelism the number of definitions cleaned up concurrently.
+	 * @param pageSize the number of definitions and executions requested, and of executions
+	 *     deleted, per request.
+	 * @param purgeDataSource if not null, the task and batch rows are purged directly from
+	 *     this database before going through the server.
+	 * @param purgeBatchSize the number of task executions purged per transaction.
+	 */
+	public TaskCleaner(DataFlowTemplate dataFlowTemplate, int parallelism, int pageSize, DataSource purgeDataSource,
+			int purgeBatchSize) {
+		this.dataFlowTemplate = dataFlowTemplate;
+		this.parallelism = Math.max(1, parallelism);
+		this.pageSize = Math.max(1, pageSize);
+		this.purgeDataSource = purgeDataSource;
+		this.purgeBatchSize = Math.max(1, Math.min(purgeBatchSize, MAX_IN_LIST_SIZE));
+	}
+
+	/**
+	 * Removes all task definitions whose name starts with the prefix and their executions.
+	 * @param taskNamePrefix the prefix to determine if a task definition should be deleted.
+	 */
+	public void cleanup(String taskNamePrefix) {
+		start = System.nanoTime();
+		lastProgress = start;
+		if (purgeDataSource != null) {
+			purge(taskNamePrefix);
+		}
+		List<String> taskNames = findTaskNames(taskNamePrefix);
+		logger.info(String.format("Cleaning up %d task definitions with %d workers", taskNames.size(), parallelism));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (String taskName : taskNames) {
+				futures.add(executorService.submit(() -> cleanupTask(taskName, taskNames.size())));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		logger.info("Cleanup complete: " + progress(taskNames.size()));
+	}
+
+	private void cleanupTask(String taskName, int totalDefinitions) {
+		Map<String, List<Long>> executionIds = findExecutionIds(taskName);
+		executionIds.forEach((schemaTarget, ids) -> {
+			for (int i = 0; i < ids.size(); i += pageSize) {
+				List<Long> page = ids.subList(i, Math.min(ids.size(), i + pageSize));
+				try {
+					deleteExecutions(page, schemaTarget);
+					deletedExecutions.addAndGet(page.size());
+				}
+				catch (Exception e) {
+					failures.incrementAndGet();
+					logger.warn("Failed to delete " + page.size() + " executions of " + taskName + ": "
+							+ e.getMessage());
+				}
+			}
+		});
+		try {
+			dataFlowTemplate.taskOperations().destroy(taskName, false);
+			destroyedDefinitions.incrementAndGet();
+		}
+		catch (Exception e) {
+			failures.incrementAndGet();
+			logger.warn("Failed to destroy " + taskName + ": " + e.getMessage());
+		}
+		logProgress(totalDefinitions);
+	}
+
+	private List<String> findTaskNames(String taskNamePrefix) {
+		String definitionsUri = dataFlowTemplate.taskOperations().list().getRequiredLink(IanaLinkRelations.SELF)
+				.expand().getHref();
+		List<String> taskNames = new ArrayList<>();
+		for (int page = 0; ; page++) {
+			TaskDefinitionResource.Page resources = dataFlowTemplate.getRestTemplate()
+					.getForObject(pageUri(definitionsUri, page).queryParam("search", taskNamePrefix).toUriString(),
+							TaskDefinitionResource.Page.class);
+			if (resources == null || resources.getContent().isEmpty()) {
+				break;
+			}
+			resources.getContent().stream()
+					.map(TaskDefinitionResource::getName)
+					.filter(name -> name.startsWith(taskNamePrefix))
+					.forEach(taskNames::add);
+			if (isLastPage(resources, page)) {
+				break;
+			}
+		}
+		return taskNames;
+	}
+
+	/**
+	 * @return the ids of the executions of the task, keyed by schema target.
+	 */
+	private Map<String, List<Long>> findExecutionIds(String taskName) {
+		Map<String, List<Long>> executionIds = new LinkedHashMap<>();
+		for (int page = 0; ; page++) {
+			TaskExecutionResource.Page resources = dataFlowTemplate.getRestTemplate()
+					.getForObject(pageUri(executionsUri(), page).queryParam("name", taskName).toUriString(),
+							TaskExecutionResource.Page.class);
+			if (resources == null || resources.getContent().isEmpty()) {
+				break;
+			}
+			for (TaskExecutionResource execution : resources.getContent()) {
+				executionIds.computeIfAbsent(String.valueOf(execution.getSchemaTarget()), key -> new ArrayList<>())
+						.add(execution.getExecutionId());
+			}
+			if (isLastPage(resources, page)) {
+				break;
+			}
+		}
+		return executionIds;
+	}
+
+	private void deleteExecutions(List<Long> ids, String schemaTarget) {
+		UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(executionsUri())
+				.path("/" + StringUtils.collectionToCommaDelimitedString(ids))
+				.replaceQueryParam("action", "CLEANUP,REMOVE_DATA");
+		if (!"null".equals(schemaTarget)) {
+			uri.replaceQueryParam("schemaTarget", schemaTarget);
+		}
+		dataFlowTemplate.getRestTemplate().delete(uri.toUriString());
+	}
+
+	private void purge(String taskNamePrefix) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(purgeDataSource);
+		for (String schemaPrefix : SCHEMA_PREFIXES) {
+			if (tableExists(jdbcTemplate, schemaPrefix + "TASK_EXECUTION")) {
+				purge(taskNamePrefix, schemaPrefix, tableExists(jdbcTemplate, schemaPrefix + "TASK_EXECUTION_METADATA"));
+			}
+			else {
+				logger.info("No " + schemaPrefix + "TASK_EXECUTION table, skipping its purge");
+			}
+		}
+	}
+
+	private void purge(String taskNamePrefix, String schemaPrefix, boolean hasMetadata) {
+		NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(purgeDataSource);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new DataSourceTransactionManager(purgeDataSource));
+		List<Long> taskExecutionIds = new JdbcTemplate(purgeDataSource).queryForList(
+				"SELECT TASK_EXECUTION_ID FROM " + schemaPrefix + "TASK_EXECUTION WHERE TASK_NAME LIKE ?", Long.class,
+				taskNamePrefix + "%");
+		logger.info(String.format("Purging %d task executions from the %sTASK_EXECUTION table",
+				taskExecutionIds.size(), schemaPrefix));
+		long purged = 0;
+		for (int i = 0; i < taskExecutionIds.size(); i += purgeBatchSize) {
+			List<Long> batch = taskExecutionIds.subList(i, Math.min(taskExecutionIds.size(), i + purgeBatchSize));
+			transactionTemplate.executeWithoutResult(status -> purgeBatch(jdbcTemplate, batch, schemaPrefix,
+					hasMetadata));
+			purged += batch.size();
+			if (System.nanoTime() - lastProgress > PROGRESS_INTERVAL_NANOS || purged == taskExecutionIds.size()) {
+				lastProgress = System.nanoTime();
+				double seconds = (lastProgress - start) / (double) TimeUnit.SECONDS.toNanos(1);
+				logger.info(String.format("Purged %d/%d task executions in %.1f s (%.0f executions/s)", purged,
+						taskExecutionIds.size(), seconds, seconds > 0 ? purged / seconds : 0.0));
+			}
+		}
+	}
+
+	private void purgeBatch(NamedParameterJdbcTemplate jdbcTemplate, List<Long> taskExecutionIds,
+			String schemaPrefix, boolean hasMetadata) {
+		List<Long> jobExecutionIds = queryIn(jdbcTemplate, "SELECT JOB_EXECUTION_ID FROM " + schemaPrefix
+				+ "TASK_TASK_BATCH WHERE TASK_EXECUTION_ID IN (:ids)", taskExecutionIds);
+		List<Long> jobInstanceIds = queryIn(jdbcTemplate, "SELECT JOB_INSTANCE_ID FROM " + schemaPrefix
+				+ "BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", jobExecutionIds);
+		for (String sql : PURGE_BY_JOB_EXECUTION) {
+			updateIn(jdbcTemplate, String.format(sql, schemaPrefix), jobExecutionIds);
+		}
+		updateIn(jdbcTemplate, String.format("DELETE FROM %1$sBATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:ids) "
+				+ "AND NOT EXISTS (SELECT 1 FROM %1$sBATCH_JOB_EXECUTION E "
+				+ "WHERE E.JOB_INSTANCE_ID = %1$sBATCH_JOB_INSTANCE.JOB_INSTANCE_ID)", schemaPrefix),
+				jobInstanceIds.stream().distinct().collect(Collectors.toList()));
+		for (String sql : PURGE_BY_TASK_EXECUTION) {
+			if (hasMetadata || !PURGE_METADATA.equals(sql)) {
+				updateIn(jdbcTemplate, String.format(sql, schemaPrefix), taskExecutionIds);
+			}
+		}
+	}
+
+	private static boolean tableExists(JdbcTemplate jdbcTemplate, String tableName) {
+		try {
+			jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tableName + " WHERE 1 = 0", Long.class);
+			return true;
+		}
+		catch (DataAccessException e) {
+			return false;
+		}
+	}
+
+	private static List<Long> queryIn(NamedParameterJdbcTemplate jdbcTemplate, String sql, List<Long> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Long> result = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+			result.addAll(jdbcTemplate.queryForList(sql,
+					new MapSqlParameterSource("ids", ids.subList(i, Math.min(ids.size(), i + MAX_IN_LIST_SIZE))),
+					Long.class));
+		}
+		return result;
+	}
+
+	private static void updateIn(NamedParameterJdbcTemplate jdbcTemplate, String sql, List<Long> ids) {
+		for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+			jdbcTemplate.update(sql,
+					new MapSqlParameterSource("ids", ids.subList(i, Math.min(ids.size(), i + MAX_IN_LIST_SIZE))));
+		}
+	}
+
+	private synchronized String executionsUri() {
+		if (executionsUri == null) {
+			executionsUri = UriComponentsBuilder.fromUriString(dataFlowTemplate.taskOperations().executionList()
+					.getRequiredLink(IanaLinkRelations.SELF).expand().getHref()).replaceQuery(null).toUriString();
+		}
+		return executionsUri;
+	}
+
+	private UriComponentsBuilder pageUri(String uri, int page) {
+		return UriComponentsBuilder.fromUriString(uri)
+				.replaceQueryParam("page", page)
+				.replaceQueryParam("size", pageSize);
+	}
+
+	private static boolean isLastPage(PagedModel<?> resources, int page) {
+		return resources.getMetadata() == null || page + 1 >= resources.getMetadata().getTotalPages();
+	}
+
+	private synchronized void logProgress(int totalDefinitions) {
+		if (System.nanoTime() - lastProgress > PROGRESS_INTERVAL_NANOS) {
+			lastProgress = System.nanoTime();
+			logger.info("Cleanup progress: " + progress(totalDefinitions));
+		}
+	}
+
+	private String progress(int totalDefinitions) {
+		double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+		return String.format("%d/%d definitions destroyed, %d executions deleted in %.1f s (%.0f executions/s), "
+						+ "%d failures", destroyedDefinitions.get(), totalDefinitions, deletedExecutions.get(), seconds,
+				seconds > 0 ? deletedExecutions.get() / seconds : 0.0, failures.get());
+	}
+}
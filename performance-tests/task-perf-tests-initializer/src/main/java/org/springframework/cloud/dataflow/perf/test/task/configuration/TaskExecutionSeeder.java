@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Seeds the task and batch tables with task executions and their job instances. Rows are
+ * accumulated per table and written with JDBC batch inserts, one transaction per chunk of
+ * {@code batchSize} task executions. The dates, statuses, steps, params and contexts of the
+ * rows follow the configured {@link TaskPerformanceProperties.DataShape}.
+ * <p>
+ * With a {@link SeedingCheckpoint} the number of executions seeded per definition is
+ * recorded in each batch's transaction, and the seed only inserts the executions missing to
+ * reach the requested number, so that it can be resumed or used to top up a dataset.
+ */
+public class TaskExecutionSeeder {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaskExecutionSeeder.class);
+
+	static final String TASK_EXECUTION = "INSERT INTO TASK_EXECUTION (TASK_EXECUTION_ID," +
+			"START_TIME,END_TIME,TASK_NAME,EXIT_CODE,EXIT_MESSAGE,ERROR_MESSAGE," +
+			"LAST_UPDATED,EXTERNAL_EXECUTION_ID,PARENT_EXECUTION_ID) VALUES " +
+			"( ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	static final String BATCH_JOB_INSTANCE = "INSERT INTO BATCH_JOB_INSTANCE (JOB_INSTANCE_ID,VERSION,JOB_NAME,JOB_KEY) VALUES " +
+			"( ?, ?, ?, ?)";
+
+	static final String BATCH_JOB_EXECUTION = "INSERT INTO BATCH_JOB_EXECUTION (JOB_EXECUTION_ID,VERSION,JOB_INSTANCE_ID,CREATE_TIME,START_TIME,END_TIME,STATUS,EXIT_CODE,EXIT_MESSAGE,LAST_UPDATED) VALUES " +
+			"(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	static final String BATCH_JOB_EXECUTION_CONTEXT = "INSERT INTO BATCH_JOB_EXECUTION_CONTEXT (JOB_EXECUTION_ID,SHORT_CONTEXT,SERIALIZED_CONTEXT) VALUES " +
+			"(?, ?, ?)";
+
+	static final String BATCH_JOB_EXECUTION_PARAMS = "INSERT INTO BATCH_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID,TYPE_CD,KEY_NAME,STRING_VAL,DATE_VAL,LONG_VAL,DOUBLE_VAL,IDENTIFYING) VALUES " +
+			"(?, ?, ?, ?, ?, ?, ?, ?)";
+
+	static final String BATCH_STEP_EXECUTION = "INSERT INTO BATCH_STEP_EXECUTION (STEP_EXECUTION_ID,VERSION,STEP_NAME,JOB_EXECUTION_ID,START_TIME,END_TIME,STATUS,COMMIT_COUNT,READ_COUNT,FILTER_COUNT,WRITE_COUNT,READ_SKIP_COUNT,WRITE_SKIP_COUNT,PROCESS_SKIP_COUNT,ROLLBACK_COUNT,EXIT_CODE,EXIT_MESSAGE,LAST_UPDATED) VALUES " +
+			"(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	static final String BATCH_STEP_EXECUTION_CONTEXT = "INSERT INTO BATCH_STEP_EXECUTION_CONTEXT (STEP_EXECUTION_ID,SHORT_CONTEXT,SERIALIZED_CONTEXT) VALUES " +
+			"(?, ?, ?)";
+
+	static final String TASK_TASK_BATCH = "INSERT INTO TASK_TASK_BATCH (TASK_EXECUTION_ID,JOB_EXECUTION_ID) VALUES " +
+			"(?, ?)";
+
+	/**
+	 * The insert statements in foreign key order, keyed by table name.
+	 */
+	private static final Map<String, String> INSERTS = new LinkedHashMap<>();
+
+	static {
+		INSERTS.put("TASK_EXECUTION", TASK_EXECUTION);
+		INSERTS.put("BATCH_JOB_INSTANCE", BATCH_JOB_INSTANCE);
+		INSERTS.put("BATCH_JOB_EXECUTION", BATCH_JOB_EXECUTION);
+		INSERTS.put("BATCH_JOB_EXECUTION_CONTEXT", BATCH_JOB_EXECUTION_CONTEXT);
+		INSERTS.put("BATCH_JOB_EXECUTION_PARAMS", BATCH_JOB_EXECUTION_PARAMS);
+		INSERTS.put("BATCH_STEP_EXECUTION", BATCH_STEP_EXECUTION);
+		INSERTS.put("BATCH_STEP_EXECUTION_CONTEXT", BATCH_STEP_EXECUTION_CONTEXT);
+		INSERTS.put("TASK_TASK_BATCH", TASK_TASK_BATCH);
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	private final ExecutionShapeGenerator shape;
+
+	private final IdRangeAllocator taskIds;
+
+	private final IdRangeAllocator jobInstanceIds;
+
+	private final IdRangeAllocator jobExecutionIds;
+
+	private final IdRangeAllocator stepExecutionIds;
+
+	private final Map<String, List<Object[]>> pendingRows = new LinkedHashMap<>();
+
+	private final Map<String, Long> insertedRows = new LinkedHashMap<>();
+
+	private final SeedingCheckpoint checkpoint;
+
+	private final Map<String, Integer> pendingExecutionsByTask = new LinkedHashMap<>();
+
+	private int pendingTaskExecutions;
+
+	private long seedingNanos;
+
+	private long seedStart;
+
+	public TaskExecutionSeeder(DataSource dataSource, int batchSize, int idBlockSize,
+			TaskPerformanceProperties.DataShape dataShape, SeedingCheckpoint checkpoint) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		this.batchSize = Math.max(1, batchSize);
+		this.shape = new ExecutionShapeGenerator(dataShape);
+		this.checkpoint = checkpoint;
+		this.taskIds = IdRangeAllocator.forSequence(dataSource, "TASK_SEQ", idBlockSize);
+		this.jobInstanceIds = IdRangeAllocator.forSequence(dataSource, "BATCH_JOB_SEQ", idBlockSize);
+		this.jobExecutionIds = IdRangeAllocator.forSequence(dataSource, "BATCH_JOB_EXECUTION_SEQ", idBlockSize);
+		this.stepExecutionIds = IdRangeAllocator.forSequence(dataSource, "BATCH_STEP_EXECUTION_SEQ", idBlockSize);
+		for (String table : INSERTS.keySet()) {
+			pendingRows.put(table, new ArrayList<>());
+			insertedRows.put(table, 0L);
+		}
+	}
+
+	/**
+	 * Inserts the specified number of task executions, each with the specified number of job
+	 * instances, for every task definition. With a checkpoint, the number of task executions
+	 * is the target per definition and only the missing executions are inserted.
+	 * @param numberOfTaskExecutions Number of task executions for each task definition to insert.
+	 * @param numberOfJobInstances the number of job instance for each task execution
+	 * @param taskDefinitions A list of task definitions to use for populating the task name.
+	 */
+	public void seed(int numberOfTaskExecutions, int numberOfJobInstances, List<Task> taskDefinitions) {
+		seedStart = System.nanoTime() - seedingNanos;
+		for (Task task : taskDefinitions) {
+			long completed = checkpoint != null ? checkpoint.completed(task.getTaskName()) : 0L;
+			if (completed > 0) {
+				logger.info(String.format("%s already has %d of %d task executions", task.getTaskName(), completed,
+						numberOfTaskExecutions));
+			}
+			for (long i = completed; i < numberOfTaskExecutions; i++) {
+				addTaskExecution(task.getTaskName(), numberOfJobInstances);
+				if (pendingTaskExecutions >= batchSize) {
+					flush();
+				}
+			}
+		}
+		flush();
+		logThroughput("Seeding complete");
+	}
+
+	/**
+	 * @return the number of rows inserted so far, keyed by table name.
+	 */
+	public Map<String, Long> getInsertedRows() {
+		return insertedRows;
+	}
+
+	/**
+	 * @return the total time spent seeding, in nanoseconds.
+	 */
+	public long getSeedingNanos() {
+		return seedingNanos;
+	}
+
+	private void addTaskExecution(String taskName, int numberOfJobInstances) {
+		long executionId = taskIds.nextId();
+		Date start = shape.startTime();
+		Date end = shape.endTime(start);
+		boolean failed = shape.failed();
+		pendingRows.get("TASK_EXECUTION").add(new Object[] { executionId, start, end, taskName,
+				failed ? 1 : 0, null, failed ? "Task failed" : null, end, taskName, null });
+		for (long i = 0; i < numberOfJobInstances; i++) {
+			long jobInstanceId = jobInstanceIds.nextId();
+			long jobExecutionId = jobExecutionIds.nextId();
+			String status = failed && i == numberOfJobInstances - 1 ? "FAILED" : "COMPLETED";
+			pendingRows.get("BATCH_JOB_INSTANCE").add(new Object[] { jobInstanceId, 0, "job" + i,
+					UUID.randomUUID().toString().substring(15) });
+			pendingRows.get("BATCH_JOB_EXECUTION").add(new Object[] { jobExecutionId, 1, jobInstanceId, start,
+					start, end, status, status, "", end });
+			pendingRows.get("BATCH_JOB_EXECUTION_CONTEXT").add(new Object[] { jobExecutionId,
+					shape.getShortContext(), shape.getSerializedContext() });
+			pendingRows.get("BATCH_JOB_EXECUTION_PARAMS").add(new Object[] { jobExecutionId, "STRING",
+					"-spring.cloud.task.executionid", executionId, start, 0, 0, "N" });
+			for (int p = 1; p < shape.getParamsPerExecution(); p++) {
+				pendingRows.get("BATCH_JOB_EXECUTION_PARAMS").add(new Object[] { jobExecutionId, "STRING",
+						"param" + p, "value" + p, start, 0, 0, "Y" });
+			}
+			int steps = shape.getStepsPerJob();
+			for (int step = 1; step <= steps; step++) {
+				long stepExecutionId = stepExecutionIds.nextId();
+				String stepStatus = "FAILED".equals(status) && step == steps ? "FAILED" : "COMPLETED";
+				pendingRows.get("BATCH_STEP_EXECUTION").add(new Object[] { stepExecutionId, 3,
+						"job" + i + "step" + step, jobExecutionId, start, end, stepStatus, 1, 0, 0, 0, 0, 0, 0, 0,
+						stepStatus, "", end });
+				pendingRows.get("BATCH_STEP_EXECUTION_CONTEXT").add(new Object[] { stepExecutionId,
+						shape.getShortContext(), shape.getSerializedContext() });
+			}
+			pendingRows.get("TASK_TASK_BATCH").add(new Object[] { executionId, jobExecutionId });
+		}
+		pendingTaskExecutions++;
+		pendingExecutionsByTask.merge(taskName, 1, Integer::sum);
+	}
+
+	private void flush() {
+		if (pendingTaskExecutions == 0) {
+			return;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
+			pendingRows.forEach((table, rows) -> {
+				if (!rows.isEmpty()) {
+					jdbcTemplate.batchUpdate(INSERTS.get(table), rows);
+				}
+			});
+			if (checkpoint != null) {
+				checkpoint.record(pendingExecutionsByTask);
+			}
+		});
+		seedingNanos = System.nanoTime() - seedStart;
+		pendingRows.forEach((table, rows) -> {
+			insertedRows.merge(table, (long) rows.size(), Long::sum);
+			rows.clear();
+		});
+		pendingTaskExecutions = 0;
+		pendingExecutionsByTask.clear();
+		logThroughput("Inserted");
+	}
+
+	private void logThroughput(String message) {
+		long rows = insertedRows.values().stream().mapToLong(Long::longValue).sum();
+		double seconds = seedingNanos / (double) TimeUnit.SECONDS.toNanos(1);
+		logger.info(String.format("%s %d task executions, %d rows in %.1f s (%.0f rows/s)", message,
+				insertedRows.get("TASK_EXECUTION"), rows, seconds, seconds > 0 ? rows / seconds : 0.0));
+	}
+}
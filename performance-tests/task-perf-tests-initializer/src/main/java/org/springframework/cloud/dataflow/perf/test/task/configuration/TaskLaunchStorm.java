@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.perf.test.task.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
+import org.springframework.cloud.dataflow.rest.client.DataFlowClientException;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
+import org.springframework.cloud.dataflow.rest.resource.LaunchResponseResource;
+import org.springframework.cloud.dataflow.rest.resource.TaskExecutionStatus;
+
+/**
+ * Launches tasks concurrently at a target rate and measures where Data Flow saturates. The
+ * latency of each launch request and the time from the launch request to the execution
+ * being {@link TaskExecutionStatus#COMPLETE} are recorded.
+ * <p>
+ * Launches rejected because the platform's maximum number of concurrent task executions is
+ * reached are counted and retried with a backoff until the completion timeout, launches
+ * that eventually succeed after being rejected are counted as throttled. The completion
+ * times are observed by polling the execution status every {@value #POLL_INTERVAL_SECONDS}
+ * seconds, which bounds their resolution.
+ */
+public class TaskLaunchStorm {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaskLaunchStorm.class);
+
+	private static final String CONCURRENT_LIMIT_MESSAGE = "maximum concurrent task executions";
+
+	private static final long POLL_INTERVAL_SECONDS = 2;
+
+	private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(2);
+
+	private final int concurrency;
+
+	private final double launchesPerSecond;
+
+	private final Duration completionTimeout;
+
+	private final Histogram launchLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+	private final Histogram completionLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+	private final Queue<PendingExecution> pending = new ConcurrentLinkedQueue<>();
+
+	private final LongAdder launched = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final LongAdder throttled = new LongAdder();
+
+	private final LongAdder failedLaunches = new LongAdder();
+
+	private final LongAdder completed = new LongAdder();
+
+	private final LongAdder failedExecutions = new LongAdder();
+
+	private long timedOut;
+
+	private long elapsedNanos;
+
+	/**
+	 * @param concurrency the maximum number of launch requests in flight.
+	 * @param launchesPerSecond the target launch rate. If 0 or less launches are only limited
+	 *     by the concurrency.
+	 * @param completionTimeout how long to wait for the launches to be accepted and the
+	 *     executions to complete.
+	 */
+	public TaskLaunchStorm(int concurrency, double launchesPerSecond, Duration completionTimeout) {
+		this.concurrency = Math.max(1, concurrency);
+		this.launchesPerSecond = launchesPerSecond;
+		this.completionTimeout = completionTimeout;
+	}
+
+	/**
+	 * Launches the specified number of tasks, cycling through the task definitions, and waits
+	 * for the executions to complete.
+	 * @param numberOfLaunches Number of launches
+	 * @param taskDefinitions List of task definitions to be used for task launches.
+	 */
+	public void run(int numberOfLaunches, List<Task> taskDefinitions) {
+		logger.info(String.format("Launching %d tasks with a concurrency of %d at %s launches/s", numberOfLaunches,
+				concurrency, launchesPerSecond > 0 ? launchesPerSecond : "unlimited"));
+		long start = System.nanoTime();
+		long deadline = start + completionTimeout.toNanos();
+		long intervalNanos = launchesPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / launchesPerSecond) : 0;
+		ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+		try {
+			for (int i = 0; i < numberOfLaunches; i++) {
+				long wait = start + i * intervalNanos - System.nanoTime();
+				if (wait > 0) {
+					TimeUnit.NANOSECONDS.sleep(wait);
+				}
+				Task task = taskDefinitions.get(i % taskDefinitions.size());
+				executorService.execute(() -> launch(task, deadline));
+			}
+			executorService.shutdown();
+			while (!executorService.awaitTermination(POLL_INTERVAL_SECONDS, TimeUnit.SECONDS)) {
+				pollPendingExecutions();
+			}
+			while (!pending.isEmpty() && System.nanoTime() < deadline) {
+				pollPendingExecutions();
+				if (!pending.isEmpty()) {
+					TimeUnit.SECONDS.sleep(POLL_INTERVAL_SECONDS);
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		timedOut = pending.size();
+		elapsedNanos = System.nanoTime() - start;
+		logger.info(summary());
+	}
+
+	private void launch(Task task, long deadline) {
+		long backoffMillis = 500;
+		boolean wasRejected = false;
+		while (true) {
+			long start = System.nanoTime();
+			try {
+				LaunchResponseResource launchResponse = task.launch();
+				launchLatency.recordValue(micros(System.nanoTime() - start));
+				pending.add(new PendingExecution(task, launchResponse, start));
+				launched.increment();
+				if (wasRejected) {
+					throttled.increment();
+				}
+				return;
+			}
+			catch (DataFlowClientException e) {
+				if (e.getMessage() == null || !e.getMessage().contains(CONCURRENT_LIMIT_MESSAGE)) {
+					failedLaunches.increment();
+					logger.warn("Failed to launch " + task.getTaskName() + ": " + e.getMessage());
+					return;
+				}
+				rejected.increment();
+				wasRejected = true;
+			}
+			catch (Exception e) {
+				failedLaunches.increment();
+				logger.warn("Failed to launch " + task.getTaskName() + ": " + e.getMessage());
+				return;
+			}
+			if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis) > deadline) {
+				failedLaunches.increment();
+				return;
+			}
+			try {
+				Thread.sleep(backoffMillis);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			backoffMillis = Math.min(backoffMillis * 2, TimeUnit.SECONDS.toMillis(10));
+		}
+	}
+
+	private void pollPendingExecutions() {
+		for (Iterator<PendingExecution> iterator = pending.iterator(); iterator.hasNext(); ) {
+			PendingExecution execution = iterator.next();
+			TaskExecutionStatus status;
+			try {
+				status = execution.task.executionStatus(execution.launchResponse.getExecutionId(),
+						execution.launchResponse.getSchemaTarget());
+			}
+			catch (Exception e) {
+				logger.debug("Failed to retrieve the status of execution "
+						+ execution.launchResponse.getExecutionId(), e);
+				continue;
+			}
+			if (status == TaskExecutionStatus.COMPLETE) {
+				completionLatency.recordValue(micros(System.nanoTime() - execution.launchedAt));
+				completed.increment();
+				iterator.remove();
+			}
+			else if (status == TaskExecutionStatus.ERROR) {
+				failedExecutions.increment();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Writes the counts and the latency percentiles to {@code task-perf-launch-storm.csv}.
+	 * @param reportDirectory the directory the report is written to.
+	 */
+	public void writeReport(String reportDirectory) {
+		Path report = Paths.get(reportDirectory).resolve("task-perf-launch-storm.csv");
+		StringBuilder content = new StringBuilder("metric,count,p50_ms,p90_ms,p99_ms,max_ms\n")
+				.append(histogramRow("launch-request", launchLatency))
+				.append(histogramRow("launch-to-complete", completionLatency))
+				.append(countRow("launched", launched.sum()))
+				.append(countRow("rejected", rejected.sum()))
+				.append(countRow("throttled", throttled.sum()))
+				.append(countRow("failed-launches", failedLaunches.sum()))
+				.append(countRow("completed", completed.sum()))
+				.append(countRow("failed-executions", failedExecutions.sum()))
+				.append(countRow("timed-out", timedOut))
+				.append(countRow("elapsed-ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+		try {
+			Files.createDirectories(report.getParent());
+			Files.write(report, content.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Adds the launch request and launch to complete latencies to the run results. Failed
+	 * launches, and failed or timed out executions, are recorded as errors.
+	 * @param runRecorder the recorder of the run.
+	 */
+	public void exportTo(RunRecorder runRecorder) {
+		runRecorder.recordHistogram("launch-request", launchLatency, failedLaunches.sum(), elapsedNanos);
+		runRecorder.recordHistogram("launch-to-complete", completionLatency, failedExecutions.sum() + timedOut,
+				elapsedNanos);
+	}
+
+	private String summary() {
+		double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+		return String.format("Launch storm: launched=%d (%.2f/s), rejected=%d, throttled=%d, failed launches=%d, "
+						+ "completed=%d, failed executions=%d, timed out=%d, launch request p50/p99=%.1f/%.1f ms, "
+						+ "launch to complete p50/p99=%.1f/%.1f ms",
+				launched.sum(), seconds > 0 ? launched.sum() / seconds : 0.0, rejected.sum(), throttled.sum(),
+				failedLaunches.sum(), completed.sum(), failedExecutions.sum(), timedOut,
+				launchLatency.getValueAtPercentile(50.0) / 1000.0, launchLatency.getValueAtPercentile(99.0) / 1000.0,
+				completionLatency.getValueAtPercentile(50.0) / 1000.0,
+				completionLatency.getValueAtPercentile(99.0) / 1000.0);
+	}
+
+	private static String histogramRow(String metric, Histogram histogram) {
+		return String.format("%s,%d,%.3f,%.3f,%.3f,%.3f%n", metric, histogram.getTotalCount(),
+				histogram.getValueAtPercentile(50.0) / 1000.0, histogram.getValueAtPercentile(90.0) / 1000.0,
+				histogram.getValueAtPercentile(99.0) / 1000.0, histogram.getMaxValue() / 1000.0);
+	}
+
+	private static String countRow(String metric, long count) {
+		return String.format("%s,%d,,,,%n", metric, count);
+	}
+
+	private static long micros(long nanos) {
+		return Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos));
+	}
+
+	private static class PendingExecution {
+
+		private final Task task;
+
+		private final LaunchResponseResource launchResponse;
+
+		private final long launchedAt;
+
+		PendingExecution(Task task, LaunchResponseResource launchResponse, long launchedAt) {
+			this.task = task;
+			this.launchResponse = launchResponse;
+			this.launchedAt = launchedAt;
+		}
+	}
+}
@@ -16,15 +16,25 @@
 
 package org.springframework.cloud.dataflow.perf.test.task.configuration;
 
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
 import javax.sql.DataSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.dataflow.perf.test.results.MicrometerRunExporter;
+import org.springframework.cloud.dataflow.perf.test.results.PerformanceRun;
+import org.springframework.cloud.dataflow.perf.test.results.RunExporter;
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
 import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -42,27 +52,86 @@ public class TaskPerformanceConfiguration {
 	@Autowired(required = false)
 	private DataSource dataSource;
 
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
 	@Bean
 	public ApplicationRunner applicationRunner(Environment environment) {
 		return args -> {
+			RunRecorder runRecorder = new RunRecorder("task", properties.getRunId())
+					.parameters("", properties)
+					.parameter("dataflowVersion", serverVersion());
 			if (properties.getCleanup()) {
-				TaskUtils.cleanup(properties.getTaskPrefix(), dataFlowOperations);
+				try (RunRecorder.Phase phase = runRecorder.phase("cleanup")) {
+					TaskUtils.cleanup(properties.getTaskPrefix(), dataFlowOperations, properties.getCleanupParallelism(),
+							properties.getCleanupPageSize(), properties.getCleanupDirectPurge() ? dataSource : null,
+							properties.getCleanupPurgeBatchSize());
+					if (dataSource != null) {
+						SeedingCheckpoint.clearIfPresent(dataSource, properties.getTaskPrefix());
+					}
+				}
 			}
 			else {
-				TaskUtils.createTaskDefinitions(properties.getTaskPrefix(), properties.getTaskDefinitionCount(),
-						dataFlowOperations);
+				try (RunRecorder.Phase phase = runRecorder.phase("create-definitions")) {
+					TaskUtils.createTaskDefinitions(properties.getTaskPrefix(), properties.getTaskDefinitionCount(),
+							dataFlowOperations);
+				}
 				if (properties.getAddTaskExecutions()) {
 					if (dataSource != null) {
                         logger.info("Datasource configured:" + environment.getProperty("spring.datasource.url"));
-						TaskUtils.dbInsertTaskExecutions(properties.getTaskExecutionCount(), properties.getJobInstancesPerTaskExecution(),
-								TaskUtils.getTaskDefinitionsByPrefix(properties.getTaskPrefix(), dataFlowOperations),
-								dataSource);
+						try (RunRecorder.Phase phase = runRecorder.phase("seed-executions")) {
+							TaskUtils.dbInsertTaskExecutions(properties.getTaskExecutionCount(), properties.getJobInstancesPerTaskExecution(),
+									TaskUtils.getTaskDefinitionsByPrefix(properties.getTaskPrefix(), dataFlowOperations),
+									dataSource, properties.getInsertBatchSize(),
+									properties.getIdBlockSize(), properties.getSeedingThreads(),
+									properties.getDataShape(), properties.getSeedingCheckpointEnabled(), runRecorder);
+						}
 					}
 					else {
 					    logger.warn("Datasource not configured. Will not create task executions.");
                     }
 				}
+				if (properties.getLaunchStormEnabled()) {
+					try (RunRecorder.Phase phase = runRecorder.phase("launch-storm")) {
+						TaskUtils.launchTasks(properties.getLaunchStormLaunches(),
+								TaskUtils.getTaskDefinitionsByPrefix(properties.getTaskPrefix(), dataFlowOperations),
+								properties.getLaunchStormConcurrency(), properties.getLaunchStormLaunchesPerSecond(),
+								properties.getLaunchStormTimeout(), properties.getReportDirectory(), runRecorder);
+					}
+				}
+				if (properties.getCtrBenchmarkEnabled()) {
+					try (RunRecorder.Phase phase = runRecorder.phase("ctr-benchmark")) {
+						new ComposedTaskScaleBenchmark(dataFlowOperations, properties, runRecorder).run();
+					}
+				}
+				if (properties.getReadBenchmarkEnabled()) {
+					try (RunRecorder.Phase phase = runRecorder.phase("read-benchmark")) {
+						new ReadPathBenchmark(dataFlowOperations, properties, runRecorder).run(TaskUtils
+								.getTaskDefinitionsByPrefix(properties.getTaskPrefix(), dataFlowOperations).stream()
+								.map(Task::getTaskName)
+								.collect(Collectors.toList()));
+					}
+				}
 			}
+			exportResults(runRecorder.finish());
 		};
 	}
+
+	private void exportResults(PerformanceRun run) {
+		RunExporter.exportAll(run, Paths.get(properties.getReportDirectory()), properties.getResultFormats());
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			new MicrometerRunExporter(registry).export(run);
+		}
+	}
+
+	private String serverVersion() {
+		try {
+			return dataFlowOperations.aboutOperation().get().getVersionInfo().getCore().getVersion();
+		}
+		catch (Exception e) {
+			logger.warn("Could not get the Data Flow server version: " + e.getMessage());
+			return "unknown";
+		}
+	}
 }
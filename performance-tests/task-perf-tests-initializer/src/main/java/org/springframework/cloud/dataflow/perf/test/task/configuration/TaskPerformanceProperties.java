@@ -16,6 +16,11 @@
 
 package org.springframework.cloud.dataflow.perf.test.task.configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "org.springframework.cloud.dataflow.task.performance")
@@ -52,6 +57,162 @@ public class TaskPerformanceProperties {
      */
     private Integer jobInstancesPerTaskExecution = 0;
 
+	/**
+	 * The number of task executions, together with their job instances, inserted per JDBC batch. Each batch is
+	 * written in its own transaction.
+	 */
+	private Integer insertBatchSize = 500;
+
+	/**
+	 * The number of ids reserved from each task and batch sequence per database round-trip while inserting task
+	 * executions.
+	 */
+	private Integer idBlockSize = 1000;
+
+	/**
+	 * The number of threads inserting task executions concurrently, the task definitions being partitioned across
+	 * them. If 0 the maximum size of the connection pool is used.
+	 */
+	private Integer seedingThreads = 0;
+
+	/**
+	 * If true the number of task executions seeded per task definition is checkpointed in the database, and the task
+	 * execution count is a target: only the executions missing to reach it are inserted. This allows an interrupted
+	 * seed to be resumed and an existing dataset to be topped up.
+	 */
+	private Boolean seedingCheckpointEnabled = false;
+
+	/**
+	 * The shape of the inserted task executions and job graphs.
+	 */
+	private DataShape dataShape = new DataShape();
+
+	/**
+	 * The number of task definitions cleaned up concurrently.
+	 */
+	private Integer cleanupParallelism = 4;
+
+	/**
+	 * The number of task definitions and executions requested, and of executions deleted, per request during cleanup.
+	 */
+	private Integer cleanupPageSize = 100;
+
+	/**
+	 * If true and a datasource is configured, the task and batch rows of the perf test tasks are purged directly from
+	 * the database before the definitions are destroyed.
+	 */
+	private Boolean cleanupDirectPurge = false;
+
+	/**
+	 * The number of task executions purged per transaction when purging directly from the database.
+	 */
+	private Integer cleanupPurgeBatchSize = 500;
+
+	/**
+	 * If true tasks are launched concurrently, cycling through the task definitions, and the launch latencies and
+	 * completion times are measured.
+	 */
+	private Boolean launchStormEnabled = false;
+
+	/**
+	 * The number of task launches in the launch storm.
+	 */
+	private Integer launchStormLaunches = 100;
+
+	/**
+	 * The maximum number of launch requests in flight during the launch storm.
+	 */
+	private Integer launchStormConcurrency = 10;
+
+	/**
+	 * The target launch rate of the launch storm. If 0 launches are only limited by the concurrency.
+	 */
+	private Double launchStormLaunchesPerSecond = 5.0;
+
+	/**
+	 * How long to wait for the launch storm executions to complete.
+	 */
+	private Duration launchStormTimeout = Duration.ofMinutes(15);
+
+	/**
+	 * If true composed tasks of each configured width and depth are launched to measure the orchestration overhead of
+	 * the composed task runner.
+	 */
+	private Boolean ctrBenchmarkEnabled = false;
+
+	/**
+	 * The split fan-outs of the benchmarked composed tasks.
+	 */
+	private List<Integer> ctrBenchmarkWidths = new ArrayList<>(Arrays.asList(1, 2, 4));
+
+	/**
+	 * The number of sequential stages of the benchmarked composed tasks.
+	 */
+	private List<Integer> ctrBenchmarkDepths = new ArrayList<>(Arrays.asList(1, 2, 4));
+
+	/**
+	 * The number of times each composed task is launched.
+	 */
+	private Integer ctrBenchmarkRuns = 1;
+
+	/**
+	 * The task app run by every child of the benchmarked composed tasks.
+	 */
+	private String ctrBenchmarkApp = "timestamp";
+
+	/**
+	 * The arguments of the composed task launches.
+	 */
+	private List<String> ctrBenchmarkArguments = new ArrayList<>();
+
+	/**
+	 * How long to wait for each composed task execution to complete.
+	 */
+	private Duration ctrBenchmarkTimeout = Duration.ofMinutes(30);
+
+	/**
+	 * If true the task and job REST endpoints are benchmarked once the task executions are in place.
+	 */
+	private Boolean readBenchmarkEnabled = false;
+
+	/**
+	 * The number of concurrent clients issuing requests during the read benchmark.
+	 */
+	private Integer readBenchmarkClients = 4;
+
+	/**
+	 * The number of requests issued per endpoint and page size during the read benchmark.
+	 */
+	private Integer readBenchmarkRequests = 50;
+
+	/**
+	 * The page sizes requested during the read benchmark.
+	 */
+	private List<Integer> readBenchmarkPageSizes = new ArrayList<>(Arrays.asList(20, 100, 500));
+
+	/**
+	 * The requested pages are picked at random between the first page and this number of pages, so that deep pages
+	 * are exercised too.
+	 */
+	private Integer readBenchmarkMaxPage = 10;
+
+	/**
+	 * The directory the benchmark reports are written to.
+	 */
+	private String reportDirectory = "perf-results";
+
+	/**
+	 * The id of the run, used as the base name of the run result files written to
+	 * reportDirectory. If not set an id made of the suite name and the start time is
+	 * generated.
+	 */
+	private String runId;
+
+	/**
+	 * The formats the run results are written in, json and/or csv.
+	 */
+	private List<String> resultFormats = new ArrayList<>(Arrays.asList("json", "csv"));
+
 	public String getTaskPrefix() {
 		return taskPrefix;
 	}
@@ -107,4 +268,324 @@ public class TaskPerformanceProperties {
     public void setJobInstancesPerTaskExecution(Integer jobInstancesPerTaskExecution) {
         this.jobInstancesPerTaskExecution = jobInstancesPerTaskExecution;
     }
+
+	public Integer getInsertBatchSize() {
+		return insertBatchSize;
+	}
+
+	public void setInsertBatchSize(Integer insertBatchSize) {
+		this.insertBatchSize = insertBatchSize;
+	}
+
+	public Integer getIdBlockSize() {
+		return idBlockSize;
+	}
+
+	public void setIdBlockSize(Integer idBlockSize) {
+		this.idBlockSize = idBlockSize;
+	}
+
+	public Integer getSeedingThreads() {
+		return seedingThreads;
+	}
+
+	public void setSeedingThreads(Integer seedingThreads) {
+		this.seedingThreads = seedingThreads;
+	}
+
+	public Boolean getSeedingCheckpointEnabled() {
+		return seedingCheckpointEnabled;
+	}
+
+	public void setSeedingCheckpointEnabled(Boolean seedingCheckpointEnabled) {
+		this.seedingCheckpointEnabled = seedingCheckpointEnabled;
+	}
+
+	public DataShape getDataShape() {
+		return dataShape;
+	}
+
+	public void setDataShape(DataShape dataShape) {
+		this.dataShape = dataShape;
+	}
+
+	public Integer getCleanupParallelism() {
+		return cleanupParallelism;
+	}
+
+	public void setCleanupParallelism(Integer cleanupParallelism) {
+		this.cleanupParallelism = cleanupParallelism;
+	}
+
+	public Integer getCleanupPageSize() {
+		return cleanupPageSize;
+	}
+
+	public void setCleanupPageSize(Integer cleanupPageSize) {
+		this.cleanupPageSize = cleanupPageSize;
+	}
+
+	public Boolean getCleanupDirectPurge() {
+		return cleanupDirectPurge;
+	}
+
+	public void setCleanupDirectPurge(Boolean cleanupDirectPurge) {
+		this.cleanupDirectPurge = cleanupDirectPurge;
+	}
+
+	public Integer getCleanupPurgeBatchSize() {
+		return cleanupPurgeBatchSize;
+	}
+
+	public void setCleanupPurgeBatchSize(Integer cleanupPurgeBatchSize) {
+		this.cleanupPurgeBatchSize = cleanupPurgeBatchSize;
+	}
+
+	public Boolean getLaunchStormEnabled() {
+		return launchStormEnabled;
+	}
+
+	public void setLaunchStormEnabled(Boolean launchStormEnabled) {
+		this.launchStormEnabled = launchStormEnabled;
+	}
+
+	public Integer getLaunchStormLaunches() {
+		return launchStormLaunches;
+	}
+
+	public void setLaunchStormLaunches(Integer launchStormLaunches) {
+		this.launchStormLaunches = launchStormLaunches;
+	}
+
+	public Integer getLaunchStormConcurrency() {
+		return launchStormConcurrency;
+	}
+
+	public void setLaunchStormConcurrency(Integer launchStormConcurrency) {
+		this.launchStormConcurrency = launchStormConcurrency;
+	}
+
+	public Double getLaunchStormLaunchesPerSecond() {
+		return launchStormLaunchesPerSecond;
+	}
+
+	public void setLaunchStormLaunchesPerSecond(Double launchStormLaunchesPerSecond) {
+		this.launchStormLaunchesPerSecond = launchStormLaunchesPerSecond;
+	}
+
+	public Duration getLaunchStormTimeout() {
+		return launchStormTimeout;
+	}
+
+	public void setLaunchStormTimeout(Duration launchStormTimeout) {
+		this.launchStormTimeout = launchStormTimeout;
+	}
+
+	public Boolean getCtrBenchmarkEnabled() {
+		return ctrBenchmarkEnabled;
+	}
+
+	public void setCtrBenchmarkEnabled(Boolean ctrBenchmarkEnabled) {
+		this.ctrBenchmarkEnabled = ctrBenchmarkEnabled;
+	}
+
+	public List<Integer> getCtrBenchmarkWidths() {
+		return ctrBenchmarkWidths;
+	}
+
+	public void setCtrBenchmarkWidths(List<Integer> ctrBenchmarkWidths) {
+		this.ctrBenchmarkWidths = ctrBenchmarkWidths;
+	}
+
+	public List<Integer> getCtrBenchmarkDepths() {
+		return ctrBenchmarkDepths;
+	}
+
+	public void setCtrBenchmarkDepths(List<Integer> ctrBenchmarkDepths) {
+		this.ctrBenchmarkDepths = ctrBenchmarkDepths;
+	}
+
+	public Integer getCtrBenchmarkRuns() {
+		return ctrBenchmarkRuns;
+	}
+
+	public void setCtrBenchmarkRuns(Integer ctrBenchmarkRuns) {
+		this.ctrBenchmarkRuns = ctrBenchmarkRuns;
+	}
+
+	public String getCtrBenchmarkApp() {
+		return ctrBenchmarkApp;
+	}
+
+	public void setCtrBenchmarkApp(String ctrBenchmarkApp) {
+		this.ctrBenchmarkApp = ctrBenchmarkApp;
+	}
+
+	public List<String> getCtrBenchmarkArguments() {
+		return ctrBenchmarkArguments;
+	}
+
+	public void setCtrBenchmarkArguments(List<String> ctrBenchmarkArguments) {
+		this.ctrBenchmarkArguments = ctrBenchmarkArguments;
+	}
+
+	public Duration getCtrBenchmarkTimeout() {
+		return ctrBenchmarkTimeout;
+	}
+
+	public void setCtrBenchmarkTimeout(Duration ctrBenchmarkTimeout) {
+		this.ctrBenchmarkTimeout = ctrBenchmarkTimeout;
+	}
+
+	public Boolean getReadBenchmarkEnabled() {
+		return readBenchmarkEnabled;
+	}
+
+	public void setReadBenchmarkEnabled(Boolean readBenchmarkEnabled) {
+		this.readBenchmarkEnabled = readBenchmarkEnabled;
+	}
+
+	public Integer getReadBenchmarkClients() {
+		return readBenchmarkClients;
+	}
+
+	public void setReadBenchmarkClients(Integer readBenchmarkClients) {
+		this.readBenchmarkClients = readBenchmarkClients;
+	}
+
+	public Integer getReadBenchmarkRequests() {
+		return readBenchmarkRequests;
+	}
+
+	public void setReadBenchmarkRequests(Integer readBenchmarkRequests) {
+		this.readBenchmarkRequests = readBenchmarkRequests;
+	}
+
+	public List<Integer> getReadBenchmarkPageSizes() {
+		return readBenchmarkPageSizes;
+	}
+
+	public void setReadBenchmarkPageSizes(List<Integer> readBenchmarkPageSizes) {
+		this.readBenchmarkPageSizes = readBenchmarkPageSizes;
+	}
+
+	public Integer getReadBenchmarkMaxPage() {
+		return readBenchmarkMaxPage;
+	}
+
+	public void setReadBenchmarkMaxPage(Integer readBenchmarkMaxPage) {
+		this.readBenchmarkMaxPage = readBenchmarkMaxPage;
+	}
+
+	public String getReportDirectory() {
+		return reportDirectory;
+	}
+
+	public void setReportDirectory(String reportDirectory) {
+		this.reportDirectory = reportDirectory;
+	}
+
+	public String getRunId() {
+		return runId;
+	}
+
+	public void setRunId(String runId) {
+		this.runId = runId;
+	}
+
+	public List<String> getResultFormats() {
+		return resultFormats;
+	}
+
+	public void setResultFormats(List<String> resultFormats) {
+		this.resultFormats = resultFormats;
+	}
+
+	/**
+	 * Controls the shape of the inserted data so that it reproduces the distributions, and
+	 * therefore the query plans, of a production database. The defaults insert identical
+	 * successful executions dated now, with a single step, a single param and an empty
+	 * context.
+	 */
+	public static class DataShape {
+
+		/**
+		 * The number of days in the past over which the start times of the executions are spread.
+		 */
+		private Integer dateSpreadDays = 0;
+
+		/**
+		 * Skews the start times towards the present. 1 spreads them uniformly, higher values concentrate them on the
+		 * most recent days.
+		 */
+		private Double dateSkew = 1.0;
+
+		/**
+		 * The fraction, between 0 and 1, of task executions (and their job executions) that failed.
+		 */
+		private Double failureRate = 0.0;
+
+		/**
+		 * The number of step executions per job execution.
+		 */
+		private Integer stepsPerJob = 1;
+
+		/**
+		 * The number of job parameters per job execution, including the task execution id parameter.
+		 */
+		private Integer paramsPerExecution = 1;
+
+		/**
+		 * The approximate size, in characters, of the job and step execution contexts.
+		 */
+		private Integer contextSize = 2;
+
+		public Integer getDateSpreadDays() {
+			return dateSpreadDays;
+		}
+
+		public void setDateSpreadDays(Integer dateSpreadDays) {
+			this.dateSpreadDays = dateSpreadDays;
+		}
+
+		public Double getDateSkew() {
+			return dateSkew;
+		}
+
+		public void setDateSkew(Double dateSkew) {
+			this.dateSkew = dateSkew;
+		}
+
+		public Double getFailureRate() {
+			return failureRate;
+		}
+
+		public void setFailureRate(Double failureRate) {
+			this.failureRate = failureRate;
+		}
+
+		public Integer getStepsPerJob() {
+			return stepsPerJob;
+		}
+
+		public void setStepsPerJob(Integer stepsPerJob) {
+			this.stepsPerJob = stepsPerJob;
+		}
+
+		public Integer getParamsPerExecution() {
+			return paramsPerExecution;
+		}
+
+		public void setParamsPerExecution(Integer paramsPerExecution) {
+			this.paramsPerExecution = paramsPerExecution;
+		}
+
+		public Integer getContextSize() {
+			return contextSize;
+		}
+
+		public void setContextSize(Integer contextSize) {
+			this.contextSize = contextSize;
+		}
+	}
 }
@@ -16,10 +16,11 @@
 
 package org.springframework.cloud.dataflow.perf.test.task.configuration;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -27,15 +28,14 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.batch.item.database.support.DataFieldMaxValueIncrementerFactory;
 import org.springframework.batch.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
+import org.springframework.cloud.dataflow.perf.test.results.RunRecorder;
 import org.springframework.cloud.dataflow.rest.client.DataFlowClientException;
 import org.springframework.cloud.dataflow.rest.client.DataFlowOperations;
-import org.springframework.cloud.dataflow.rest.client.TaskOperations;
+import org.springframework.cloud.dataflow.rest.client.DataFlowTemplate;
 import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
 import org.springframework.cloud.dataflow.rest.client.dsl.task.TaskBuilder;
 import org.springframework.cloud.task.repository.support.DatabaseType;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 
@@ -43,6 +43,10 @@ public class TaskUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(TaskUtils.class);
 
+	private static final Map<DataSource, DatabaseType> databaseTypes = new ConcurrentHashMap<>();
+
+	private static final Map<DataSource, Map<String, DataFieldMaxValueIncrementer>> incrementers = new ConcurrentHashMap<>();
+
 	/** Create a specified number of task definitions using the taskNamePrefix.
 	 * If a task definition already exists then the app will skip that entry and continue creating the rest of the task definitions.
 	 *
@@ -100,107 +104,106 @@ public class TaskUtils {
 		}
 	}
 
+	/**
+	 * Launches the specified number of task executions concurrently at a target rate, waits
+	 * for them to complete and reports the launch request latency, the time to completion
+	 * and the number of launches rejected by the concurrent task limit.
+	 * @param numberOfLaunches Number of launches
+	 * @param taskDefinitions List of task definitions to be used for task launches.
+	 * @param concurrency The maximum number of launch requests in flight.
+	 * @param launchesPerSecond The target launch rate, unlimited if 0 or less.
+	 * @param completionTimeout How long to wait for the executions to complete.
+	 * @param reportDirectory The directory the report is written to.
+	 * @param runRecorder The recorder of the run results the latencies are added to.
+	 */
+	public static void launchTasks(int numberOfLaunches, List<Task> taskDefinitions, int concurrency,
+			double launchesPerSecond, Duration completionTimeout, String reportDirectory, RunRecorder runRecorder) {
+		TaskLaunchStorm launchStorm = new TaskLaunchStorm(concurrency, launchesPerSecond, completionTimeout);
+		launchStorm.run(numberOfLaunches, taskDefinitions);
+		launchStorm.writeReport(reportDirectory);
+		launchStorm.exportTo(runRecorder);
+	}
+
 
 	/**
 	 * Inserts the specified number of task executions into the task_execution table.
 	 * @param numberOfTaskExecutions Number of task executions for each task definition to
 	 *     insert.
+	 * @param numberOfJobInstances the number of job instance for each task execution
 	 * @param taskDefinitions A list of task definitions to use for populating task the task
 	 *     name and task description.
 	 * @param dataSource The dataSource to use for inserting the data.
+	 * @param batchSize The number of task executions, with their job instances, written per
+	 *     JDBC batch and transaction.
+	 * @param idBlockSize The number of ids reserved from each sequence per round-trip.
+	 * @param threads The number of concurrent seeding workers, the task definitions being
+	 *     partitioned across them. If 0 or less the size of the connection pool is used.
+	 * @param dataShape The shape of the inserted executions.
+	 * @param checkpointEnabled If true the number of task executions is a target per task
+	 *     definition, only the executions missing to reach it are inserted and progress is
+	 *     checkpointed so that an interrupted seed can be resumed.
+	 * @param runRecorder The recorder the rows per second inserted into each table are
+	 *     recorded to, as {@code seed-<table>} throughputs. May be null.
+	 * @return the number of rows inserted, keyed by table name.
 	 */
-	public static void dbInsertTaskExecutions(int numberOfTaskExecutions, int numberOfJobInstances, List<Task> taskDefinitions,
-			DataSource dataSource) {
+	public static Map<String, Long> dbInsertTaskExecutions(int numberOfTaskExecutions, int numberOfJobInstances,
+			List<Task> taskDefinitions, DataSource dataSource, int batchSize, int idBlockSize, int threads,
+			TaskPerformanceProperties.DataShape dataShape, boolean checkpointEnabled, RunRecorder runRecorder) {
 		logger.info(String.format("Creating %s task executions", numberOfTaskExecutions * taskDefinitions.size()));
-		DataFieldMaxValueIncrementer incrementer = getIncrementer(dataSource, "TASK_SEQ");
-		int sizeOfTaskDefinitions = taskDefinitions.size();
-		for (Task task : taskDefinitions) {
-			for (int i = 0; i < numberOfTaskExecutions; i++) {
-				long executionid = incrementer.nextLongValue();
-				JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-				jdbcTemplate.update("INSERT INTO TASK_EXECUTION (TASK_EXECUTION_ID," +
-						"START_TIME,END_TIME,TASK_NAME,EXIT_CODE,EXIT_MESSAGE,ERROR_MESSAGE," +
-						"LAST_UPDATED,EXTERNAL_EXECUTION_ID,PARENT_EXECUTION_ID) VALUES " +
-						"( ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
-						executionid, new Date(), new Date(), task.getTaskName(),
-						0, null, null, new Date(), task.getTaskName(), null);
-                dbInsertJobInstances(numberOfJobInstances, executionid, dataSource);
-			}
+		long start = System.nanoTime();
+		Map<String, Long> insertedRows = new ParallelTaskExecutionSeeder(dataSource, batchSize, idBlockSize, threads,
+				dataShape, checkpointEnabled).seed(numberOfTaskExecutions, numberOfJobInstances, taskDefinitions);
+		long nanos = System.nanoTime() - start;
+		if (runRecorder != null) {
+			insertedRows.forEach((table, rows) -> runRecorder.recordThroughput("seed-" + table, rows, nanos));
 		}
+		return insertedRows;
 	}
 
-    /**
-     * Creates a number of job instances for each execution id.
-     * @param numberOfJobInstances the number of job instance for each task execution
-     * @param executionId the execution id that the job instances will be associated
-     * @param dataSource he dataSource to use for inserting the data.
-     */
-	private static void dbInsertJobInstances(int numberOfJobInstances, long executionId, DataSource dataSource) {
-        DataFieldMaxValueIncrementer jobExecutionIncrementer = getIncrementer(dataSource, "BATCH_JOB_EXECUTION_SEQ");
-        DataFieldMaxValueIncrementer jobInstanceIncrementer = getIncrementer(dataSource, "BATCH_JOB_SEQ");
-        DataFieldMaxValueIncrementer jobStepExecutionIncrementer = getIncrementer(dataSource, "BATCH_STEP_EXECUTION_SEQ");
-
-        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
-
-        for (long i = 0 ; i < numberOfJobInstances; i++) {
-            long jobInstanceId = jobInstanceIncrementer.nextLongValue();
-            long jobExecutionId = jobExecutionIncrementer.nextLongValue();
-            long stepExecutionId = jobStepExecutionIncrementer.nextLongValue();
-            jdbcTemplate.update("INSERT INTO BATCH_JOB_INSTANCE (JOB_INSTANCE_ID,VERSION,JOB_NAME,JOB_KEY) VALUES " +
-                    "( ?, ?, ?, ?)",
-                jobInstanceId, 0, "job" + i, UUID.randomUUID().toString().substring(15));
-
-            jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION (JOB_EXECUTION_ID,VERSION,JOB_INSTANCE_ID,CREATE_TIME,START_TIME,END_TIME,STATUS,EXIT_CODE,EXIT_MESSAGE,LAST_UPDATED) VALUES " +
-                    "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
-                jobExecutionId, 1, jobInstanceId, new Date(), new Date(), new Date(), "COMPLETED", "COMPLETED", "", new Date());
-
-            jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_CONTEXT (JOB_EXECUTION_ID,SHORT_CONTEXT) VALUES " +
-                    "(?, ?)",
-                jobExecutionId, "{}");
-
-            jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID,TYPE_CD,KEY_NAME,STRING_VAL,DATE_VAL,LONG_VAL,DOUBLE_VAL,IDENTIFYING) VALUES " +
-                    "(?, ?, ?, ?, ?, ?, ?, ?)",
-                jobExecutionId, "STRING", "-spring.cloud.task.executionid", executionId, new Date(), 0, 0, "N");
-
-            jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION (STEP_EXECUTION_ID,VERSION,STEP_NAME,JOB_EXECUTION_ID,START_TIME,END_TIME,STATUS,COMMIT_COUNT,READ_COUNT,FILTER_COUNT,WRITE_COUNT,READ_SKIP_COUNT,WRITE_SKIP_COUNT,PROCESS_SKIP_COUNT,ROLLBACK_COUNT,EXIT_CODE,EXIT_MESSAGE,LAST_UPDATED) VALUES " +
-                    "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
-                stepExecutionId, 3, "job1step1", jobExecutionId, new Date(), new Date(), "COMPLETED", 1, 0, 0, 0, 0, 0, 0, 0, "COMPLETED", "", new Date());
-
-            jdbcTemplate.update("INSERT INTO TASK_TASK_BATCH (TASK_EXECUTION_ID,JOB_EXECUTION_ID) VALUES " +
-                    "(?, ?)",
-                executionId, jobExecutionId);
-
-        }
-    }
-
 	/**
-	 * Removes all task definitions that has a task name that starts with the taskName prefix and their associated task executions.
+	 * Removes all task definitions that has a task name that starts with the taskName prefix and their associated
+	 * task executions, paging through the definitions and deleting the executions in bulk.
 	 * @param taskNamePrefix the prefix to determine if a task definition should be deleted.
 	 * @param dataFlowOperations The dataflowOperations instance used to connect to dataflow.
+	 * @param parallelism The number of task definitions cleaned up concurrently.
+	 * @param pageSize The number of definitions and executions requested, and executions deleted, per request.
+	 * @param purgeDataSource If not null the task and batch rows are purged directly from this database first.
+	 * @param purgeBatchSize The number of task executions purged per transaction.
 	 */
-	public static void cleanup(String taskNamePrefix, DataFlowOperations dataFlowOperations) {
-		List<Task> taskDefinitions = getTaskDefinitionsByPrefix(taskNamePrefix, dataFlowOperations);
-		TaskOperations taskOperations = dataFlowOperations.taskOperations();
-		taskDefinitions.stream().forEach(task -> taskOperations.destroy(task.getTaskName(), true));
+	public static void cleanup(String taskNamePrefix, DataFlowOperations dataFlowOperations, int parallelism,
+			int pageSize, DataSource purgeDataSource, int purgeBatchSize) {
+		new TaskCleaner((DataFlowTemplate) dataFlowOperations, parallelism, pageSize, purgeDataSource, purgeBatchSize)
+				.cleanup(taskNamePrefix);
 	}
 
 	/**
-	 * Creates a incrementer for the DataSource.
+	 * Returns the incrementer for the DataSource, creating it on first use. Incrementers are
+	 * cached per DataSource and incrementer name.
 	 *
 	 * @param dataSource the datasource that the incrementer will use to record current id.
      * @param incrementerName - the name of the incrementer to retrieve.
 	 * @return a DataFieldMaxValueIncrementer object.
 	 */
-	private static DataFieldMaxValueIncrementer getIncrementer(DataSource dataSource, String incrementerName) {
-		DataFieldMaxValueIncrementerFactory incrementerFactory = new DefaultDataFieldMaxValueIncrementerFactory(
-				dataSource);
-		String databaseType = null;
-		try {
-			databaseType = DatabaseType.fromMetaData(dataSource).name();
-		}
-		catch (MetaDataAccessException e) {
-			throw new IllegalStateException(e);
-		}
-		return incrementerFactory.getIncrementer(databaseType, incrementerName);
+	static DataFieldMaxValueIncrementer getIncrementer(DataSource dataSource, String incrementerName) {
+		return incrementers.computeIfAbsent(dataSource, key -> new ConcurrentHashMap<>())
+				.computeIfAbsent(incrementerName, key -> new DefaultDataFieldMaxValueIncrementerFactory(dataSource)
+						.getIncrementer(getDatabaseType(dataSource).name(), incrementerName));
+	}
+
+	/**
+	 * Returns the type of the database, read from the DataSource metadata on first use.
+	 *
+	 * @param dataSource the datasource.
+	 * @return the database type.
+	 */
+	static DatabaseType getDatabaseType(DataSource dataSource) {
+		return databaseTypes.computeIfAbsent(dataSource, key -> {
+			try {
+				return DatabaseType.fromMetaData(dataSource);
+			}
+			catch (MetaDataAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		});
 	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.dataflow.acceptance.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.Task;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.TaskSchedule;
+import org.springframework.cloud.dataflow.rest.client.dsl.task.TaskScheduleBuilder;
+import org.springframework.cloud.dataflow.rest.resource.TaskExecutionResource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scheduler load test, run only if the SCDF Scheduler feature is enabled and the
+ * {@code performance} tag is selected (e.g. {@code -Dgroups=performance}).
+ * <p>
+ * Creates {@code test.schedule-load.count} schedules, measuring the create latency and, every
+ * {@code test.schedule-load.step} schedules, the list latency as the number of schedules
+ * grows. {@code test.schedule-load.fire-count} schedules are then set to fire on the same
+ * minute, far enough ahead for all of them to be created at the last measured create latency,
+ * and the lateness of the resulting task executions against the cron expression is
+ * measured. Finally every schedule is unscheduled, measuring the unschedule latency as the
+ * number of schedules shrinks. The results are logged and written to
+ * {@code target/perf-results/task-schedule-load.csv}.
+ * <p>
+ * It can be run locally against the minikube setup of {@code local-k8s-acceptance-tests.sh},
+ * whose Kubernetes scheduler stands in for the production one, with
+ * {@code EXTRA=-Dgroups=performance ./local-k8s-acceptance-tests.sh}.
+ */
+@ExtendWith(SpringExtension.class)
+@TaskScheduleAT.AssumeSchedulerEnabled
+public class TaskScheduleLoadAT extends CommonTestBase {
+    private static final Logger logger = LoggerFactory.getLogger(TaskScheduleLoadAT.class);
+
+    private final static String DEFAULT_CRON_EXPRESSION = "56 20 ? * *";
+
+    private static final String CSV_HEADER = "operation,schedules,count,p50_ms,p99_ms,max_ms\n";
+
+    @Value("${test.schedule-load.count:1000}")
+    private int scheduleCount;
+
+    @Value("${test.schedule-load.step:100}")
+    private int step;
+
+    @Value("${test.schedule-load.fire-count:20}")
+    private int fireCount;
+
+    /**
+     * The time zone the scheduler evaluates cron expressions in.
+     */
+    @Value("${test.schedule-load.cron-zone:UTC}")
+    private String cronZone;
+
+    private final List<TaskSchedule> schedules = new ArrayList<>();
+
+    private final List<String> results = new ArrayList<>();
+
+    @BeforeEach
+    public void before() {
+        Awaitility.setDefaultPollInterval(Duration.ofSeconds(5));
+        Awaitility.setDefaultTimeout(Duration.ofMinutes(10));
+        registerTimestampTasks();
+    }
+
+    @AfterEach
+    public void after() {
+        for (TaskSchedule schedule : schedules) {
+            try {
+                schedule.unschedule();
+            }
+            catch (Exception e) {
+                logger.warn("Failed to unschedule " + schedule.getScheduleName() + ": " + e.getMessage());
+            }
+        }
+        schedules.clear();
+        dataFlowOperations.taskOperations().destroyAll();
+    }
+
+    @Test
+    @Tag("performance")
+    public void scheduleLoad() throws IOException {
+        logger.info("schedule-load-test:start");
+        TaskScheduleBuilder taskScheduleBuilder = TaskSchedule.builder(dataFlowOperations);
+        String prefix = randomName("load");
+        try (Task task = Task.builder(dataFlowOperations).name(prefix).definition("testtimestamp").build()) {
+            List<Long> createLatencies = new ArrayList<>();
+            double createNanos = 0;
+            for (int i = 0; i < scheduleCount; i++) {
+                TaskSchedule schedule = taskScheduleBuilder.scheduleName(prefix + "-" + i).task(task).build();
+                long start = System.nanoTime();
+                schedule.schedule(DEFAULT_CRON_EXPRESSION, Collections.emptyMap());
+                createLatencies.add(System.nanoTime() - start);
+                schedules.add(schedule);
+                if ((i + 1) % step == 0 || i + 1 == scheduleCount) {
+                    createNanos = createLatencies.stream().mapToLong(Long::longValue).average().orElse(0);
+                    record("create", i + 1, createLatencies);
+                    createLatencies.clear();
+                    record("list", i + 1, timeList(taskScheduleBuilder));
+                }
+            }
+            assertThat(schedules.get(schedules.size() - 1).isScheduled()).isTrue();
+
+            measureFireLateness(taskScheduleBuilder, createNanos);
+
+            List<Long> unscheduleLatencies = new ArrayList<>();
+            while (!schedules.isEmpty()) {
+                TaskSchedule schedule = schedules.remove(schedules.size() - 1);
+                long start = System.nanoTime();
+                schedule.unschedule();
+                unscheduleLatencies.add(System.nanoTime() - start);
+                if (schedules.size() % step == 0) {
+                    record("unschedule", schedules.size() + unscheduleLatencies.size(), unscheduleLatencies);
+                    unscheduleLatencies.clear();
+                }
+            }
+        }
+        writeReport();
+        logger.info("schedule-load-test:end");
+    }
+
+    private void measureFireLateness(TaskScheduleBuilder taskScheduleBuilder, double createNanos) {
+        try (Task task = Task.builder(dataFlowOperations).name(randomName("fire")).definition("testtimestamp").build()) {
+            // twice the time to create the firing schedules at the last create latency, so that none misses the fire time
+            Duration creation = Duration.ofNanos((long) (2 * fireCount * createNanos));
+            ZonedDateTime fireTime = ZonedDateTime.now(ZoneId.of(cronZone)).plus(creation).plusMinutes(2)
+                .truncatedTo(ChronoUnit.MINUTES);
+            String cron = fireTime.getMinute() + " " + fireTime.getHour() + " ? * *";
+            List<TaskSchedule> fireSchedules = new ArrayList<>();
+            try {
+                for (int i = 0; i < fireCount; i++) {
+                    TaskSchedule schedule = taskScheduleBuilder.scheduleName(task.getTaskName() + "-" + i).task(task).build();
+                    schedule.schedule(cron, Collections.emptyMap());
+                    fireSchedules.add(schedule);
+                }
+                ZonedDateTime created = ZonedDateTime.now(ZoneId.of(cronZone));
+                assertThat(created).as("schedules created before their fire time").isBefore(fireTime);
+                logger.info("schedule-load-test:waiting for {} schedules to fire at {} ({})", fireCount, fireTime, cron);
+                Awaitility.await("scheduled executions of " + task.getTaskName())
+                    .atMost(Duration.between(created, fireTime).plusMinutes(10))
+                    .until(() -> task.executions().stream().filter(execution -> execution.getEndTime() != null).count() >= fireCount);
+            }
+            finally {
+                fireSchedules.forEach(TaskSchedule::unschedule);
+            }
+            List<Long> lateness = task.executions().stream()
+                .map(TaskExecutionResource::getStartTime)
+                .filter(startTime -> startTime != null)
+                .map(startTime -> TimeUnit.MILLISECONDS.toNanos(startTime.getTime() - fireTime.toInstant().toEpochMilli()))
+                .collect(Collectors.toList());
+            record("fire-lateness", fireCount, lateness);
+        }
+    }
+
+    private static List<Long> timeList(TaskScheduleBuilder taskScheduleBuilder) {
+        long start = System.nanoTime();
+        taskScheduleBuilder.list();
+        return Collections.singletonList(System.nanoTime() - start);
+    }
+
+    private void record(String operation, int scheduleCount, List<Long> latencies) {
+        if (latencies.isEmpty()) {
+            return;
+        }
+        List<Long> sorted = latencies.stream().sorted().collect(Collectors.toList());
+        String row = String.format("%s,%d,%d,%.1f,%.1f,%.1f", operation, scheduleCount, sorted.size(),
+            millis(sorted, 0.50), millis(sorted, 0.99), sorted.get(sorted.size() - 1) / 1_000_000.0);
+        logger.info("schedule-load-test:{}", row);
+        results.add(row);
+    }
+
+    private static double millis(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index))) / 1_000_000.0;
+    }
+
+    private void writeReport() throws IOException {
+        Path report = Paths.get("target", "perf-results", "task-schedule-load.csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, (CSV_HEADER + String.join("\n", results) + "\n").getBytes(StandardCharsets.UTF_8));
+        logger.info("schedule-load-test:report written to {}", report.toAbsolutePath());
+    }
+
+    private static String randomName(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 10);
+    }
+}